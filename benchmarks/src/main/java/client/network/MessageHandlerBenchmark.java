@@ -0,0 +1,49 @@
+/*
+ * client.network.MessageHandlerBenchmark.java
+ * 클라이언트 MessageHandler.handleMessage의 파싱 + 디스패치 비용
+ * 이벤트 리스너는 등록하지 않음 -> UI 처리 비용은 제외
+ * 단어 이벤트는 GAME_START로 받은 단어 테이블의 ID를 사용
+ */
+
+package client.network;
+
+import client.app.GameClient;
+import common.log.LogConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageHandlerBenchmark {
+    @Param({
+            "WORD_SPAWNED|R1|22|320",
+            "WORD_SPAWNED|R1|23|120|SCORE_BOOST",
+            "WORD_MATCHED|R1|22|alice|1200",
+            "PH_UPDATE|R1|alice|6.40",
+            "ROOM_LIST_RESPONSE|R1,방1,2,4,Java,Easy,alice,false|R2,방2,1,2,Python,Hard,bob,true|R3,방3,3,4,C,Medium,carol,false",
+            "CHAT|alice|안녕하세요 반갑습니다"
+    })
+    public String message;
+
+    private MessageHandler handler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LogConfig.setLevel("", java.util.logging.Level.OFF);
+        handler = new MessageHandler(new GameClient("localhost", 0, "bench"));
+        // 단어 ID를 해석할 수 있도록 게임 시작 메시지(단어 테이블 포함)를 먼저 처리
+        handler.handleMessage("GAME_START|R1|alice;bench|public|class|extends|implements|void|int|boolean|String"
+                + "|final|static|private|protected|abstract|try|catch|throw|import|return|for|while"
+                + "|interface|package|synchronized|volatile|transient");
+    }
+
+    @Benchmark
+    public void handleMessage() {
+        handler.handleMessage(message);
+    }
+}
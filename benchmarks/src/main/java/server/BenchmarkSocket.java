@@ -0,0 +1,54 @@
+/*
+ * server.BenchmarkSocket.java
+ * 벤치마크용 가짜 소켓, 실제 네트워크 없이 ClientHandler를 만들기 위해 사용
+ * 입력은 비어 있고, 출력은 줄 수만 세고 버림 -> 측정 대상은 파싱/디스패치/메시지 조립 비용
+ * sendMessage 한 번이 한 줄이므로 sentMessages()로 이 소켓에 보낸 메시지 수를 확인할 수 있음
+ */
+
+package server;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BenchmarkSocket extends Socket {
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final OutputStream output = new OutputStream() {
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                sentMessages.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    sentMessages.incrementAndGet();
+                }
+            }
+        }
+    };
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return output;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return false;
+    }
+
+    public long sentMessages() {
+        return sentMessages.get();
+    }
+}
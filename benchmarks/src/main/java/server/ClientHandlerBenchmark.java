@@ -0,0 +1,67 @@
+/*
+ * server.ClientHandlerBenchmark.java
+ * ClientHandler.processMessage의 파싱 + 디스패치 비용
+ * 벤치마크 클라이언트는 방 R1의 방장으로 입장해 있고, 게임은 시작하지 않은 상태
+ * - CHAT            : 방 브로드캐스트 (수신자 1명)
+ * - UPDATE_SETTINGS : 설정 변경 + 방 브로드캐스트 + 방 목록 브로드캐스트
+ * - GAME_ACTION     : 게임 중이 아닌 방 -> 오류 응답 경로
+ * - PING            : 가장 짧은 경로
+ * 같은 메시지를 초당 수백만 번 보내므로 연결별 속도 제한은 끄고 디스패치 비용만 측정
+ */
+
+package server;
+
+import common.log.LogConfig;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+import game.model.GameRoom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dacidrain.ratelimit.enabled=false")
+public class ClientHandlerBenchmark {
+    @Param({
+            "CHAT|R1|안녕하세요 반갑습니다",
+            "UPDATE_SETTINGS|R1|MODE|Java",
+            "GAME_ACTION|R1|WORD_INPUT|synchronized",
+            "PING"
+    })
+    public String message;
+
+    private ClientHandler handler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 오류 경로의 경고 로그가 측정에 섞이지 않도록 로그 끔
+        LogConfig.setLevel("", java.util.logging.Level.OFF);
+
+        GameServer server = new GameServer(0);
+        handler = new ClientHandler(new BenchmarkSocket(), server);
+        handler.setUsername("bench");
+
+        GameRoom room = new GameRoom("bench-room", "", GameMode.JAVA, DifficultyLevel.EASY, 4);
+        room.setRoomId("R1");
+        room.setHostName("bench");
+        room.addPlayer("bench");
+        server.getRooms().put("R1", room);
+
+        Set<ClientHandler> players = Collections.synchronizedSet(new HashSet<>());
+        players.add(handler);
+        server.getRoomPlayers().put("R1", players);
+        handler.setCurrentRoomId("R1");
+    }
+
+    @Benchmark
+    public void processMessage() {
+        handler.processMessage(message);
+    }
+}
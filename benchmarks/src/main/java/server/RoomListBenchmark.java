@@ -0,0 +1,68 @@
+/*
+ * server.RoomListBenchmark.java
+ * GameServer의 방 목록 응답 메시지 조립 비용, 방 개수별 측정
+ * - buildRoomListMessage: 전체 목록(ROOM_LIST_RESPONSE), 인자 없는 ROOM_LIST 요청에 캐시가 무효화됐을 때 한 번 만듦
+ * - firstPage/filteredPage/lastFilteredPage: 페이지 응답(ROOM_LIST_PAGE), 방 목록 화면이 요청할 때마다 인덱스에서 조회
+ */
+
+package server;
+
+import common.log.LogConfig;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+import game.model.GameRoom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomListBenchmark {
+    @Param({"10", "1000", "10000"})
+    public int rooms;
+
+    private GameServer server;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LogConfig.setLevel("", java.util.logging.Level.OFF);
+        server = new GameServer(0);
+
+        GameMode[] modes = GameMode.values();
+        DifficultyLevel[] difficulties = DifficultyLevel.values();
+        for (int i = 0; i < rooms; i++) {
+            GameRoom room = new GameRoom("room-" + i, i % 5 == 0 ? "secret" : "",
+                    modes[i % modes.length], difficulties[i % difficulties.length], 4);
+            String roomId = "R" + (i + 1);
+            room.setRoomId(roomId);
+            room.setHostName("host" + i);
+            room.addPlayer("host" + i);
+            server.addRoom(room);
+        }
+    }
+
+    @Benchmark
+    public String buildRoomListMessage() {
+        return server.buildRoomListMessage();
+    }
+
+    @Benchmark
+    public String firstPage() {
+        return server.buildRoomListPage(new RoomIndex.Query(null, 20, null, null, false, false));
+    }
+
+    // 조건 두 개 이상 -> 가장 작은 후보 집합을 훑어 전체 수를 셈
+    @Benchmark
+    public String filteredPage() {
+        return server.buildRoomListPage(new RoomIndex.Query(null, 20, GameMode.JAVA, DifficultyLevel.EASY, false, true));
+    }
+
+    @Benchmark
+    public String lastFilteredPage() {
+        return server.buildRoomListPage(new RoomIndex.Query("R" + Math.max(1, rooms - 100), 20, GameMode.JAVA, null, false, true));
+    }
+}
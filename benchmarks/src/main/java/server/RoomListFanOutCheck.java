@@ -0,0 +1,83 @@
+/*
+ * server.RoomListFanOutCheck.java
+ * ROOM_LIST / USERS_REQUEST 응답이 요청한 클라이언트에게만 가는지 확인 -> RoomListRequestBenchmark의 회귀 검사
+ * 요청 후 다른 클라이언트 소켓에 한 줄이라도 나가면 실패 (접속자 수에 비례하는 브로드캐스트로 되돌아간 경우)
+ * 실행: gradle :benchmarks:roomListFanOutCheck (gradle check에 포함)
+ */
+
+package server;
+
+import client.event.GameEvent.ClientCommand;
+import common.log.LogConfig;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+import game.model.GameRoom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RoomListFanOutCheck {
+    private static final int ROOMS = 50;
+    private static final int[] CLIENT_COUNTS = {10, 1000};
+    private static final String[] REQUESTS = {ClientCommand.ROOM_LIST, ClientCommand.USERS_REQUEST};
+
+    private RoomListFanOutCheck() {
+    }
+
+    public static void main(String[] args) {
+        LogConfig.setLevel("", java.util.logging.Level.OFF);
+        for (int clients : CLIENT_COUNTS) {
+            for (String request : REQUESTS) {
+                check(clients, request);
+            }
+        }
+        System.out.println("ROOM_LIST / USERS_REQUEST 팬아웃 검사 통과");
+    }
+
+    private static void check(int clients, String request) {
+        GameServer server = new GameServer(0);
+
+        GameMode[] modes = GameMode.values();
+        DifficultyLevel[] difficulties = DifficultyLevel.values();
+        for (int i = 0; i < ROOMS; i++) {
+            GameRoom room = new GameRoom("room-" + i, "", modes[i % modes.length],
+                    difficulties[i % difficulties.length], 4);
+            room.setRoomId("R" + (i + 1));
+            room.setHostName("host" + i);
+            room.addPlayer("host" + i);
+            server.addRoom(room);
+        }
+
+        List<BenchmarkSocket> sockets = new ArrayList<>(clients);
+        List<ClientHandler> handlers = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            BenchmarkSocket socket = new BenchmarkSocket();
+            ClientHandler handler = new ClientHandler(socket, server);
+            server.registerClient(handler);
+            server.registerLogin(handler, "user" + i);
+            sockets.add(socket);
+            handlers.add(handler);
+        }
+
+        long[] before = new long[clients];
+        for (int i = 0; i < clients; i++) {
+            before[i] = sockets.get(i).sentMessages();
+        }
+
+        handlers.get(0).processMessage(request);
+
+        long requesterReplies = sockets.get(0).sentMessages() - before[0];
+        if (requesterReplies != 1) {
+            throw new IllegalStateException(request + " (" + clients + "명): 요청한 클라이언트가 받은 응답 " +
+                    requesterReplies + "개, 1개여야 함");
+        }
+        long fanOut = 0;
+        for (int i = 1; i < clients; i++) {
+            fanOut += sockets.get(i).sentMessages() - before[i];
+        }
+        if (fanOut != 0) {
+            throw new IllegalStateException(request + " (" + clients + "명): 다른 클라이언트에게 " +
+                    fanOut + "개 전송됨, 요청한 클라이언트에게만 응답해야 함");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * server.RoomListRequestBenchmark.java
+ * 클라이언트 한 명의 ROOM_LIST / USERS_REQUEST 요청 처리 비용, 접속자 수별 측정
+ * 요청 비용이 접속자 수와 무관해야 함 (요청한 클라이언트에게만 응답) -> 접속자 수에 비례해 늘면 회귀
+ * 방은 50개로 고정, 방 상태는 바뀌지 않으므로 방 목록은 캐시된 스냅샷을 그대로 보냄
+ */
+
+package server;
+
+import common.log.LogConfig;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+import game.model.GameRoom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dacidrain.ratelimit.enabled=false")
+public class RoomListRequestBenchmark {
+    private static final int ROOMS = 50;
+
+    @Param({"10", "1000", "10000"})
+    public int clients;
+
+    private ClientHandler requester;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LogConfig.setLevel("", java.util.logging.Level.OFF);
+        GameServer server = new GameServer(0);
+
+        GameMode[] modes = GameMode.values();
+        DifficultyLevel[] difficulties = DifficultyLevel.values();
+        for (int i = 0; i < ROOMS; i++) {
+            GameRoom room = new GameRoom("room-" + i, "", modes[i % modes.length],
+                    difficulties[i % difficulties.length], 4);
+            String roomId = "R" + (i + 1);
+            room.setRoomId(roomId);
+            room.setHostName("host" + i);
+            room.addPlayer("host" + i);
+            server.addRoom(room);
+        }
+
+        for (int i = 0; i < clients; i++) {
+            ClientHandler handler = new ClientHandler(new BenchmarkSocket(), server);
+            server.registerClient(handler);
+            server.registerLogin(handler, "user" + i);
+            if (i == 0) {
+                requester = handler;
+            }
+        }
+    }
+
+    @Benchmark
+    public void roomList() {
+        requester.processMessage("ROOM_LIST");
+    }
+
+    @Benchmark
+    public void usersRequest() {
+        requester.processMessage("USERS_REQUEST");
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * server.game.LeaderboardBenchmark.java
+ * LeaderboardManager.addEntry / getUserRank 비용, 카테고리별 등록 인원수별 측정
+ * 카테고리당 최대 100명까지만 유지하므로 100이 상한
+ * addEntry는 매번 리더보드 파일을 다시 쓰므로 파일 I/O가 포함됨
+ * (gradle :benchmarks:jmh 는 build/jmh-work 를 작업 디렉터리로 사용)
+ */
+
+package server.game;
+
+import common.log.LogConfig;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+    private static final String LEADERBOARD_DIRECTORY = "resources/leaderboard";
+
+    @Param({"10", "50", "100"})
+    public int entries;
+
+    private LeaderboardManager manager;
+    private int nextUser;
+    private int nextScore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        LogConfig.setLevel("", java.util.logging.Level.OFF);
+
+        // 포크마다 빈 리더보드에서 시작 (싱글턴 생성 전에 이전 실행의 파일 삭제)
+        Path directory = Paths.get(LEADERBOARD_DIRECTORY);
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        manager = LeaderboardManager.getInstance();
+        for (int i = 0; i < entries; i++) {
+            manager.addEntry("user" + i, 500 + i * 10, GameMode.JAVA, DifficultyLevel.EASY);
+        }
+    }
+
+    @Benchmark
+    public boolean addEntry() {
+        // 기존 사용자의 기록 갱신 -> 인원수는 유지됨
+        String user = "user" + (nextUser++ % entries);
+        int score = 500 + (nextScore++ % 2000);
+        return manager.addEntry(user, score, GameMode.JAVA, DifficultyLevel.EASY);
+    }
+
+    @Benchmark
+    public int getUserRank() {
+        return manager.getUserRank("user" + (entries / 2), GameMode.JAVA, DifficultyLevel.EASY);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * server.game.MatchWordBenchmark.java
+ * ServerGameState.matchWord 비용, 화면에 떠 있는 단어 수별 측정
+ * - hit  : 목록의 마지막 단어를 맞힘 (맞힌 뒤 같은 단어를 다시 추가해 상태를 유지)
+ * - miss : 테이블에는 있지만 화면에 없는 단어 -> 전체 순회
+ * 단어 비교는 단어 ID(int) 기준
+ */
+
+package server.game;
+
+import common.log.LogConfig;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+import game.model.GameRoom;
+import game.model.SpecialEffect;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchWordBenchmark {
+    @Param({"10", "100", "1000"})
+    public int activeWords;
+
+    private ServerGameState state;
+    private ServerWord lastWord;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LogConfig.setLevel("", java.util.logging.Level.OFF);
+
+        GameRoom room = new GameRoom("bench-room", "", GameMode.JAVA, DifficultyLevel.EASY, 4);
+        room.setRoomId("R1");
+        room.addPlayer("alice");
+        room.addPlayer("bob");
+        state = new ServerGameState(room);
+        state.start();
+
+        for (int i = 0; i < activeWords; i++) {
+            ServerWord word = new ServerWord(i, "word" + i, i % 700, i, SpecialEffect.NONE);
+            state.addWord(word);
+            lastWord = word;
+        }
+    }
+
+    @Benchmark
+    public ServerWord hit() {
+        ServerWord matched = state.matchWord(lastWord.textId(), "alice");
+        state.addWord(matched);
+        return matched;
+    }
+
+    @Benchmark
+    public ServerWord miss() {
+        return state.matchWord(activeWords, "alice");
+    }
+}
@@ -7,14 +7,18 @@ package client.app;
 
 import client.ui.dialog.LoginDialog;
 import client.ui.MainMenu;
+import common.log.Log;
+import common.log.LogConfig;
+
 import javax.swing.*;
-import java.util.logging.Logger;
 
 public class ClientMain {
     // for Debugging XD -> 디버깅용으로 로거 사용, 오버헤드 등으로 인해 문제가 생긴다면 지우기.
-    private static final Logger logger = Logger.getLogger(ClientMain.class.getName());
+    private static final Log logger = Log.get(ClientMain.class);
 
     public static void main(String[] args) {
+        LogConfig.install();
+
         // 시스템 룩앤필 설정
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
@@ -42,7 +46,6 @@ public class ClientMain {
                     );
 
                     MainMenu mainMenu = new MainMenu(client);
-                    client.setEventListener(mainMenu);
 
                     client.connect();
 
@@ -7,31 +7,62 @@
 
 package client.app;
 
+import client.event.EventBus;
 import client.event.GameEvent.*;
 import client.event.GameEventListener;
 import client.network.MessageHandler;
+import client.network.MessageSender;
 
+import common.log.Log;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
 import game.model.GameRoom;
+import game.model.WordTable;
 
 import java.io.*;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.*;
-import java.util.logging.Logger;
 
 public class GameClient implements AutoCloseable {
-    private static final Logger logger = Logger.getLogger(GameClient.class.getName());
+    private static final Log logger = Log.get(GameClient.class);
+    // 로그아웃 시 남은 메시지를 보내며 기다릴 최대 시간
+    private static final long DISCONNECT_FLUSH_TIMEOUT_MS = 500;
+    // 재연결 백오프: 첫 대기 시간부터 두 배씩, 최대 대기 시간까지 (서버가 알려준 유예 시간 안에서만 시도)
+    private static final long RECONNECT_INITIAL_DELAY_MS = 250;
+    private static final long RECONNECT_MAX_DELAY_MS = 4000;
+    // 서버에 닿지 않을 때 연결 시도를 포기할 시간 (OS 기본값은 수십 초 이상)
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+    // 서버에서 이 시간 동안 아무것도 받지 못하면 PING, timeout이 지나면 연결이 끊긴 것으로 봄 (서버와 같은 속성 사용)
+    private static final long HEARTBEAT_INTERVAL_MS = TimeUnit.SECONDS.toMillis(
+            Math.max(1, Integer.getInteger("acidrain.heartbeat.intervalSeconds", 15)));
+    private static final long HEARTBEAT_TIMEOUT_MS = Math.max(HEARTBEAT_INTERVAL_MS + 1000, TimeUnit.SECONDS.toMillis(
+            Integer.getInteger("acidrain.heartbeat.timeoutSeconds", 45)));
     private Socket socket;
     private BufferedReader reader;
-    private PrintWriter writer;
+    private MessageSender sender;
     private final MessageHandler messageHandler;
-    private GameEventListener eventListener;
+    private final EventBus eventBus = new EventBus();
     private final String username;
-    private final ExecutorService executorService;
+    private ExecutorService executorService;
+    private ScheduledExecutorService heartbeatTimer;
+    // 서버로부터 마지막으로 메시지를 받은 시각
+    private volatile long lastReceivedNanos;
     private volatile boolean isRunning;
+    // 서버가 로그인 후 발급한 재연결 토큰과 유예 시간 (SESSION 수신 시 설정)
+    private volatile String sessionToken;
+    private volatile int sessionGraceSeconds;
+    // 연결마다 증가 -> 이전 연결의 수신/전송 스레드가 늦게 실패를 알려도 새 연결을 끊지 않음
+    private int connectionGeneration;
+    // disconnect() 이후에는 재연결하지 않음
+    private volatile boolean closed;
+    private Thread reconnectThread;
     private final String host;
     private final int port;
     private GameRoom currentRoom;
+    // 현재 게임의 단어 테이블 (GAME_START 수신 시 갱신)
+    private volatile WordTable wordTable;
 
     /**
      * 게임 클라이언트의 초기화
@@ -45,28 +76,32 @@ public class GameClient implements AutoCloseable {
         this.port = port;
         this.username = username;
         this.messageHandler = new MessageHandler(this);
-        this.executorService = Executors.newSingleThreadExecutor();
         this.isRunning = false;
+
+        // 최신 값만 의미 있는 이벤트 -> 화면이 처리하기 전에 여러 번 오면 마지막 값만 전달
+        eventBus.coalesce(ClientEvent.PH_UPDATE, data -> data[0]);
+        eventBus.coalesce(ClientEvent.USERS_UPDATED, data -> "");
+        eventBus.coalesce(ClientEvent.ROOM_LIST_UPDATED, data -> "");
+        eventBus.coalesce(ClientEvent.ROOM_LIST_CHANGED, data -> "");
     }
 
     /**
      * 서버와의 연결을 초기화하고 메시지 수신을 시작
      * @throws IOException 서버 연결 실패 또는 스트림 초기화 실패 시 예외 발생
      */
-    public void connect() throws IOException {
+    public synchronized void connect() throws IOException {
         if (isRunning) {
             logger.warning("이미 연결되어 있습니다.");
             return;
         }
 
+        closed = false;
         try {
-            socket = new Socket(host, port);
-            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
-            writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+            openConnection(connectSocket());
 
             isRunning = true;
+            // 방 목록은 방 목록 화면이 열릴 때 필요한 페이지만 요청함
             sendMessage(ClientCommand.LOGIN + "|" + username);
-            sendMessage(ClientCommand.ROOM_LIST);
             startMessageReceiver();
 
             logger.info("서버에 연결되었습니다: " + host + ":" + port);
@@ -76,36 +111,89 @@ public class GameClient implements AutoCloseable {
         }
     }
 
+    // 서버에 연결된 소켓을 만듦 -> 재연결에서는 락 밖에서 호출 (연결 대기 중에도 EDT의 disconnect()가 막히지 않음)
+    private Socket connectSocket() throws IOException {
+        Socket newSocket = new Socket();
+        try {
+            newSocket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+        } catch (IOException e) {
+            newSocket.close();
+            throw e;
+        }
+        return newSocket;
+    }
+
+    // 연결된 소켓으로 수신/전송 스트림을 새로 염 (처음 연결, 재연결 공통)
+    private void openConnection(Socket connected) throws IOException {
+        socket = connected;
+        reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        int generation = ++connectionGeneration;
+        sender = new MessageSender(socket.getOutputStream(), () -> handleConnectionLost(generation));
+        sender.start();
+        executorService = Executors.newSingleThreadExecutor();
+
+        lastReceivedNanos = System.nanoTime();
+        heartbeatTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "client-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatTimer.scheduleAtFixedRate(() -> checkHeartbeat(generation),
+                HEARTBEAT_INTERVAL_MS / 2, HEARTBEAT_INTERVAL_MS / 2, TimeUnit.MILLISECONDS);
+    }
+
+    // half-open 연결(서버가 죽었는데 소켓은 열려 있는 상태)을 감지 -> 끊김으로 처리하면 세션이 있을 때 재연결
+    private void checkHeartbeat(int generation) {
+        long idleMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastReceivedNanos);
+        if (idleMs >= HEARTBEAT_TIMEOUT_MS) {
+            logger.warning("서버 응답이 " + idleMs + "ms 동안 없습니다.");
+            handleConnectionLost(generation);
+        } else if (idleMs >= HEARTBEAT_INTERVAL_MS && isRunning) {
+            sendMessage(ClientCommand.PING);
+        }
+    }
+
     /*
      * 메시지 수신 작업을 시작
      * 별도의 스레드에서 서버로부터 지속적으로 메시지를 읽어 처리
      */
     private void startMessageReceiver() {
+        BufferedReader in = reader;
+        int generation = connectionGeneration;
         executorService.submit(() -> {
             try {
                 String message;
-                while (isRunning && (message = reader.readLine()) != null) {
+                while (isRunning && (message = in.readLine()) != null) {
+                    lastReceivedNanos = System.nanoTime();
                     messageHandler.handleMessage(message);
                 }
+                // 서버가 소켓을 닫은 경우(readLine == null) -> 세션이 있으면 재연결 시도
+                if (sessionToken != null) {
+                    handleConnectionLost(generation);
+                }
             } catch (IOException e) {
                 if (isRunning) {
                     logger.severe("메시지 수신 중 오류 발생: " + e.getMessage());
-                    handleConnectionLost();
+                    handleConnectionLost(generation);
                 }
             }
         });
     }
 
     /**
-     * 서버에 지정된 메시지를 전송
+     * 서버에 지정된 메시지를 전송 -> 전송 스레드의 큐에 넣고 바로 반환
      * @param message 서버로 보낼 메시지
      */
     public void sendMessage(String message) {
-        if (writer != null && isConnected()) {
-            writer.println(message);
-            logger.info("메시지 전송: " + message);
+        enqueue(message, false);
+    }
+
+    private void enqueue(String message, boolean urgent) {
+        MessageSender current = sender;
+        if (current != null && isConnected()) {
+            current.send(message, urgent);
         } else {
-            logger.warning("메시지 전송 실패 (연결 없음): " + message);
+            logger.warning(() -> "메시지 전송 실패 (연결 없음): " + message);
         }
     }
 
@@ -113,6 +201,32 @@ public class GameClient implements AutoCloseable {
         sendMessage(ClientCommand.PLAYER_LIST + "|" + roomId);
     }
 
+    /**
+     * 방 목록 한 페이지 요청 -> 응답은 ROOM_LIST_PAGE 이벤트로 전달
+     *
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param mode 모드 필터 (null이면 전체)
+     * @param difficulty 난이도 필터 (null이면 전체)
+     * @param joinableOnly 빈자리가 있고 게임 중이 아닌 방만
+     * @param publicOnly 비밀번호 없는 방만
+     */
+    public void sendRoomListPageRequest(String cursor, int pageSize, GameMode mode, DifficultyLevel difficulty,
+                                        boolean joinableOnly, boolean publicOnly) {
+        sendMessage(ClientCommand.ROOM_LIST + "|" + (cursor != null ? cursor : "") + "|" + pageSize + "|" +
+                (mode != null ? mode.name() : "") + "|" +
+                (difficulty != null ? difficulty.name() : "") + "|" +
+                joinableOnly + "|" + publicOnly);
+    }
+
+    // 빠른 대전 대기 요청 -> MATCH_QUEUED, 매칭되면 GAME_STARTED 이벤트
+    public void sendQuickMatchRequest(GameMode mode, DifficultyLevel difficulty) {
+        sendMessage(ClientCommand.QUICK_MATCH + "|" + mode.name() + "|" + difficulty.name());
+    }
+
+    public void sendQuickMatchCancel() {
+        sendMessage(ClientCommand.QUICK_MATCH_CANCEL);
+    }
+
     /**
      * 새로운 게임 방을 생성하도록 서버에 요청합니다.
      * @param room 생성할 게임 방의 정보를 포함한 객체
@@ -186,7 +300,8 @@ public class GameClient implements AutoCloseable {
         for (String param : params) {
             message.append("|").append(param);
         }
-        sendMessage(message.toString());
+        // 게임 입력은 로비 요청보다 먼저 보냄
+        enqueue(message.toString(), true);
     }
 /*
  * Deprecated xD
@@ -215,34 +330,118 @@ public class GameClient implements AutoCloseable {
 //    }
 
     /**
-     * 이벤트 처리
+     * 이벤트 발행 -> 구독 중인 화면들에게 EDT에서 전달됨
      * @param eventType
      * @param data
      */
     public void handleEvent(String eventType, Object... data) {
-        if (eventListener != null) {
-            try {
-                eventListener.onGameEvent(eventType, data);
-            } catch (Exception e) {
-                logger.severe("이벤트 처리 중 오류 발생: " + e.getMessage());
-                e.printStackTrace();
-            }
-        }
+        eventBus.publish(eventType, data);
     }
 
     /*
      * 서버와의 연결이 끊어졌을 때 호출
-     * 클라이언트의 상태를 초기화하고 이벤트를 발생
+     * 세션 토큰이 있으면 화면은 그대로 두고 백그라운드에서 재연결, 없으면 CONNECTION_LOST 이벤트 발생
      */
-    private void handleConnectionLost() {
-        if (!isRunning) {
+    private synchronized void handleConnectionLost() {
+        handleConnectionLost(connectionGeneration);
+    }
+
+    private synchronized void handleConnectionLost(int generation) {
+        if (!isRunning || generation != connectionGeneration) {
             return;
         }
 
         isRunning = false;
-        logger.warning("서버와의 연결이 끊어졌습니다.");
-        handleEvent("CONNECTION_LOST");
         cleanup();
+        String token = sessionToken;
+        if (token != null && !closed) {
+            logger.warning("서버와의 연결이 끊어졌습니다. 재연결을 시도합니다.");
+            reconnectThread = new Thread(() -> reconnect(token), "client-reconnect");
+            reconnectThread.setDaemon(true);
+            reconnectThread.start();
+        } else {
+            logger.warning("서버와의 연결이 끊어졌습니다.");
+            notifyConnectionLost();
+        }
+    }
+
+    // 유예 시간 안에서 지수 백오프로 재연결 -> 연결되면 LOGIN/ROOM_LIST 대신 RESUME 하나만 보냄
+    private void reconnect(String token) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(sessionGraceSeconds);
+        long delayMs = RECONNECT_INITIAL_DELAY_MS;
+        int attempt = 0;
+        while (!closed && System.nanoTime() < deadline) {
+            try {
+                // 서버 재시작 등으로 여러 클라이언트가 동시에 붙지 않도록 약간의 지터를 더함
+                Thread.sleep(delayMs + ThreadLocalRandom.current().nextLong(delayMs / 4 + 1));
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            attempt++;
+            Socket connected;
+            try {
+                connected = connectSocket();
+            } catch (IOException e) {
+                int attempts = attempt;
+                logger.fine(() -> "재연결 실패 (시도 " + attempts + "회): " + e.getMessage());
+                delayMs = Math.min(delayMs * 2, RECONNECT_MAX_DELAY_MS);
+                continue;
+            }
+
+            synchronized (this) {
+                // 연결하는 동안 disconnect()로 취소됨
+                if (closed) {
+                    closeQuietly(connected);
+                    return;
+                }
+                try {
+                    openConnection(connected);
+                    isRunning = true;
+                    sender.send(ClientCommand.RESUME + "|" + token, true);
+                    startMessageReceiver();
+                    int attempts = attempt;
+                    logger.info(() -> "서버에 다시 연결되었습니다 (시도 " + attempts + "회), 세션 복구 요청");
+                    return;
+                } catch (IOException e) {
+                    cleanup();
+                    int attempts = attempt;
+                    logger.fine(() -> "재연결 실패 (시도 " + attempts + "회): " + e.getMessage());
+                }
+            }
+            delayMs = Math.min(delayMs * 2, RECONNECT_MAX_DELAY_MS);
+        }
+
+        if (!closed) {
+            logger.warning("유예 시간 안에 재연결하지 못했습니다.");
+            sessionToken = null;
+            notifyConnectionLost();
+        }
+    }
+
+    private static void closeQuietly(Socket target) {
+        try {
+            target.close();
+        } catch (IOException e) {
+            logger.fine(() -> "소켓 닫기 실패: " + e.getMessage());
+        }
+    }
+
+    // 서버가 세션 복구를 거절함 (유예 시간 만료 등) -> 일반 연결 끊김과 같이 처리
+    public synchronized void handleResumeFailed(String reason) {
+        logger.warning("세션 복구 실패: " + reason);
+        sessionToken = null;
+        if (!isRunning) {
+            return;
+        }
+        isRunning = false;
+        cleanup();
+        notifyConnectionLost();
+    }
+
+    private void notifyConnectionLost() {
+        currentRoom = null;
+        handleEvent("CONNECTION_LOST");
     }
 
     // 리소스 정리 메서드 -> 연결 종료 시, 사용 중인 버퍼와 소켓을 닫음
@@ -252,9 +451,10 @@ public class GameClient implements AutoCloseable {
                 reader.close();
                 reader = null;
             }
-            if (writer != null) {
-                writer.close();
-                writer = null;
+            if (sender != null) {
+                // 정상 종료가 아니면 남은 메시지는 버림 (소켓을 닫으면 전송 스레드도 끝남)
+                sender.close(0, TimeUnit.MILLISECONDS);
+                sender = null;
             }
             if (socket != null) {
                 socket.close();
@@ -264,31 +464,41 @@ public class GameClient implements AutoCloseable {
             logger.severe("리소스 정리 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
         } finally {
-            if (!executorService.isShutdown()) {
+            if (executorService != null && !executorService.isShutdown()) {
                 executorService.shutdownNow();
             }
-            eventListener = null;
-            currentRoom = null;
+            if (heartbeatTimer != null) {
+                heartbeatTimer.shutdownNow();
+                heartbeatTimer = null;
+            }
         }
     }
 
     // 연결 종료 메서드
-    public void disconnect() {
+    public synchronized void disconnect() {
+        closed = true;
+        sessionToken = null;
+        if (reconnectThread != null) {
+            reconnectThread.interrupt();
+            reconnectThread = null;
+        }
         if (!isRunning) {
             return;
         }
 
         isRunning = false;
+        MessageSender current = sender;
         try {
-            if (isConnected()) {
-                sendMessage(ClientCommand.LOGOUT);
-                Thread.sleep(100); // 메시지 전송 대기 -> 서버에서 메시지를 처리할 충분한 시간 확보 자원 관리를 위해 필수
+            if (current != null && socket != null && !socket.isClosed()) {
+                current.send(ClientCommand.LOGOUT, false);
+                // 큐에 남은 메시지와 LOGOUT을 모두 보낸 뒤 소켓을 닫음
+                if (!current.close(DISCONNECT_FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    logger.warning("로그아웃 전 메시지를 모두 보내지 못했습니다.");
+                }
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warning("로그아웃 메시지 전송 중 인터럽트 발생");
         } finally {
             cleanup();
+            currentRoom = null;
         }
     }
 
@@ -298,16 +508,12 @@ public class GameClient implements AutoCloseable {
     }
 
     /**
-     * 이벤트 리스너 설정 -> 이벤트 리스너 인터페이스 구현체로 설정
-     * @param listener
+     * 이벤트 구독 -> 화면을 떠날 때 반환된 Subscription을 닫아야 함
+     * @param listener 이벤트를 받을 화면 (EDT에서 호출됨)
+     * @param eventTypes 받을 이벤트 타입, 비어 있으면 모든 이벤트
      */
-    public void setEventListener(GameEventListener listener) {
-        this.eventListener = listener;
-        logger.info("이벤트 리스너 설정됨: " + (listener != null ? listener.getClass().getSimpleName() : "null"));
-    }
-
-    public GameEventListener getEventListener() {
-        return eventListener;
+    public EventBus.Subscription subscribe(GameEventListener listener, String... eventTypes) {
+        return eventTypes.length == 0 ? eventBus.subscribe(listener) : eventBus.subscribe(listener, eventTypes);
     }
 
     public String getUsername() {
@@ -325,4 +531,18 @@ public class GameClient implements AutoCloseable {
     public void setCurrentRoom(GameRoom room) {
         this.currentRoom = room;
     }
+
+    // SESSION|토큰|유예시간 수신 시 호출
+    public void setSession(String token, int graceSeconds) {
+        this.sessionToken = token;
+        this.sessionGraceSeconds = graceSeconds;
+    }
+
+    public WordTable getWordTable() {
+        return wordTable;
+    }
+
+    public void setWordTable(WordTable wordTable) {
+        this.wordTable = wordTable;
+    }
 }
@@ -0,0 +1,330 @@
+/*
+ * client.bot.BotClient.java
+ * 화면 없이 프로토콜만 사용하는 가상 플레이어
+ * 로그인 -> 방 생성(방장) 또는 입장 -> 게임 시작 -> 단어 입력/놓침 처리를 실제 클라이언트와 같은 메시지로 수행
+ *
+ * 타자 모델:
+ * - 봇마다 WPM을 정규분포에서 하나 뽑아 고정 (1단어 = 5글자 기준)
+ * - 한 번에 한 단어씩 순서대로 입력 -> 앞 단어를 치는 동안 새 단어는 뒤에 대기
+ * - accuracy 확률로 한 번에 맞게 입력, 아니면 오타를 먼저 보내고 같은 시간을 들여 다시 입력
+ * - fallMillis 안에 아무도 못 친 단어는 실제 클라이언트처럼 WORD_MISSED를 보냄
+ */
+
+package client.bot;
+
+import client.event.GameEvent.ClientCommand;
+import client.event.GameEvent.ServerMessage;
+import game.model.WordTable;
+
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class BotClient implements Runnable {
+    private static final long RESTART_DELAY_MS = 2000;
+    private static final double MIN_WPM = 10;
+
+    private final String username;
+    private final BotRoomGroup group;
+    private final boolean host;
+    private final BotConfig config;
+    private final BotStats stats;
+    private final ScheduledExecutorService scheduler;
+    private final double nanosPerChar;
+    private final Random random;
+
+    // 화면에 떠 있는 단어 (수신 스레드와 입력 타이머가 함께 접근)
+    private final Set<String> activeWords = ConcurrentHashMap.newKeySet();
+    // 입력을 보낸 단어 -> 전송 시각, WORD_MATCHED 수신 시 지연 계산에 사용
+    private final Map<String, Long> pendingInputs = new ConcurrentHashMap<>();
+
+    private Socket socket;
+    private BufferedReader in;
+    private Writer out;
+    private volatile String roomId;
+    // GAME_START로 받은 단어 테이블 -> 단어 ID를 실제 입력할 문자열로 바꿀 때 사용
+    private volatile WordTable wordTable;
+    private volatile boolean inGame;
+    private volatile boolean stopping;
+    private volatile boolean startRequested;
+    // 다음 단어를 칠 수 있는 시각 (수신 스레드에서만 갱신)
+    private long typingFreeAtNanos;
+    // 이번 게임에서 받은 WORD_SPAWNED 순번 (수신 스레드에서만 갱신) -> 같은 방 봇끼리 같은 단어 인스턴스를 구분
+    private long spawnIndex;
+
+    BotClient(String username, BotRoomGroup group, boolean host, BotConfig config,
+              BotStats stats, ScheduledExecutorService scheduler, long seed) {
+        this.username = username;
+        this.group = group;
+        this.host = host;
+        this.config = config;
+        this.stats = stats;
+        this.scheduler = scheduler;
+        this.random = new Random(seed);
+
+        double wpm = Math.max(MIN_WPM, config.wpmMean + random.nextGaussian() * config.wpmStddev);
+        this.nanosPerChar = TimeUnit.MINUTES.toNanos(1) / (wpm * 5);
+    }
+
+    void connect(String host, int port) throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void run() {
+        try {
+            send(ClientCommand.LOGIN + "|" + username);
+            if (host) {
+                send(String.format(ClientCommand.CREATE_ROOM + "|%s|%s|%s|%s|%d",
+                        "bot-" + username, "", config.mode, config.difficulty, Math.max(2, group.size())));
+            } else {
+                // 방장이 방을 만들 때까지 기다렸다가 입장 (수신 스레드를 막지 않도록 콜백으로 처리)
+                group.roomId().thenAccept(id -> send(ClientCommand.JOIN_ROOM + "|" + id));
+            }
+
+            String message;
+            while ((message = in.readLine()) != null) {
+                stats.messagesReceived.increment();
+                handleMessage(message);
+            }
+        } catch (IOException e) {
+            // 종료 중에 소켓을 닫은 경우는 정상
+        } finally {
+            if (!stopping) {
+                stats.disconnected.increment();
+            }
+            closeQuietly();
+        }
+    }
+
+    private void handleMessage(String message) {
+        String[] parts = message.split("\\|", -1);
+        switch (parts[0]) {
+            case ServerMessage.CREATE_ROOM_RESPONSE -> handleCreateRoomResponse(parts);
+            case ServerMessage.JOIN_ROOM_RESPONSE -> handleJoinRoomResponse(parts);
+            case ServerMessage.PLAYER_UPDATE -> handlePlayerUpdate(parts);
+            case ServerMessage.GAME_START -> handleGameStart(parts);
+            case ServerMessage.WORD_SPAWNED -> handleWordSpawned(parts);
+            case ServerMessage.WORD_MATCHED -> handleWordMatched(parts);
+            case ServerMessage.WORD_MISSED -> {
+                String word = parts.length >= 3 ? resolveWord(parts[2]) : null;
+                if (word != null) {
+                    activeWords.remove(word);
+                }
+            }
+            case ServerMessage.GAME_OVER -> handleGameOver();
+            case ServerMessage.ERROR -> stats.errorsReceived.increment();
+            case ServerMessage.PING -> send(ClientCommand.PONG);
+            default -> {
+                // 방 목록, 유저 수, 채팅, pH 등은 부하만 받고 무시
+            }
+        }
+    }
+
+    private void handleCreateRoomResponse(String[] parts) {
+        if (parts.length >= 2 && "true".equals(parts[1])) {
+            // CREATE_ROOM_RESPONSE|true|메시지|방정보|방ID -> 방 ID는 항상 마지막 필드
+            roomId = parts[parts.length - 1];
+            group.roomId().complete(roomId);
+        } else {
+            stats.errorsReceived.increment();
+            group.roomId().completeExceptionally(new IllegalStateException("방 생성 실패: " + String.join("|", parts)));
+        }
+    }
+
+    private void handleJoinRoomResponse(String[] parts) {
+        if (parts.length >= 2 && "true".equals(parts[1])) {
+            roomId = group.roomId().join();
+        } else {
+            stats.errorsReceived.increment();
+        }
+    }
+
+    // PLAYER_UPDATE|방ID|인원|목록 -> 방장은 인원이 다 차면 게임 시작 요청
+    private void handlePlayerUpdate(String[] parts) {
+        if (!host || startRequested || inGame || parts.length < 3) {
+            return;
+        }
+        try {
+            if (Integer.parseInt(parts[2]) >= group.size()) {
+                requestStart();
+            }
+        } catch (NumberFormatException e) {
+            stats.errorsReceived.increment();
+        }
+    }
+
+    private void requestStart() {
+        if (stopping || roomId == null) {
+            return;
+        }
+        startRequested = true;
+        send(ClientCommand.START_GAME + "|" + roomId);
+    }
+
+    // GAME_START|방ID|참가자목록|단어 테이블...
+    private void handleGameStart(String[] parts) {
+        wordTable = WordTable.decode(parts, 3);
+        inGame = true;
+        activeWords.clear();
+        pendingInputs.clear();
+        typingFreeAtNanos = System.nanoTime();
+        spawnIndex = 0;
+        if (host) {
+            stats.gamesStarted.increment();
+        }
+    }
+
+    // WORD_SPAWNED|방ID|단어ID|x[|효과]
+    private void handleWordSpawned(String[] parts) {
+        long receivedNanos = System.nanoTime();
+        String word = parts.length >= 4 ? resolveWord(parts[2]) : null;
+        if (word == null) {
+            return;
+        }
+        stats.spawnsReceived.increment();
+        activeWords.add(word);
+        // 방 브로드캐스트는 모든 플레이어에게 같은 순서로 가므로 (단어ID, 순번)이 같으면 같은 단어 인스턴스
+        long skew = group.recordSpawn(parts[2] + "#" + spawnIndex++, receivedNanos);
+        if (skew >= 0) {
+            stats.fanoutSkew.recordNanos(skew);
+        }
+
+        long typingNanos = (long) (word.length() * nanosPerChar);
+        boolean typo = random.nextDouble() >= config.accuracy;
+        long startAt = Math.max(receivedNanos, typingFreeAtNanos);
+        long finishAt = startAt + typingNanos * (typo ? 2 : 1);
+        typingFreeAtNanos = finishAt;
+
+        if (typo) {
+            schedule(() -> sendTypo(word), startAt + typingNanos - receivedNanos);
+        }
+        schedule(() -> sendInput(word), finishAt - receivedNanos);
+        schedule(() -> sendMissed(word), TimeUnit.MILLISECONDS.toNanos(config.fallMillis));
+    }
+
+    private void sendTypo(String word) {
+        if (!inGame || !activeWords.contains(word)) {
+            return;
+        }
+        stats.typosSent.increment();
+        send(ClientCommand.GAME_ACTION + "|" + roomId + "|" + ClientCommand.WORD_INPUT + "|" + word + "x");
+    }
+
+    private void sendInput(String word) {
+        if (!inGame || !activeWords.contains(word)) {
+            return;
+        }
+        pendingInputs.put(word, System.nanoTime());
+        stats.inputsSent.increment();
+        send(ClientCommand.GAME_ACTION + "|" + roomId + "|" + ClientCommand.WORD_INPUT + "|" + word);
+    }
+
+    private void sendMissed(String word) {
+        if (!inGame || !activeWords.remove(word)) {
+            return;
+        }
+        pendingInputs.remove(word);
+        stats.missesSent.increment();
+        send(ClientCommand.GAME_ACTION + "|" + roomId + "|" + ServerMessage.WORD_MISSED + "|" + wordTable.idOf(word));
+    }
+
+    // WORD_MATCHED|방ID|단어ID|플레이어|점수
+    private void handleWordMatched(String[] parts) {
+        long receivedNanos = System.nanoTime();
+        String word = parts.length >= 4 ? resolveWord(parts[2]) : null;
+        if (word == null) {
+            return;
+        }
+        activeWords.remove(word);
+        Long sentNanos = pendingInputs.remove(word);
+        if (sentNanos == null) {
+            return;
+        }
+        if (username.equals(parts[3])) {
+            stats.wordsWon.increment();
+            stats.inputToMatched.recordNanos(receivedNanos - sentNanos);
+        } else {
+            // 같은 단어를 다른 봇이 먼저 친 경우
+            stats.wordsLost.increment();
+        }
+    }
+
+    private String resolveWord(String wordId) {
+        WordTable table = wordTable;
+        if (table == null) {
+            return null;
+        }
+        try {
+            return table.textOf(Integer.parseInt(wordId));
+        } catch (NumberFormatException e) {
+            stats.errorsReceived.increment();
+            return null;
+        }
+    }
+
+    private void handleGameOver() {
+        inGame = false;
+        startRequested = false;
+        activeWords.clear();
+        pendingInputs.clear();
+        if (host) {
+            stats.gamesOver.increment();
+            group.clearSpawns();
+            schedule(this::requestStartIfIdle, TimeUnit.MILLISECONDS.toNanos(RESTART_DELAY_MS));
+        }
+    }
+
+    private void requestStartIfIdle() {
+        if (!inGame && !startRequested) {
+            requestStart();
+        }
+    }
+
+    private void schedule(Runnable task, long delayNanos) {
+        if (stopping) {
+            return;
+        }
+        scheduler.schedule(task, Math.max(0, delayNanos), TimeUnit.NANOSECONDS);
+    }
+
+    private void send(String message) {
+        Writer writer = out;
+        if (writer == null || stopping && !message.startsWith(ClientCommand.LOGOUT)) {
+            return;
+        }
+        synchronized (writer) {
+            try {
+                writer.write(message);
+                writer.write('\n');
+                writer.flush();
+            } catch (IOException e) {
+                closeQuietly();
+            }
+        }
+    }
+
+    void stop() {
+        stopping = true;
+        send(ClientCommand.LOGOUT);
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * client.bot.BotConfig.java
+ * 부하 테스트 봇 설정값, 모두 시스템 프로퍼티로 지정
+ *
+ *   -Dacidrain.bot.count=1000         봇(가상 플레이어) 수
+ *   -Dacidrain.bot.roomSize=2         방 하나당 인원 (2~4)
+ *   -Dacidrain.bot.rampPerSecond=100  초당 접속 봇 수
+ *   -Dacidrain.bot.durationSeconds=60 테스트 시간
+ *   -Dacidrain.bot.wpmMean=60         봇별 타자 속도(WPM) 평균
+ *   -Dacidrain.bot.wpmStddev=15       봇별 타자 속도 표준편차
+ *   -Dacidrain.bot.accuracy=0.95      한 번에 맞게 입력할 확률 (틀리면 오타를 보내고 다시 입력)
+ *   -Dacidrain.bot.fallMillis=5000    단어가 화면 바닥에 닿는 시간 -> 이때까지 못 치면 WORD_MISSED 전송
+ *   -Dacidrain.bot.mode=Java          게임 모드 (표시 이름)
+ *   -Dacidrain.bot.difficulty=Easy    난이도 (표시 이름)
+ *   -Dacidrain.bot.reportSeconds=5    중간 보고 주기
+ *   -Dacidrain.bot.spectatorsPerRoom=0 방마다 붙일 관전 봇 수 (봇 수와 별도)
+ */
+
+package client.bot;
+
+public final class BotConfig {
+    private static final String PREFIX = "acidrain.bot.";
+
+    final int botCount = Integer.getInteger(PREFIX + "count", 1000);
+    final int roomSize = Math.max(2, Math.min(4, Integer.getInteger(PREFIX + "roomSize", 2)));
+    final int rampPerSecond = Math.max(1, Integer.getInteger(PREFIX + "rampPerSecond", 100));
+    final int durationSeconds = Integer.getInteger(PREFIX + "durationSeconds", 60);
+    final double wpmMean = doubleProperty("wpmMean", 60);
+    final double wpmStddev = doubleProperty("wpmStddev", 15);
+    final double accuracy = doubleProperty("accuracy", 0.95);
+    final long fallMillis = Long.getLong(PREFIX + "fallMillis", 5000);
+    final String mode = System.getProperty(PREFIX + "mode", "Java");
+    final String difficulty = System.getProperty(PREFIX + "difficulty", "Easy");
+    final int reportSeconds = Math.max(1, Integer.getInteger(PREFIX + "reportSeconds", 5));
+    final int spectatorsPerRoom = Math.max(0, Integer.getInteger(PREFIX + "spectatorsPerRoom", 0));
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            System.err.println("잘못된 설정값입니다 (" + PREFIX + name + "): " + value);
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("bots=%d, roomSize=%d, spectators=%d/room, ramp=%d/s, duration=%ds, wpm=%.0f±%.0f, accuracy=%.2f, fall=%dms, %s/%s",
+                botCount, roomSize, spectatorsPerRoom, rampPerSecond, durationSeconds, wpmMean, wpmStddev, accuracy,
+                fallMillis, mode, difficulty);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * client.bot.BotMain.java
+ * 헤드리스 부하 테스트 도구 진입점
+ * 설정한 수만큼 봇을 방 단위로 묶어 접속시키고, 주기적으로 처리량과 지연 백분위를 출력함
+ *
+ * 사용 예:
+ *   java -Dacidrain.bot.count=2000 -Dacidrain.bot.roomSize=4 -cp out client.bot.BotMain localhost 12345
+ *   관전 부하: -Dacidrain.bot.spectatorsPerRoom=500 -> 방마다 관전 봇이 방장이 만든 방을 관전
+ * 설정 항목은 BotConfig 참고
+ */
+
+package client.bot;
+
+import client.config.GameConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BotMain {
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = GameConfig.DEFAULT_PORT;
+        if (args.length > 1) {
+            try {
+                port = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("잘못된 포트 번호입니다. 기본 포트(" + port + ")를 사용합니다.");
+            }
+        }
+
+        BotConfig config = new BotConfig();
+        BotStats stats = new BotStats();
+        System.out.println("부하 테스트 시작: " + host + ":" + port + " (" + config + ")");
+
+        // 입력/놓침 타이머 전용 스레드, 봇마다 스레드를 두지 않음
+        AtomicInteger timerThreads = new AtomicInteger();
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+                    Thread thread = new Thread(r, "bot-timer-" + timerThreads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        long startMillis = System.currentTimeMillis();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "bot-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(() -> System.out.println(stats.report(System.currentTimeMillis() - startMillis)),
+                config.reportSeconds, config.reportSeconds, TimeUnit.SECONDS);
+
+        // 방 인원 단위로 접속 -> 마지막 묶음이 모자라면 그 인원만큼의 방을 만듦
+        List<BotClient> bots = new ArrayList<>(config.botCount);
+        List<SpectatorBot> spectators = new ArrayList<>();
+        long rampIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rampPerSecond;
+        long nextConnectNanos = System.nanoTime();
+        BotRoomGroup group = null;
+        for (int i = 0; i < config.botCount; i++) {
+            int indexInRoom = i % config.roomSize;
+            if (indexInRoom == 0) {
+                group = new BotRoomGroup(Math.min(config.roomSize, config.botCount - i));
+            }
+
+            BotClient bot = new BotClient("bot" + i, group, indexInRoom == 0, config, stats, scheduler, i);
+            try {
+                bot.connect(host, port);
+                stats.connected.increment();
+                bots.add(bot);
+                Thread thread = new Thread(bot, "bot-" + i);
+                thread.setDaemon(true);
+                thread.start();
+            } catch (Exception e) {
+                stats.connectFailures.increment();
+                if (indexInRoom == 0) {
+                    group.roomId().completeExceptionally(e);
+                }
+            }
+
+            nextConnectNanos = pace(nextConnectNanos, rampIntervalNanos);
+
+            // 방 인원이 다 접속한 뒤 그 방의 관전 봇을 붙임
+            if (indexInRoom == group.size() - 1) {
+                for (int s = 0; s < config.spectatorsPerRoom; s++) {
+                    SpectatorBot spectator = new SpectatorBot("watch" + i + "_" + s, group, stats);
+                    try {
+                        spectator.connect(host, port);
+                        stats.connected.increment();
+                        spectators.add(spectator);
+                        Thread thread = new Thread(spectator, "spectator-" + i + "-" + s);
+                        thread.setDaemon(true);
+                        thread.start();
+                    } catch (Exception e) {
+                        stats.connectFailures.increment();
+                    }
+                    nextConnectNanos = pace(nextConnectNanos, rampIntervalNanos);
+                }
+            }
+        }
+
+        long remainingMillis = TimeUnit.SECONDS.toMillis(config.durationSeconds) - (System.currentTimeMillis() - startMillis);
+        if (remainingMillis > 0) {
+            Thread.sleep(remainingMillis);
+        }
+
+        reporter.shutdownNow();
+        for (BotClient bot : bots) {
+            bot.stop();
+        }
+        for (SpectatorBot spectator : spectators) {
+            spectator.stop();
+        }
+        scheduler.shutdownNow();
+
+        System.out.println("==== 최종 결과 ====");
+        System.out.println(stats.report(System.currentTimeMillis() - startMillis));
+    }
+
+    // 초당 접속 수 제한 -> 다음 접속 예정 시각까지 기다리고 그다음 예정 시각을 반환
+    private static long pace(long nextConnectNanos, long rampIntervalNanos) throws InterruptedException {
+        nextConnectNanos += rampIntervalNanos;
+        long sleepNanos = nextConnectNanos - System.nanoTime();
+        if (sleepNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        }
+        return nextConnectNanos;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * client.bot.BotRoomGroup.java
+ * 같은 방에 들어갈 봇 묶음
+ * - 첫 번째 봇(방장)이 방을 만들면 방 ID를 나머지 봇에게 넘겨 입장시킴
+ * - 같은 JVM 안의 봇끼리 같은 WORD_SPAWNED를 받은 시각을 비교해 방 브로드캐스트 fan-out 편차를 잼
+ *   (서버와 시계를 공유하지 않으므로 서버 전송 시각 대신 "가장 먼저 받은 봇"의 수신 시각을 기준으로 삼음)
+ * - 단어는 "단어ID#게임 내 생성 순번"으로 구분 -> 한 게임에서 같은 단어가 다시 나와도 섞이지 않음
+ */
+
+package client.bot;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class BotRoomGroup {
+    private final int size;
+    private final CompletableFuture<String> roomId = new CompletableFuture<>();
+    // 단어 인스턴스 -> 최초 수신 시각과 아직 받지 않은 봇 수
+    private final Map<String, SpawnReceipt> spawnReceipts = new ConcurrentHashMap<>();
+
+    BotRoomGroup(int size) {
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    CompletableFuture<String> roomId() {
+        return roomId;
+    }
+
+    /*
+     * 봇이 단어를 받았을 때 호출
+     * @return 최초 수신 봇 대비 늦은 정도(나노초), 이 봇이 최초 수신(기준)이면 -1
+     */
+    long recordSpawn(String spawnKey, long receivedNanos) {
+        boolean[] first = new boolean[1];
+        SpawnReceipt receipt = spawnReceipts.computeIfAbsent(spawnKey, k -> {
+            first[0] = true;
+            return new SpawnReceipt(receivedNanos, size);
+        });
+        synchronized (receipt) {
+            if (--receipt.remaining <= 0) {
+                spawnReceipts.remove(spawnKey, receipt);
+            }
+        }
+        return first[0] ? -1 : Math.max(0, receivedNanos - receipt.firstNanos);
+    }
+
+    // 게임 종료/이탈 등으로 일부 봇이 못 받은 단어가 남지 않도록 정리
+    void clearSpawns() {
+        spawnReceipts.clear();
+    }
+
+    private static final class SpawnReceipt {
+        final long firstNanos;
+        int remaining;
+
+        SpawnReceipt(long firstNanos, int remaining) {
+            this.firstNanos = firstNanos;
+            this.remaining = remaining;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * client.bot.BotStats.java
+ * 부하 테스트 집계, 모든 봇이 공유하며 여러 수신 스레드에서 동시에 기록함
+ * 지연 시간 히스토그램은 서버 메트릭과 같은 LatencyHistogram을 재사용 -> 서버 /metrics 값과 같은 기준으로 비교 가능
+ */
+
+package client.bot;
+
+import common.metrics.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class BotStats {
+    // 같은 방 봇들 중 WORD_SPAWNED를 가장 먼저 받은 봇 대비 나머지 봇이 늦게 받은 정도 (방 브로드캐스트 fan-out 편차)
+    // 기준이 된 첫 수신은 기록하지 않음
+    final LatencyHistogram fanoutSkew = new LatencyHistogram();
+    // WORD_INPUT 전송 ~ 본인의 WORD_MATCHED 수신
+    final LatencyHistogram inputToMatched = new LatencyHistogram();
+    // 관전 봇이 받은 SPECTATE_STATE 사이 간격 (서버 주기 + 건너뛴 스냅샷)
+    final LatencyHistogram spectateFrameGap = new LatencyHistogram();
+
+    final LongAdder connected = new LongAdder();
+    final LongAdder connectFailures = new LongAdder();
+    final LongAdder disconnected = new LongAdder();
+    final LongAdder gamesStarted = new LongAdder();
+    final LongAdder gamesOver = new LongAdder();
+    final LongAdder spawnsReceived = new LongAdder();
+    final LongAdder inputsSent = new LongAdder();
+    final LongAdder typosSent = new LongAdder();
+    final LongAdder wordsWon = new LongAdder();
+    final LongAdder wordsLost = new LongAdder();
+    final LongAdder missesSent = new LongAdder();
+    final LongAdder errorsReceived = new LongAdder();
+    final LongAdder messagesReceived = new LongAdder();
+    final LongAdder spectateFrames = new LongAdder();
+    final LongAdder spectateStale = new LongAdder();
+
+    String report(long elapsedMillis) {
+        double seconds = Math.max(1, elapsedMillis) / 1000.0;
+        String report = String.format("[%5.1fs] 연결 %d (실패 %d, 끊김 %d) | 게임 시작 %d, 종료 %d | 수신 %d (%.0f/s), 오류 %d%n" +
+                        "        단어 생성 %d, 입력 %d (오타 %d), 획득 %d, 선점당함 %d, 놓침 %d%n" +
+                        "        fan-out skew  %s%n" +
+                        "        input→matched %s",
+                seconds, connected.sum(), connectFailures.sum(), disconnected.sum(),
+                gamesStarted.sum(), gamesOver.sum(), messagesReceived.sum(), messagesReceived.sum() / seconds,
+                errorsReceived.sum(),
+                spawnsReceived.sum(), inputsSent.sum(), typosSent.sum(), wordsWon.sum(), wordsLost.sum(),
+                missesSent.sum(),
+                formatPercentiles(fanoutSkew.snapshot()),
+                formatPercentiles(inputToMatched.snapshot()));
+        if (spectateFrames.sum() == 0 && spectateStale.sum() == 0) {
+            return report;
+        }
+        return report + String.format("%n        관전 스냅샷 %d (오래된 것 %d), 간격 %s",
+                spectateFrames.sum(), spectateStale.sum(), formatPercentiles(spectateFrameGap.snapshot()));
+    }
+
+    private static String formatPercentiles(LatencyHistogram.Snapshot snapshot) {
+        return String.format("n=%d p50=%s p90=%s p99=%s p99.9=%s max=%s",
+                snapshot.getCount(),
+                millis(snapshot.getValueAtQuantile(0.5)),
+                millis(snapshot.getValueAtQuantile(0.9)),
+                millis(snapshot.getValueAtQuantile(0.99)),
+                millis(snapshot.getValueAtQuantile(0.999)),
+                millis(snapshot.getMaxNanos()));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2fms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * client.bot.SpectatorBot.java
+ * 화면 없이 관전만 하는 가상 클라이언트
+ * 로그인 -> 같은 묶음의 방장이 방을 만들면 SPECTATE -> SPECTATE_STATE 스냅샷 수와 도착 간격을 기록
+ * 스냅샷 순번이 이전보다 작거나 같으면 오래된 스냅샷으로 셈 (서버가 관전자별로 순서대로 보내므로 0이어야 정상)
+ */
+
+package client.bot;
+
+import client.event.GameEvent.ClientCommand;
+import client.event.GameEvent.ServerMessage;
+
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+final class SpectatorBot implements Runnable {
+    private final String username;
+    private final BotRoomGroup group;
+    private final BotStats stats;
+
+    private Socket socket;
+    private BufferedReader in;
+    private Writer out;
+    private volatile boolean stopping;
+    // 수신 스레드에서만 사용
+    private long lastSeq;
+    private long lastFrameNanos;
+
+    SpectatorBot(String username, BotRoomGroup group, BotStats stats) {
+        this.username = username;
+        this.group = group;
+        this.stats = stats;
+    }
+
+    void connect(String host, int port) throws IOException {
+        socket = new Socket(host, port);
+        in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void run() {
+        try {
+            send(ClientCommand.LOGIN + "|" + username);
+            group.roomId().thenAccept(id -> send(ClientCommand.SPECTATE + "|" + id));
+
+            String message;
+            while ((message = in.readLine()) != null) {
+                stats.messagesReceived.increment();
+                handleMessage(message);
+            }
+        } catch (IOException e) {
+            // 종료 중에 소켓을 닫은 경우는 정상
+        } finally {
+            if (!stopping) {
+                stats.disconnected.increment();
+            }
+            closeQuietly();
+        }
+    }
+
+    private void handleMessage(String message) {
+        String[] parts = message.split("\\|", 4);
+        switch (parts[0]) {
+            case ServerMessage.SPECTATE_STATE -> handleState(parts);
+            case ServerMessage.SPECTATE_FAILED, ServerMessage.ERROR -> stats.errorsReceived.increment();
+            case ServerMessage.PING -> send(ClientCommand.PONG);
+            default -> {
+                // 관전 시작/종료, 유저 수, 방 목록 변경 등은 무시
+            }
+        }
+    }
+
+    // SPECTATE_STATE|방ID|순번|상태...
+    private void handleState(String[] parts) {
+        long receivedNanos = System.nanoTime();
+        long seq;
+        try {
+            seq = parts.length >= 3 ? Long.parseLong(parts[2]) : 0;
+        } catch (NumberFormatException e) {
+            stats.errorsReceived.increment();
+            return;
+        }
+        if (seq <= lastSeq) {
+            stats.spectateStale.increment();
+            return;
+        }
+        stats.spectateFrames.increment();
+        if (lastFrameNanos != 0) {
+            stats.spectateFrameGap.recordNanos(receivedNanos - lastFrameNanos);
+        }
+        lastSeq = seq;
+        lastFrameNanos = receivedNanos;
+    }
+
+    private void send(String message) {
+        Writer writer = out;
+        if (writer == null || stopping && !message.startsWith(ClientCommand.LOGOUT)) {
+            return;
+        }
+        synchronized (writer) {
+            try {
+                writer.write(message);
+                writer.write('\n');
+                writer.flush();
+            } catch (IOException e) {
+                closeQuietly();
+            }
+        }
+    }
+
+    void stop() {
+        stopping = true;
+        send(ClientCommand.LOGOUT);
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * client.event.EventBus.java
+ * 클라이언트 이벤트 버스 -> GameClient가 하나를 갖고, 화면들이 구독/해지
+ * - 화면마다 필요한 이벤트 타입만 골라 구독 가능, subscribe가 돌려주는 Subscription으로 해지
+ * - 발행(수신 스레드)은 큐에 넣기만 하고, 구독자 호출은 항상 EDT에서 함
+ *   -> 화면마다 invokeLater를 따로 부를 필요 없음
+ * - EDT에는 실행 대기 중인 작업을 최대 하나만 올림 -> 메시지가 몰려도 한 번의 작업이 큐에 쌓인 이벤트를 순서대로 처리
+ * - 최신 값만 의미 있는 이벤트(pH, 접속자 수, 방 목록)는 coalesce 키로 등록
+ *   -> 아직 처리되지 않은 같은 키의 이벤트는 버리고 마지막 것만 전달 (순서는 마지막 이벤트 위치 기준)
+ */
+
+package client.event;
+
+import common.log.Log;
+
+import javax.swing.SwingUtilities;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+public final class EventBus {
+    private static final Log logger = Log.get(EventBus.class);
+
+    // 구독 해지 핸들, 여러 번 닫아도 됨
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class Registration implements Subscription {
+        private final EventBus bus;
+        private final GameEventListener listener;
+        // null이면 모든 이벤트
+        private final Set<String> eventTypes;
+        private volatile boolean active = true;
+
+        private Registration(EventBus bus, GameEventListener listener, Set<String> eventTypes) {
+            this.bus = bus;
+            this.listener = listener;
+            this.eventTypes = eventTypes;
+        }
+
+        private boolean accepts(String eventType) {
+            return active && (eventTypes == null || eventTypes.contains(eventType));
+        }
+
+        @Override
+        public void close() {
+            if (active) {
+                active = false;
+                bus.registrations.remove(this);
+                logger.fine(() -> "이벤트 구독 해지: " + listener.getClass().getSimpleName());
+            }
+        }
+    }
+
+    private static final class PendingEvent {
+        private final String eventType;
+        private final Object[] data;
+        private final Object coalesceKey;
+        // 같은 키의 더 최신 이벤트가 들어와 건너뛸 이벤트
+        private boolean superseded;
+
+        private PendingEvent(String eventType, Object[] data, Object coalesceKey) {
+            this.eventType = eventType;
+            this.data = data;
+            this.coalesceKey = coalesceKey;
+        }
+    }
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final Map<String, Function<Object[], Object>> coalesceKeys = new ConcurrentHashMap<>();
+    // queue, pendingByKey는 lock으로 보호
+    private final Object lock = new Object();
+    private final ArrayDeque<PendingEvent> queue = new ArrayDeque<>();
+    private final Map<Object, PendingEvent> pendingByKey = new HashMap<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    public Subscription subscribe(GameEventListener listener) {
+        return register(listener, null);
+    }
+
+    // 지정한 타입의 이벤트만 받음
+    public Subscription subscribe(GameEventListener listener, String... eventTypes) {
+        return register(listener, Set.of(eventTypes));
+    }
+
+    private Subscription register(GameEventListener listener, Set<String> eventTypes) {
+        Registration registration = new Registration(this, Objects.requireNonNull(listener), eventTypes);
+        registrations.add(registration);
+        logger.fine(() -> "이벤트 구독: " + listener.getClass().getSimpleName());
+        return registration;
+    }
+
+    // keyOf: 이벤트 데이터에서 "같은 대상"을 가리키는 키 (예: pH는 플레이어 이름)
+    public void coalesce(String eventType, Function<Object[], Object> keyOf) {
+        coalesceKeys.put(eventType, keyOf);
+    }
+
+    // 아무 스레드에서나 호출 가능, 구독자는 EDT에서 호출됨
+    public void publish(String eventType, Object... data) {
+        if (registrations.isEmpty()) {
+            return;
+        }
+
+        Function<Object[], Object> keyOf = coalesceKeys.get(eventType);
+        Object key = keyOf != null ? List.of(eventType, keyOf.apply(data)) : null;
+        PendingEvent event = new PendingEvent(eventType, data, key);
+        synchronized (lock) {
+            if (key != null) {
+                PendingEvent previous = pendingByKey.put(key, event);
+                if (previous != null) {
+                    previous.superseded = true;
+                }
+            }
+            queue.add(event);
+        }
+
+        if (drainScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::drain);
+        }
+    }
+
+    // EDT에서 실행, 큐에서 하나씩 꺼내 처리
+    // 구독자가 모달 대화상자를 띄우면 그 안에서 다음 drain이 실행될 수 있으므로,
+    // 한꺼번에 꺼내지 않고 공유 큐에서 하나씩 꺼내 순서를 유지함
+    private void drain() {
+        drainScheduled.set(false);
+        while (true) {
+            PendingEvent event;
+            synchronized (lock) {
+                event = queue.poll();
+                if (event == null) {
+                    return;
+                }
+                if (event.superseded) {
+                    continue;
+                }
+                if (event.coalesceKey != null) {
+                    pendingByKey.remove(event.coalesceKey);
+                }
+            }
+            dispatch(event);
+        }
+    }
+
+    private void dispatch(PendingEvent event) {
+        for (Registration registration : registrations) {
+            if (!registration.accepts(event.eventType)) {
+                continue;
+            }
+            try {
+                registration.listener.onGameEvent(event.eventType, event.data);
+            } catch (Exception e) {
+                logger.severe("이벤트 처리 중 오류 발생: " + event.eventType, e);
+            }
+        }
+    }
+}
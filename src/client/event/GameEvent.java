@@ -18,7 +18,9 @@ public class GameEvent {
         // 방 관련 이벤트
         public static final String ROOM_CREATED = "ROOM_CREATED";           // 방 생성됨
         public static final String ROOM_JOINED = "ROOM_JOINED";            // 방 입장함
-        public static final String ROOM_LIST_UPDATED = "ROOM_LIST_UPDATED"; // 방 목록 업데이트됨
+        public static final String ROOM_LIST_UPDATED = "ROOM_LIST_UPDATED"; // 방 목록 업데이트됨 (전체 목록)
+        public static final String ROOM_LIST_PAGE = "ROOM_LIST_PAGE";       // 방 목록 한 페이지 수신
+        public static final String ROOM_LIST_CHANGED = "ROOM_LIST_CHANGED"; // 방 목록이 바뀜 -> 보고 있는 페이지 다시 요청
         public static final String ROOM_CLOSED = "ROOM_CLOSED";            // 방 닫힘
         public static final String HOST_LEFT = "HOST_LEFT";                // 방장이 나감
         public static final String NEW_HOST = "NEW_HOST";                  // 새로운 방장 선정됨
@@ -31,6 +33,13 @@ public class GameEvent {
         public static final String PLAYER_UPDATED = "PLAYER_UPDATED";      // 플레이어 정보 업데이트
         public static final String USERS_UPDATED = "USERS_UPDATED";        // 전체 유저수 업데이트
 
+        // 연결 관련 이벤트
+        public static final String SESSION_RESUMED = "SESSION_RESUMED";    // 재연결 후 세션 복구됨
+
+        // 빠른 대전 이벤트 -> 매칭되면 GAME_STARTED가 이어서 옴
+        public static final String MATCH_QUEUED = "MATCH_QUEUED";          // 빠른 대전 대기열 등록됨
+        public static final String MATCH_CANCELLED = "MATCH_CANCELLED";    // 빠른 대전 대기 취소됨
+
         // 채팅 관련 이벤트
         public static final String CHAT_RECEIVED = "CHAT_RECEIVED";        // 채팅 메시지 수신
 
@@ -63,16 +72,30 @@ public class GameEvent {
         // 인증 관련 커맨드
         public static final String LOGIN = "LOGIN";                      // 로그인 요청
         public static final String LOGOUT = "LOGOUT";                    // 로그아웃 요청
+        public static final String RESUME = "RESUME";                    // 끊긴 세션 이어받기 요청
+
+        // 연결 유지 커맨드 -> 서버가 보낸 PING에는 PONG으로 응답, 서버 응답이 한동안 없으면 PING 전송
+        public static final String PING = "PING";                        // 연결 확인 요청
+        public static final String PONG = "PONG";                        // 연결 확인 응답
 
         // 방 관련 커맨드
         public static final String CREATE_ROOM = "CREATE_ROOM";          // 방 생성 요청
         public static final String JOIN_ROOM = "JOIN_ROOM";             // 방 입장 요청
         public static final String PLAYER_LEAVE_GAME = "PLAYER_LEAVE_GAME"; // 게임 퇴장 요청 -> 인 게임에서 나갔을 때 처리임을 주의
         public static final String LEAVE_ROOM = "LEAVE_ROOM";           // 방 퇴장 요청 -> 게임 로비 퇴장 처리임을 주의
-        public static final String ROOM_LIST = "ROOM_LIST";             // 방 목록 요청
+        public static final String ROOM_LIST = "ROOM_LIST";             // 방 목록 요청 (인자가 있으면 페이지/필터 조회)
+        public static final String ROOM_LIST_TAGGED = "ROOM_LIST_TAGGED"; // 요청 ID를 붙인 방 목록 요청 (게이트웨이 -> 노드)
         public static final String PLAYER_LIST = "PLAYER_LIST";         // 플레이어 목록 요청
         public static final String UPDATE_SETTINGS = "UPDATE_SETTINGS"; // 방 설정 변경 요청
 
+        // 빠른 대전 커맨드
+        public static final String QUICK_MATCH = "QUICK_MATCH";               // 빠른 대전 대기 요청
+        public static final String QUICK_MATCH_CANCEL = "QUICK_MATCH_CANCEL"; // 빠른 대전 대기 취소
+
+        // 관전 커맨드 -> 방 자리를 차지하지 않고 게임 상태 스냅샷만 받음
+        public static final String SPECTATE = "SPECTATE";                     // 관전 시작 (방ID)
+        public static final String SPECTATE_STOP = "SPECTATE_STOP";           // 관전 종료 (방ID)
+
         // 게임 플레이 관련 커맨드
         public static final String START_GAME = "START_GAME";           // 게임 시작 요청
         public static final String WORD_INPUT = "WORD_INPUT";           // 단어 입력
@@ -96,13 +119,28 @@ public class GameEvent {
     public static class ServerMessage {
         // 유저 및 방 관리 메시지
         public static final String USERS = "USERS";                           // 전체 유저수 응답
-        public static final String ROOM_LIST_RESPONSE = "ROOM_LIST_RESPONSE"; // 방 목록 응답
+        public static final String SESSION = "SESSION";                       // 로그인 성공 시 재연결용 세션 토큰
+        public static final String RESUME_OK = "RESUME_OK";                   // 세션 복구 성공 + 상태 스냅샷
+        public static final String RESUME_FAILED = "RESUME_FAILED";           // 세션 복구 실패 (만료/알 수 없는 토큰)
+        public static final String PING = "PING";                             // 유휴 연결 확인 요청
+        public static final String PONG = "PONG";                             // 클라이언트 PING 응답
+        public static final String ROOM_LIST_RESPONSE = "ROOM_LIST_RESPONSE"; // 방 목록 응답 (전체 목록)
+        public static final String ROOM_LIST_PAGE = "ROOM_LIST_PAGE";         // 방 목록 페이지 응답
+        public static final String ROOM_LIST_CHANGED = "ROOM_LIST_CHANGED";   // 방 목록 변경 알림 (목록은 보내지 않음)
+        public static final String ROOM_LIST_TAGGED = "ROOM_LIST_TAGGED";     // 요청 ID를 붙인 방 목록 응답 (노드 -> 게이트웨이)
         public static final String PLAYER_LIST_RESPONSE = "PLAYER_LIST_RESPONSE"; // 플레이어 목록 응답
         public static final String CREATE_ROOM_RESPONSE = "CREATE_ROOM_RESPONSE"; // 방 생성 응답
         public static final String JOIN_ROOM_RESPONSE = "JOIN_ROOM_RESPONSE"; // 방 입장 응답
         public static final String ROOM_CLOSED = "ROOM_CLOSED";              // 방 닫힘 알림
         public static final String HOST_LEFT = "HOST_LEFT";                  // 방장 퇴장 알림
         public static final String NEW_HOST = "NEW_HOST";                    // 새 방장 알림
+        public static final String MATCH_QUEUED = "MATCH_QUEUED";            // 빠른 대전 대기열 등록 (모드, 난이도, 실력 점수)
+        public static final String MATCH_CANCELLED = "MATCH_CANCELLED";      // 빠른 대전 대기 취소 (사유)
+        public static final String SPECTATE_OK = "SPECTATE_OK";              // 관전 시작 (방ID, 관전자 수)
+        public static final String SPECTATE_FAILED = "SPECTATE_FAILED";      // 관전 거절 (사유)
+        public static final String SPECTATE_START = "SPECTATE_START";        // 관전 중인 방의 게임 시작 (참가자, 단어 테이블)
+        public static final String SPECTATE_STATE = "SPECTATE_STATE";        // 관전용 게임 상태 스냅샷 (주기적)
+        public static final String SPECTATE_END = "SPECTATE_END";            // 관전 종료 (방 닫힘 등)
 
         // 게임 플레이 메시지
         public static final String WORD_SPAWNED = "WORD_SPAWNED";           // 단어 생성 알림
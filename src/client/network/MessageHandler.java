@@ -6,15 +6,17 @@
 package client.network;
 
 import client.app.GameClient;
+import client.event.GameEvent.ClientCommand;
 import client.event.GameEvent.ClientEvent;
 import client.event.GameEvent.ServerMessage;
-import game.model.Word;
+import common.log.Log;
+import game.model.SpecialEffect;
+import game.model.WordTable;
 
 import java.util.Arrays;
-import java.util.logging.Logger;
 
 public class MessageHandler {
-    private static final Logger logger = Logger.getLogger(MessageHandler.class.getName());
+    private static final Log logger = Log.get(MessageHandler.class);
     private final GameClient gameClient;
 
     public MessageHandler(GameClient gameClient) {
@@ -27,7 +29,7 @@ public class MessageHandler {
      */
     public void handleMessage(String message) {
         try {
-            logger.info("수신된 메시지: " + message);
+            logger.fine(() -> "수신된 메시지: " + message);
             String[] parts = message.split("\\|", -1);
             String messageType = parts[0];
 
@@ -35,8 +37,20 @@ public class MessageHandler {
                 // 유저 관련 메시지
                 case ServerMessage.USERS -> handleUsers(parts);
 
+                // 세션(재연결) 관련 메시지
+                case ServerMessage.SESSION -> handleSession(parts);
+                case ServerMessage.RESUME_OK -> handleResumeOk(parts);
+                case ServerMessage.RESUME_FAILED -> gameClient.handleResumeFailed(parts.length >= 2 ? parts[1] : "");
+
+                // 연결 유지 -> 받은 시각은 GameClient가 기록
+                case ServerMessage.PING -> gameClient.sendMessage(ClientCommand.PONG);
+                case ServerMessage.PONG -> {
+                }
+
                 // 방 관련 메시지
                 case ServerMessage.ROOM_LIST_RESPONSE -> handleRoomList(parts);
+                case ServerMessage.ROOM_LIST_PAGE -> handleRoomListPage(parts);
+                case ServerMessage.ROOM_LIST_CHANGED -> gameClient.handleEvent(ClientEvent.ROOM_LIST_CHANGED);
                 case ServerMessage.PLAYER_LIST_RESPONSE -> handlePlayerList(parts);
                 case ServerMessage.CREATE_ROOM_RESPONSE -> handleCreateRoom(parts);
                 case ServerMessage.JOIN_ROOM_RESPONSE -> handleJoinRoom(parts);
@@ -44,6 +58,11 @@ public class MessageHandler {
                 case ServerMessage.HOST_LEFT -> handleHostLeft(parts);
                 case ServerMessage.NEW_HOST -> handleNewHost(parts);
 
+                // 빠른 대전 메시지
+                case ServerMessage.MATCH_QUEUED -> handleMatchQueued(parts);
+                case ServerMessage.MATCH_CANCELLED ->
+                        gameClient.handleEvent(ClientEvent.MATCH_CANCELLED, parts.length >= 2 ? parts[1] : "");
+
                 // 채팅 메시지
                 case ServerMessage.CHAT -> handleChat(parts);
 
@@ -88,6 +107,30 @@ public class MessageHandler {
         }
     }
 
+    // SESSION|토큰|유예시간(초)
+    private void handleSession(String[] parts) {
+        if (parts.length >= 3) {
+            try {
+                gameClient.setSession(parts[1], Integer.parseInt(parts[2]));
+            } catch (NumberFormatException e) {
+                logger.severe("세션 유예 시간 파싱 오류: " + parts[2]);
+            }
+        }
+    }
+
+    // RESUME_OK|방ID|게임중[|플레이어:점수:pH;...|단어ID,x[,효과];...]
+    // -> 이벤트: 방ID(없으면 null), 게임중, 플레이어 상태, 단어 목록 (게임 중이 아니면 빈 문자열)
+    private void handleResumeOk(String[] parts) {
+        if (parts.length >= 3) {
+            String roomId = parts[1].isEmpty() ? null : parts[1];
+            boolean inGame = Boolean.parseBoolean(parts[2]);
+            String playerStates = parts.length >= 4 ? parts[3] : "";
+            String words = parts.length >= 5 ? parts[4] : "";
+            logger.info("세션 복구됨: 방(" + roomId + "), 게임 중(" + inGame + ")");
+            gameClient.handleEvent(ClientEvent.SESSION_RESUMED, roomId, inGame, playerStates, words);
+        }
+    }
+
     // 방 목록 업데이트
     private void handleRoomList(String[] parts) {
         if (parts.length > 1) {
@@ -98,6 +141,32 @@ public class MessageHandler {
         }
     }
 
+    // ROOM_LIST_PAGE|전체 방 수|다음 커서|roomInfo1|roomInfo2|...
+    // -> 이벤트: 전체 방 수, 다음 커서(마지막 페이지면 null), 방 정보 배열
+    private void handleRoomListPage(String[] parts) {
+        if (parts.length >= 3) {
+            try {
+                int total = Integer.parseInt(parts[1]);
+                String nextCursor = parts[2].isEmpty() ? null : parts[2];
+                String[] roomInfos = Arrays.copyOfRange(parts, 3, parts.length);
+                gameClient.handleEvent(ClientEvent.ROOM_LIST_PAGE, total, nextCursor, roomInfos);
+            } catch (NumberFormatException e) {
+                logger.severe("방 목록 페이지 파싱 오류: " + parts[1]);
+            }
+        }
+    }
+
+    // MATCH_QUEUED|모드|난이도|실력점수 -> 이벤트: 실력 점수
+    private void handleMatchQueued(String[] parts) {
+        if (parts.length >= 4) {
+            try {
+                gameClient.handleEvent(ClientEvent.MATCH_QUEUED, Integer.parseInt(parts[3]));
+            } catch (NumberFormatException e) {
+                logger.severe("실력 점수 파싱 오류: " + parts[3]);
+            }
+        }
+    }
+
     // 플레이어 목록 업데이트
     private void handlePlayerList(String[] parts) {
         if (parts.length >= 4) {
@@ -107,7 +176,7 @@ public class MessageHandler {
                 String[] players = parts[3].isEmpty() ? new String[0] : parts[3].split(";");
                 // 플레이어 목록이 비어있더라도 업데이트 이벤트 발생
                 gameClient.handleEvent(ClientEvent.PLAYER_UPDATED, roomId, playerCount, players);
-                logger.info("플레이어 목록 업데이트: 방(" + roomId + "), 플레이어 수(" + playerCount + ")");
+                logger.fine(() -> "플레이어 목록 업데이트: 방(" + roomId + "), 플레이어 수(" + playerCount + ")");
             } catch (NumberFormatException e) {
                 logger.severe("플레이어 수 파싱 오류: " + parts[2]);
             } catch (Exception e) {
@@ -173,10 +242,12 @@ public class MessageHandler {
     }
 
     // 게임 시작 처리
+    // GAME_START|방ID|참가자목록|단어0|단어1|... -> 세 번째 필드 이후는 이번 게임의 단어 테이블
     private void handleGameStart(String[] parts) {
         if (parts.length >= 3) {
             String roomId = parts[1];
             String[] players = parts[2].isEmpty() ? new String[0] : parts[2].split(";");
+            gameClient.setWordTable(WordTable.decode(parts, 3));
             gameClient.handleEvent(ClientEvent.GAME_STARTED, roomId, players);
         } else {
             gameClient.handleEvent(ClientEvent.GAME_STARTED);
@@ -184,21 +255,26 @@ public class MessageHandler {
     }
 
     // 단어 생성
+    // WORD_SPAWNED|방ID|단어ID|x[|효과] -> 이벤트: 단어ID, 단어, x[, 효과]
     private void handleWordSpawned(String[] parts) {
         if (parts.length >= 4) {
-            String wordText = parts[2];
             try {
+                int wordId = Integer.parseInt(parts[2]);
+                String wordText = resolveWord(wordId);
+                if (wordText == null) {
+                    return;
+                }
                 int xPos = Integer.parseInt(parts[3]);
                 if (parts.length >= 5) {
                     // 특수 효과가 있는 경우
-                    Word.SpecialEffect effect = Word.SpecialEffect.valueOf(parts[4]);
-                    gameClient.handleEvent(ClientEvent.WORD_SPAWNED, wordText, xPos, effect);
+                    SpecialEffect effect = SpecialEffect.valueOf(parts[4]);
+                    gameClient.handleEvent(ClientEvent.WORD_SPAWNED, wordId, wordText, xPos, effect);
                 } else {
                     // 일반 단어인 경우
-                    gameClient.handleEvent(ClientEvent.WORD_SPAWNED, wordText, xPos);
+                    gameClient.handleEvent(ClientEvent.WORD_SPAWNED, wordId, wordText, xPos);
                 }
             } catch (NumberFormatException e) {
-                logger.severe("단어 위치 파싱 오류: " + parts[3]);
+                logger.severe("단어 ID/위치 파싱 오류: " + String.join("|", parts));
             } catch (IllegalArgumentException e) {
                 logger.severe("특수 효과 파싱 오류: " + parts[4]);
             }
@@ -220,33 +296,44 @@ public class MessageHandler {
     }
 
     // 단어가 매치되었을 때 처리
+    // WORD_MATCHED|방ID|단어ID|플레이어|점수 -> 이벤트: 단어ID, 단어, 플레이어, 점수
     private void handleWordMatched(String[] parts) {
         if (parts.length >= 5) {
-            String wordText = parts[2];
             String playerName = parts[3];
             try {
+                int wordId = Integer.parseInt(parts[2]);
                 int newScore = Integer.parseInt(parts[4]);
-                gameClient.handleEvent(ClientEvent.WORD_MATCHED, wordText, playerName, newScore);
+                gameClient.handleEvent(ClientEvent.WORD_MATCHED, wordId, resolveWord(wordId), playerName, newScore);
             } catch (NumberFormatException e) {
-                logger.severe("점수 파싱 오류: " + parts[4]);
+                logger.severe("단어 ID/점수 파싱 오류: " + String.join("|", parts));
             }
         }
     }
 
     // 단어를 놓쳤을 때 처리
+    // WORD_MISSED|방ID|단어ID|플레이어|pH -> 이벤트: 단어ID, 단어, 플레이어, pH
     private void handleWordMissed(String[] parts) {
         if (parts.length >= 5) {
-            String missedWord = parts[2];
             String playerName = parts[3];
             try {
+                int wordId = Integer.parseInt(parts[2]);
                 double newPH = Double.parseDouble(parts[4]);
-                gameClient.handleEvent(ClientEvent.WORD_MISSED, missedWord, playerName, newPH);
+                gameClient.handleEvent(ClientEvent.WORD_MISSED, wordId, resolveWord(wordId), playerName, newPH);
             } catch (NumberFormatException e) {
-                logger.severe("pH 값 파싱 오류: " + parts[4]);
+                logger.severe("단어 ID/pH 값 파싱 오류: " + String.join("|", parts));
             }
         }
     }
 
+    private String resolveWord(int wordId) {
+        WordTable table = gameClient.getWordTable();
+        String text = table != null ? table.textOf(wordId) : null;
+        if (text == null) {
+            logger.warning("단어 테이블에 없는 단어 ID: " + wordId);
+        }
+        return text;
+    }
+
     // 블라인드 효과 처리
     private void handleBlindEffect(String[] parts) {
         if (parts.length >= 4) {
@@ -0,0 +1,143 @@
+/*
+ * client.network.MessageSender.java
+ * 클라이언트 전송 전용 스레드
+ * - 호출한 스레드(주로 EDT)는 큐에 넣고 바로 돌아옴 -> 소켓이 막혀도 화면이 멈추지 않음
+ * - 게임 입력(GAME_ACTION)은 urgent 큐, 로비 요청은 normal 큐 -> 쌓여 있으면 게임 입력부터 보냄
+ * - 큐에 쌓인 메시지를 한꺼번에 버퍼에 쓰고 flush는 한 번만 함
+ * - 큐는 각각 크기 제한이 있고, 가득 차면 새 메시지를 버리고 경고를 남김
+ * - close()는 남은 메시지를 모두 보내고 flush한 뒤 끝남 (제한 시간 안에서)
+ */
+
+package client.network;
+
+import common.log.Log;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class MessageSender {
+    public static final String CAPACITY_PROPERTY = "acidrain.client.sendQueue";
+    private static final Log logger = Log.get(MessageSender.class);
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final Writer writer;
+    private final Runnable onFailure;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    // urgent, normal, closing, dropped는 lock으로 보호
+    private final ArrayDeque<String> urgent = new ArrayDeque<>();
+    private final ArrayDeque<String> normal = new ArrayDeque<>();
+    private boolean closing;
+    private long dropped;
+    private final Thread thread;
+
+    /**
+     * @param out 소켓 출력 스트림
+     * @param onFailure 쓰기 실패(연결 끊김) 시 전송 스레드에서 한 번 호출
+     */
+    public MessageSender(OutputStream out, Runnable onFailure) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.onFailure = onFailure;
+        this.capacity = Math.max(16, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+        this.thread = new Thread(this::run, "client-writer");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * 메시지를 전송 큐에 넣음 (블로킹하지 않음)
+     * @param message 보낼 메시지 (줄바꿈 제외)
+     * @param isUrgent 게임 입력처럼 먼저 보내야 하는 메시지인지
+     * @return 큐가 가득 찼거나 종료 중이라 버렸으면 false
+     */
+    public boolean send(String message, boolean isUrgent) {
+        lock.lock();
+        try {
+            ArrayDeque<String> queue = isUrgent ? urgent : normal;
+            if (closing || queue.size() >= capacity) {
+                dropped++;
+                long total = dropped;
+                logger.warning(() -> "전송 큐가 가득 차 메시지를 버립니다 (누적 " + total + "개): " + message);
+                return false;
+            }
+            queue.add(message);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 새 메시지를 더 받지 않고, 이미 넣은 메시지를 모두 보낸 뒤 전송 스레드를 끝냄
+     * @return 제한 시간 안에 모두 보냈으면 true
+     */
+    public boolean close(long timeout, TimeUnit unit) {
+        lock.lock();
+        try {
+            closing = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        if (Thread.currentThread() == thread) {
+            return false;
+        }
+        try {
+            thread.join(Math.max(1, unit.toMillis(timeout)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !thread.isAlive();
+    }
+
+    private void run() {
+        ArrayDeque<String> batch = new ArrayDeque<>();
+        try {
+            while (true) {
+                boolean finished;
+                lock.lock();
+                try {
+                    while (urgent.isEmpty() && normal.isEmpty() && !closing) {
+                        notEmpty.await();
+                    }
+                    // 게임 입력을 먼저 꺼냄
+                    batch.addAll(urgent);
+                    batch.addAll(normal);
+                    urgent.clear();
+                    normal.clear();
+                    finished = closing;
+                } finally {
+                    lock.unlock();
+                }
+
+                String message;
+                while ((message = batch.poll()) != null) {
+                    writer.write(message);
+                    writer.write('\n');
+                    String sent = message;
+                    logger.fine(() -> "메시지 전송: " + sent);
+                }
+                writer.flush();
+
+                if (finished) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("메시지 전송 실패: " + e.getMessage());
+            onFailure.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
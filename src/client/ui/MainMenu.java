@@ -8,10 +8,12 @@
 package client.ui;
 
 import client.app.GameClient;
+import client.event.EventBus;
 import client.event.GameEvent;
 import client.event.GameEvent.ClientCommand;
 import client.event.GameEventListener;
 import client.ui.dialog.LeaderboardDialog;
+import client.ui.dialog.QuickMatchDialog;
 import client.ui.dialog.RoomListDialog;
 import client.ui.theme.ColorScheme;
 import client.ui.theme.FontManager;
@@ -28,6 +30,7 @@ import java.util.Random;
 public class MainMenu extends JPanel implements GameEventListener {
     // 기본 컴포넌트 및 상태 변수
     private final GameClient client;
+    private final EventBus.Subscription subscription;
     private final Timer waveAnimationTimer;
     private final Timer rainAnimationTimer;
     private double waveOffset = 3.0;
@@ -70,6 +73,8 @@ public class MainMenu extends JPanel implements GameEventListener {
             addNewRaindrop();
         }
 
+        subscription = client.subscribe(this,
+                GameEvent.ClientEvent.USERS_UPDATED, GameEvent.ClientEvent.ERROR_OCCURRED, "CONNECTION_LOST");
         requestUserCountUpdate();
     }
 
@@ -144,6 +149,7 @@ public class MainMenu extends JPanel implements GameEventListener {
         );
 
         JPanel rightMenu = createMenuSection(FlowLayout.RIGHT,
+                createMenuLabel("빠른 대전", this::startQuickMatch),
                 createMenuLabel("랭킹", this::showRanking),
                 createMenuLabel("종료", () -> System.exit(0))
         );
@@ -224,15 +230,36 @@ public class MainMenu extends JPanel implements GameEventListener {
                 startGame();
             }
         });
+
+        KeyStroke quickMatchKey = KeyStroke.getKeyStroke(KeyEvent.VK_Q,
+                InputEvent.CTRL_DOWN_MASK);
+        inputMap.put(quickMatchKey, "QuickMatch");
+        actionMap.put("QuickMatch", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                startQuickMatch();
+            }
+        });
     }
 
     private void startGame() {
         setVisible(false);
+        // 방 목록을 닫으면 새 메인 메뉴가 만들어지므로 이 화면은 더 이상 이벤트를 받지 않음
+        subscription.close();
         JFrame currentFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
         RoomListDialog dialog = new RoomListDialog(currentFrame, client);
         dialog.setVisible(true);
     }
 
+    private void startQuickMatch() {
+        setVisible(false);
+        // 빠른 대전 화면을 닫으면 새 메인 메뉴가 만들어지므로 이 화면은 더 이상 이벤트를 받지 않음
+        subscription.close();
+        JFrame currentFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
+        QuickMatchDialog dialog = new QuickMatchDialog(currentFrame, client);
+        dialog.setVisible(true);
+    }
+
     private void showBackgroundColorDialog() {
         Color newColor = JColorChooser.showDialog(this, "배경색 선택",
                 getBackground());
@@ -246,48 +273,34 @@ public class MainMenu extends JPanel implements GameEventListener {
     private void showRanking() {
         JFrame currentFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
         LeaderboardDialog leaderboardDialog = new LeaderboardDialog(currentFrame, client);
-
-        GameEventListener currentListener = this;
-
-        leaderboardDialog.addWindowListener(new WindowAdapter() {
-            @Override
-            public void windowClosed(WindowEvent e) {
-                client.setEventListener(currentListener);
-            }
-        });
-
         leaderboardDialog.setVisible(true);
     }
 
+    // EventBus가 EDT에서 호출
     @Override
     public void onGameEvent(String eventType, Object... data) {
         switch (eventType) {
             case GameEvent.ClientEvent.USERS_UPDATED -> {
                 if (data.length > 0) {
-                    int newConnectedUsers = (int) data[0];
-                    SwingUtilities.invokeLater(() -> {
-                        connectedUsers = newConnectedUsers;
-                        connectedUsersLabel.setText("현재 접속자 수: " + connectedUsers);
-                    });
+                    connectedUsers = (int) data[0];
+                    connectedUsersLabel.setText("현재 접속자 수: " + connectedUsers);
                 }
             }
             case GameEvent.ClientEvent.ERROR_OCCURRED -> {
                 if (data.length > 0) {
                     String message = (String) data[0];
-                    SwingUtilities.invokeLater(() -> {
-                        JOptionPane.showMessageDialog(this,
-                                message,
-                                "오류",
-                                JOptionPane.ERROR_MESSAGE);
-                        client.disconnect();
-                        Window window = SwingUtilities.getWindowAncestor(this);
-                        if (window != null) {
-                            window.dispose();
-                        }
-                    });
+                    JOptionPane.showMessageDialog(this,
+                            message,
+                            "오류",
+                            JOptionPane.ERROR_MESSAGE);
+                    client.disconnect();
+                    Window window = SwingUtilities.getWindowAncestor(this);
+                    if (window != null) {
+                        window.dispose();
+                    }
                 }
             }
-            case "CONNECTION_LOST" -> SwingUtilities.invokeLater(() -> {
+            case "CONNECTION_LOST" -> {
                 JOptionPane.showMessageDialog(this,
                         "서버와의 연결이 종료되었습니다.",
                         "연결 종료",
@@ -296,7 +309,7 @@ public class MainMenu extends JPanel implements GameEventListener {
                 if (window != null) {
                     window.dispose();
                 }
-            });
+            }
             default -> {
             }
         }
@@ -340,7 +353,8 @@ public class MainMenu extends JPanel implements GameEventListener {
                     "특별한 단어를 입력하면 추가 점수를 획득할 수 있습니다.",
                     "",
                     "준비되셨나요?",
-                    "Ctrl + S를 눌러 게임을 시작하세요!"
+                    "Ctrl + S를 눌러 게임을 시작하세요!",
+                    "Ctrl + Q를 누르면 빠른 대전 상대를 찾아줍니다."
             };
 
             FontMetrics fm = g2d.getFontMetrics();
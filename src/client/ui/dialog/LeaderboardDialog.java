@@ -7,10 +7,12 @@
 package client.ui.dialog;
 
 import client.app.GameClient;
+import client.event.EventBus;
 import client.event.GameEvent.*;
 import client.event.GameEventListener;
 import client.ui.theme.ColorScheme;
 import client.ui.theme.FontManager;
+import common.log.Log;
 import game.model.GameMode;
 import game.model.DifficultyLevel;
 import game.model.LeaderboardEntry;
@@ -23,10 +25,10 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.logging.Logger;
 
 public class LeaderboardDialog extends BaseDialog implements GameEventListener {
-    private static final Logger logger = Logger.getLogger(LeaderboardDialog.class.getName());
+    private static final Log logger = Log.get(LeaderboardDialog.class);
+    private EventBus.Subscription subscription;
 
     private final GameClient client;
     private final JTabbedPane tabbedPane;
@@ -108,7 +110,7 @@ public class LeaderboardDialog extends BaseDialog implements GameEventListener {
         myRecordsTable = createTable(myRecordsModel);
 
         setupUI();
-        client.setEventListener(this);
+        subscription = client.subscribe(this, ClientEvent.TOP_SCORES, ClientEvent.USER_RECORDS);
         loadLeaderboard(); // 초기 데이터 로드
     }
 
@@ -257,7 +259,7 @@ public class LeaderboardDialog extends BaseDialog implements GameEventListener {
         columnModel.getColumn(5).setPreferredWidth(150);  // 달성 일시
     }
 
-    // 게임 이벤트 처리
+    // 게임 이벤트 처리 (EventBus가 EDT에서 호출)
     @Override
     public void onGameEvent(String eventType, Object... data) {
         switch (eventType) {
@@ -268,49 +270,45 @@ public class LeaderboardDialog extends BaseDialog implements GameEventListener {
 
     // 전체 순위 데이터 처리
     private void handleTopScores(Object... data) {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                globalModel.setRowCount(0);
-                List<LeaderboardEntry> entries = parseLeaderboardEntries(data);
-
-                GameMode selectedMode = ((GameModeWrapper) modeFilter.getSelectedItem()).getMode();
-                DifficultyLevel selectedDifficulty = ((DifficultyWrapper) difficultyFilter.getSelectedItem()).getDifficulty();
-
-                int rank = 1;
-                for (LeaderboardEntry entry : entries) {
-                    if (entry.getGameMode() == selectedMode &&
-                            entry.getDifficulty() == selectedDifficulty) {
-                        addEntryToModel(globalModel, rank++, entry);
-                    }
+        try {
+            globalModel.setRowCount(0);
+            List<LeaderboardEntry> entries = parseLeaderboardEntries(data);
+
+            GameMode selectedMode = ((GameModeWrapper) modeFilter.getSelectedItem()).getMode();
+            DifficultyLevel selectedDifficulty = ((DifficultyWrapper) difficultyFilter.getSelectedItem()).getDifficulty();
+
+            int rank = 1;
+            for (LeaderboardEntry entry : entries) {
+                if (entry.getGameMode() == selectedMode &&
+                        entry.getDifficulty() == selectedDifficulty) {
+                    addEntryToModel(globalModel, rank++, entry);
                 }
-            } catch (Exception e) {
-                logger.warning("리더보드 데이터 처리 중 오류: " + e.getMessage());
-                showError("리더보드 데이터를 불러오는 중 오류가 발생했습니다.");
             }
-        });
+        } catch (Exception e) {
+            logger.warning("리더보드 데이터 처리 중 오류: " + e.getMessage());
+            showError("리더보드 데이터를 불러오는 중 오류가 발생했습니다.");
+        }
     }
 
     private void handleUserRecords(Object... data) {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                myRecordsModel.setRowCount(0);
-                List<LeaderboardEntry> entries = parseLeaderboardEntries(data);
-
-                GameMode selectedMode = ((GameModeWrapper) modeFilter.getSelectedItem()).getMode();
-                DifficultyLevel selectedDifficulty = ((DifficultyWrapper) difficultyFilter.getSelectedItem()).getDifficulty();
-
-                int rank = 1;
-                for (LeaderboardEntry entry : entries) {
-                    if (entry.getGameMode() == selectedMode &&
-                            entry.getDifficulty() == selectedDifficulty) {
-                        addEntryToModel(myRecordsModel, rank++, entry);
-                    }
+        try {
+            myRecordsModel.setRowCount(0);
+            List<LeaderboardEntry> entries = parseLeaderboardEntries(data);
+
+            GameMode selectedMode = ((GameModeWrapper) modeFilter.getSelectedItem()).getMode();
+            DifficultyLevel selectedDifficulty = ((DifficultyWrapper) difficultyFilter.getSelectedItem()).getDifficulty();
+
+            int rank = 1;
+            for (LeaderboardEntry entry : entries) {
+                if (entry.getGameMode() == selectedMode &&
+                        entry.getDifficulty() == selectedDifficulty) {
+                    addEntryToModel(myRecordsModel, rank++, entry);
                 }
-            } catch (Exception e) {
-                logger.warning("개인 기록 데이터 처리 중 오류: " + e.getMessage());
-                showError("개인 기록을 불러오는 중 오류가 발생했습니다.");
             }
-        });
+        } catch (Exception e) {
+            logger.warning("개인 기록 데이터 처리 중 오류: " + e.getMessage());
+            showError("개인 기록을 불러오는 중 오류가 발생했습니다.");
+        }
     }
 
 
@@ -452,7 +450,7 @@ public class LeaderboardDialog extends BaseDialog implements GameEventListener {
 
     @Override
     public void dispose() {
-        client.setEventListener(null);
+        subscription.close();
         super.dispose();
     }
 }
@@ -0,0 +1,269 @@
+/*
+ * client.ui.dialog.QuickMatchDialog.java
+ * 빠른 대전 대기 화면을 정의하는 클래스
+ * 언어/난이도를 고르고 대기열에 들어가면 서버가 비슷한 실력의 상대를 찾아 바로 게임을 시작함 -> GAME_STARTED를 받으면 게임 화면으로 이동
+ */
+
+package client.ui.dialog;
+
+import client.app.GameClient;
+import client.event.EventBus;
+import client.event.GameEvent.ClientEvent;
+import client.event.GameEventListener;
+import client.ui.MainMenu;
+import client.ui.components.RetroButton;
+import client.ui.game.GameScreen;
+import client.ui.theme.ColorScheme;
+import client.ui.theme.FontManager;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+
+public class QuickMatchDialog extends BaseDialog implements GameEventListener {
+    private final GameClient client;
+    private final JFrame mainFrame;
+    private final EventBus.Subscription subscription;
+    private final Timer waitTimer;
+    private JComboBox<GameMode> gameModeCombo;
+    private JComboBox<DifficultyLevel> difficultyCombo;
+    private JLabel statusLabel;
+    private RetroButton searchButton;
+    private boolean searching = false;
+    private long searchStartedMillis;
+    private int rating = -1;
+    private boolean isClosing = false;
+
+    public QuickMatchDialog(JFrame mainFrame, GameClient client) {
+        super(mainFrame, "빠른 대전");
+        this.mainFrame = mainFrame;
+        this.client = client;
+
+        mainFrame.setVisible(false);
+        this.subscription = client.subscribe(this,
+                ClientEvent.MATCH_QUEUED, ClientEvent.MATCH_CANCELLED, ClientEvent.GAME_STARTED,
+                ClientEvent.SESSION_RESUMED, ClientEvent.ERROR_OCCURRED);
+        this.waitTimer = new Timer(1000, e -> updateStatus());
+
+        setupUI();
+        setupKeyboardShortcuts();
+        setupWindowListener();
+        setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+        centerOnScreen();
+    }
+
+    private void setupUI() {
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(8, 8, 8, 8);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.weightx = 1.0;
+
+        gbc.gridx = 0; gbc.gridy = 0;
+        addLabel("프로그래밍 언어:", gbc);
+
+        gbc.gridx = 1;
+        gameModeCombo = new JComboBox<>(GameMode.values());
+        stylizeComboBox(gameModeCombo);
+        mainPanel.add(gameModeCombo, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 1;
+        addLabel("난이도:", gbc);
+
+        gbc.gridx = 1;
+        difficultyCombo = new JComboBox<>(DifficultyLevel.values());
+        stylizeComboBox(difficultyCombo);
+        mainPanel.add(difficultyCombo, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 2;
+        gbc.gridwidth = 2;
+        statusLabel = new JLabel("언어와 난이도를 고르고 찾기를 누르세요.");
+        statusLabel.setFont(FontManager.getFont(14f));
+        statusLabel.setForeground(ColorScheme.TEXT);
+        statusLabel.setPreferredSize(new Dimension(360, 24));
+        mainPanel.add(statusLabel, gbc);
+
+        gbc.gridy = 3;
+        gbc.anchor = GridBagConstraints.CENTER;
+        searchButton = new RetroButton("찾기 (Enter)");
+        RetroButton cancelButton = new RetroButton("취소 (ESC)");
+        searchButton.addActionListener(e -> startSearch());
+        cancelButton.addActionListener(e -> handleCancel());
+
+        mainPanel.add(createButtonPanel(searchButton, cancelButton), gbc);
+    }
+
+    private void stylizeComboBox(JComboBox<?> comboBox) {
+        comboBox.setRenderer(new DefaultListCellRenderer(){
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value,
+                                                          int index, boolean isSelected, boolean cellHasFocus) {
+                JLabel label = (JLabel) super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+                label.setFont(FontManager.getFont(14f));
+                label.setForeground(ColorScheme.TEXT);
+                label.setBackground(isSelected ? ColorScheme.PRIMARY : ColorScheme.SECONDARY);
+                label.setOpaque(true);
+                return label;
+            }
+        });
+        comboBox.setBackground(ColorScheme.SECONDARY);
+        comboBox.setForeground(ColorScheme.TEXT);
+        comboBox.setFont(FontManager.getFont(14f));
+        comboBox.setBorder(BorderFactory.createLineBorder(ColorScheme.PRIMARY));
+    }
+
+    // 단축키
+    private void setupKeyboardShortcuts() {
+        getRootPane().registerKeyboardAction(
+                e -> handleCancel(),
+                KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0),
+                JComponent.WHEN_IN_FOCUSED_WINDOW
+        );
+
+        getRootPane().registerKeyboardAction(
+                e -> startSearch(),
+                KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0),
+                JComponent.WHEN_IN_FOCUSED_WINDOW
+        );
+    }
+
+    private void setupWindowListener() {
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                handleClose();
+            }
+        });
+    }
+
+    private void startSearch() {
+        if (searching) {
+            return;
+        }
+
+        searching = true;
+        searchStartedMillis = System.currentTimeMillis();
+        rating = -1;
+        setControlsEnabled(false);
+        sendSearchRequest();
+        waitTimer.start();
+        updateStatus();
+    }
+
+    private void sendSearchRequest() {
+        client.sendQuickMatchRequest((GameMode) gameModeCombo.getSelectedItem(),
+                (DifficultyLevel) difficultyCombo.getSelectedItem());
+    }
+
+    // 찾는 중이면 대기만 취소, 아니면 메인 메뉴로
+    private void handleCancel() {
+        if (searching) {
+            client.sendQuickMatchCancel();
+            stopSearch("매칭을 취소했습니다.");
+        } else {
+            handleClose();
+        }
+    }
+
+    private void stopSearch(String message) {
+        searching = false;
+        waitTimer.stop();
+        setControlsEnabled(true);
+        statusLabel.setText(message);
+    }
+
+    private void setControlsEnabled(boolean enabled) {
+        gameModeCombo.setEnabled(enabled);
+        difficultyCombo.setEnabled(enabled);
+        searchButton.setEnabled(enabled);
+    }
+
+    private void updateStatus() {
+        if (!searching) {
+            return;
+        }
+        long waitedSeconds = (System.currentTimeMillis() - searchStartedMillis) / 1000;
+        String ratingText = rating >= 0 ? " (실력 점수 " + rating + ")" : "";
+        statusLabel.setText("상대를 찾는 중... " + waitedSeconds + "초" + ratingText);
+    }
+
+    // EventBus가 EDT에서 호출
+    @Override
+    public void onGameEvent(String eventType, Object... data) {
+        if (isClosing) {
+            return;
+        }
+
+        switch (eventType) {
+            case ClientEvent.MATCH_QUEUED -> {
+                rating = (int) data[0];
+                updateStatus();
+            }
+            case ClientEvent.MATCH_CANCELLED -> {
+                // 직접 취소한 경우에는 이미 멈춘 상태
+                if (searching) {
+                    stopSearch((String) data[0]);
+                }
+            }
+            case ClientEvent.GAME_STARTED -> handleGameStart(data);
+            // 서버는 끊긴 연결의 대기열 자리를 유지하지 않음 -> 다시 등록
+            case ClientEvent.SESSION_RESUMED -> {
+                if (searching) {
+                    sendSearchRequest();
+                }
+            }
+            case ClientEvent.ERROR_OCCURRED -> showError((String) data[0]);
+        }
+    }
+
+    // GAME_STARTED: 방ID, 참가자 목록 -> 로비를 거치지 않고 바로 게임 화면으로
+    private void handleGameStart(Object... data) {
+        if (data.length < 2 || !(data[1] instanceof String[] players)) {
+            return;
+        }
+
+        isClosing = true;
+        waitTimer.stop();
+        subscription.close();
+        GameScreen gameScreen = new GameScreen(client, (String) data[0], client.getUsername(), players, mainFrame);
+        super.dispose();
+        gameScreen.setVisible(true);
+    }
+
+    // 다이얼로그 닫기 -> 메인 메뉴로
+    private void handleClose() {
+        if (isClosing) {
+            return;
+        }
+
+        isClosing = true;
+        if (searching) {
+            client.sendQuickMatchCancel();
+        }
+        waitTimer.stop();
+        subscription.close();
+
+        MainMenu mainMenu = new MainMenu(client);
+        mainFrame.getContentPane().removeAll();
+        mainFrame.add(mainMenu);
+        mainFrame.setSize(800, 600);
+        mainFrame.setLocationRelativeTo(null);
+        mainFrame.revalidate();
+        mainFrame.repaint();
+        mainFrame.setVisible(true);
+
+        super.dispose();
+    }
+
+    @Override
+    public void dispose() {
+        if (!isClosing) {
+            handleClose();
+        } else {
+            super.dispose();
+        }
+    }
+}
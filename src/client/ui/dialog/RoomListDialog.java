@@ -1,11 +1,14 @@
 /*
  * client.ui.dialog.RoomListDialog.java
  * 게임 방 목록을 표시하는 다이얼로그 창을 정의하는 클래스
+ * - 서버에 필터(언어, 난이도, 빈자리, 공개방)와 커서를 보내 보이는 페이지만 받아 옴
+ * - 방이 바뀌었다는 알림(ROOM_LIST_CHANGED)을 받으면 잠시 모았다가 지금 페이지만 다시 요청
 */
 
 package client.ui.dialog;
 
 import client.app.GameClient;
+import client.event.EventBus;
 import client.event.GameEvent;
 import client.event.GameEvent.ClientEvent;
 import client.event.GameEventListener;
@@ -14,6 +17,8 @@ import client.ui.components.RetroButton;
 import client.ui.game.GameLobby;
 import client.ui.theme.ColorScheme;
 import client.ui.theme.FontManager;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
 import game.model.GameRoom;
 
 import javax.swing.*;
@@ -21,18 +26,40 @@ import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.basic.BasicScrollBarUI;
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 
 public class RoomListDialog extends BaseDialog implements GameEventListener {
+    private static final int PAGE_SIZE = 20;
+    private static final String ALL = "전체";
+    // 변경 알림이 연달아 와도 이 시간 동안 모아 한 번만 다시 요청 (알림이 계속 와도 이 간격마다는 갱신)
+    private static final int CHANGE_THROTTLE_MS = 300;
+
     private final DefaultListModel<RoomListItem> roomListModel;
     private final JList<RoomListItem> roomList;
     private final GameClient client;
+    private final EventBus.Subscription subscription;
     private final JFrame mainFrame;
-    private List<GameRoom> rooms = new ArrayList<>();
+    // 지금 페이지의 방만 보관 -> 셀 렌더링/입장 시 ID로 바로 찾음
+    private final Map<String, GameRoom> roomsById = new HashMap<>();
+    // 지나온 페이지들의 커서 (첫 페이지는 null) -> 이전 페이지로 돌아갈 때 사용
+    private final List<String> previousCursors = new ArrayList<>();
+    private String currentCursor;
+    private String nextCursor;
+    private int totalRooms;
     private Timer refreshTimer;
+    private Timer changeThrottleTimer;
     private JLabel statusLabel;
+    private JLabel pageLabel;
+    private JComboBox<Object> modeFilter;
+    private JComboBox<Object> difficultyFilter;
+    private JCheckBox joinableFilter;
+    private JCheckBox publicFilter;
+    private RetroButton prevButton;
+    private RetroButton nextButton;
     private boolean isClosing = false;
 
     public RoomListDialog(JFrame mainFrame, GameClient client) {
@@ -41,7 +68,9 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
         this.client = client;
 
         mainFrame.setVisible(false);
-        this.client.setEventListener(this);
+        this.subscription = client.subscribe(this,
+                ClientEvent.ROOM_LIST_PAGE, ClientEvent.ROOM_LIST_CHANGED, ClientEvent.SESSION_RESUMED,
+                ClientEvent.ROOM_JOINED, ClientEvent.ROOM_CREATED, ClientEvent.ERROR_OCCURRED);
 
         roomListModel = new DefaultListModel<>();
         roomList = new JList<>(roomListModel);
@@ -51,7 +80,7 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
         setupRefreshTimer();
         setupWindowListener();
 
-        client.sendMessage("ROOM_LIST");
+        requestPage();
     }
 
     private void setupDialog() {
@@ -72,7 +101,12 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
         statusLabel = new JLabel("방 목록을 불러오는 중...");
         statusLabel.setFont(FontManager.getFont(14f));
         statusLabel.setForeground(ColorScheme.TEXT);
-        topPanel.add(statusLabel, BorderLayout.SOUTH);
+
+        JPanel southPanel = new JPanel(new BorderLayout(0, 10));
+        southPanel.setBackground(ColorScheme.BACKGROUND);
+        southPanel.add(createFilterPanel(), BorderLayout.NORTH);
+        southPanel.add(statusLabel, BorderLayout.SOUTH);
+        topPanel.add(southPanel, BorderLayout.SOUTH);
 
         mainPanel.add(topPanel, BorderLayout.NORTH);
         mainPanel.add(createListPanel(), BorderLayout.CENTER);
@@ -93,6 +127,69 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
         return panel;
     }
 
+    // 필터가 바뀌면 첫 페이지부터 다시 요청
+    private JPanel createFilterPanel() {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
+        panel.setBackground(ColorScheme.BACKGROUND);
+
+        modeFilter = createFilterComboBox(GameMode.values());
+        difficultyFilter = createFilterComboBox(DifficultyLevel.values());
+        joinableFilter = createFilterCheckBox("빈자리 있는 방만");
+        publicFilter = createFilterCheckBox("공개방만");
+
+        panel.add(createFilterLabel("프로그래밍 언어:"));
+        panel.add(modeFilter);
+        panel.add(createFilterLabel("난이도:"));
+        panel.add(difficultyFilter);
+        panel.add(joinableFilter);
+        panel.add(publicFilter);
+        return panel;
+    }
+
+    private JLabel createFilterLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setFont(FontManager.getFont(14f));
+        label.setForeground(ColorScheme.TEXT);
+        return label;
+    }
+
+    private JComboBox<Object> createFilterComboBox(Object[] values) {
+        JComboBox<Object> comboBox = new JComboBox<>();
+        comboBox.addItem(ALL);
+        for (Object value : values) {
+            comboBox.addItem(value);
+        }
+
+        comboBox.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value,
+                                                          int index, boolean isSelected, boolean cellHasFocus) {
+                JLabel label = (JLabel) super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+                label.setFont(FontManager.getFont(14f));
+                label.setForeground(ColorScheme.TEXT);
+                label.setBackground(isSelected ? ColorScheme.PRIMARY : ColorScheme.SECONDARY);
+                label.setOpaque(true);
+                return label;
+            }
+        });
+        comboBox.setBackground(ColorScheme.SECONDARY);
+        comboBox.setForeground(ColorScheme.TEXT);
+        comboBox.setFont(FontManager.getFont(14f));
+        comboBox.setBorder(BorderFactory.createLineBorder(ColorScheme.PRIMARY));
+        comboBox.addActionListener(e -> showFirstPage());
+        return comboBox;
+    }
+
+    private JCheckBox createFilterCheckBox(String text) {
+        JCheckBox checkBox = new JCheckBox(text);
+        checkBox.setFont(FontManager.getFont(14f));
+        checkBox.setForeground(ColorScheme.TEXT);
+        checkBox.setBackground(ColorScheme.BACKGROUND);
+        checkBox.setFocusable(false);
+        checkBox.addActionListener(e -> showFirstPage());
+        return checkBox;
+    }
+
     private JPanel createListPanel() {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBackground(ColorScheme.BACKGROUND);
@@ -132,6 +229,47 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
     }
 
     private JPanel createButtonPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBackground(ColorScheme.BACKGROUND);
+        panel.add(createPagePanel(), BorderLayout.WEST);
+        panel.add(createActionPanel(), BorderLayout.EAST);
+        return panel;
+    }
+
+    private JPanel createPagePanel() {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 15, 0));
+        panel.setBackground(ColorScheme.BACKGROUND);
+
+        prevButton = new RetroButton("이전 (PgUp)");
+        nextButton = new RetroButton("다음 (PgDn)");
+        prevButton.setEnabled(false);
+        nextButton.setEnabled(false);
+        prevButton.addActionListener(e -> showPreviousPage());
+        nextButton.addActionListener(e -> showNextPage());
+
+        pageLabel = new JLabel();
+        pageLabel.setFont(FontManager.getFont(14f));
+        pageLabel.setForeground(ColorScheme.TEXT);
+
+        getRootPane().registerKeyboardAction(
+                e -> prevButton.doClick(),
+                KeyStroke.getKeyStroke("PAGE_UP"),
+                JComponent.WHEN_IN_FOCUSED_WINDOW
+        );
+
+        getRootPane().registerKeyboardAction(
+                e -> nextButton.doClick(),
+                KeyStroke.getKeyStroke("PAGE_DOWN"),
+                JComponent.WHEN_IN_FOCUSED_WINDOW
+        );
+
+        panel.add(prevButton);
+        panel.add(pageLabel);
+        panel.add(nextButton);
+        return panel;
+    }
+
+    private JPanel createActionPanel() {
         JPanel panel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 15, 0));
         panel.setBackground(ColorScheme.BACKGROUND);
 
@@ -186,6 +324,9 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
     private void setupRefreshTimer() {
         refreshTimer = new Timer(30000, e -> refreshRoomList());
         refreshTimer.start();
+
+        changeThrottleTimer = new Timer(CHANGE_THROTTLE_MS, e -> requestPage());
+        changeThrottleTimer.setRepeats(false);
     }
 
     private void setupWindowListener() {
@@ -197,10 +338,40 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
         });
     }
 
-    // 방 목록 새로고침
+    // 방 목록 새로고침 -> 지금 보고 있는 페이지만 다시 요청
     public void refreshRoomList() {
         statusLabel.setText("방 목록을 새로고치는 중...");
-        client.sendMessage("ROOM_LIST");
+        requestPage();
+    }
+
+    private void requestPage() {
+        client.sendRoomListPageRequest(currentCursor, PAGE_SIZE,
+                modeFilter.getSelectedItem() instanceof GameMode mode ? mode : null,
+                difficultyFilter.getSelectedItem() instanceof DifficultyLevel difficulty ? difficulty : null,
+                joinableFilter.isSelected(), publicFilter.isSelected());
+    }
+
+    private void showFirstPage() {
+        previousCursors.clear();
+        currentCursor = null;
+        refreshRoomList();
+    }
+
+    private void showNextPage() {
+        if (nextCursor == null) {
+            return;
+        }
+        previousCursors.add(currentCursor);
+        currentCursor = nextCursor;
+        requestPage();
+    }
+
+    private void showPreviousPage() {
+        if (previousCursors.isEmpty()) {
+            return;
+        }
+        currentCursor = previousCursors.remove(previousCursors.size() - 1);
+        requestPage();
     }
 
     // 방 만들기 다이얼로그 표시
@@ -288,10 +459,14 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
             if (refreshTimer != null) {
                 refreshTimer.stop();
             }
+            if (changeThrottleTimer != null) {
+                changeThrottleTimer.stop();
+            }
+
+            subscription.close();
 
-            // MainMenu 생성 및 설정
+            // MainMenu 생성 (생성 시 이벤트 구독)
             MainMenu mainMenu = new MainMenu(client);
-            client.setEventListener(mainMenu);
 
             // mainFrame 업데이트
             if (mainFrame != null) {
@@ -317,50 +492,62 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
         }
     }
 
-    // 게임 방에 관련된 정보 관리
+    // 게임 방에 관련된 정보 관리 -> 지금 페이지에 있는 방만 찾을 수 있음
     private GameRoom findRoomById(String roomId) {
-        return rooms.stream()
-                .filter(room -> room.getRoomId().equals(roomId))
-                .findFirst()
-                .orElse(null);
+        return roomsById.get(roomId);
     }
 
+    // EventBus가 EDT에서 호출
     @Override
     public void onGameEvent(String eventType, Object... data) {
-        SwingUtilities.invokeLater(() -> {
-            switch (eventType) {
-                case ClientEvent.ROOM_LIST_UPDATED -> handleRoomListUpdate(data);
-                case ClientEvent.ROOM_JOINED -> handleRoomJoined(data);
-                case ClientEvent.ROOM_CREATED -> handleRoomCreated(data);
-                case ClientEvent.ERROR_OCCURRED -> handleError((String) data[0]);
+        switch (eventType) {
+            case ClientEvent.ROOM_LIST_PAGE -> handleRoomListPage(data);
+            // 여러 알림을 모아 한 번만 요청 -> 타이머를 다시 시작하지 않음 (다시 시작하면 알림이 계속 오는 동안 갱신되지 않음)
+            case ClientEvent.ROOM_LIST_CHANGED -> {
+                if (!changeThrottleTimer.isRunning()) {
+                    changeThrottleTimer.start();
+                }
             }
-        });
+            // 끊긴 동안 바뀐 목록을 다시 받음
+            case ClientEvent.SESSION_RESUMED -> refreshRoomList();
+            case ClientEvent.ROOM_JOINED -> handleRoomJoined(data);
+            case ClientEvent.ROOM_CREATED -> handleRoomCreated(data);
+            case ClientEvent.ERROR_OCCURRED -> handleError((String) data[0]);
+        }
     }
 
-    private void handleRoomListUpdate(Object... data) {
+    // 데이터: 전체 방 수, 다음 커서(마지막 페이지면 null), 방 정보 배열
+    private void handleRoomListPage(Object... data) {
+        int total = (int) data[0];
+        String[] roomInfos = (String[]) data[2];
+
+        // 보고 있던 페이지의 방이 모두 사라짐 -> 앞 페이지로 돌아가서 다시 요청
+        if (roomInfos.length == 0 && !previousCursors.isEmpty()) {
+            showPreviousPage();
+            return;
+        }
+
+        RoomListItem selectedItem = roomList.getSelectedValue();
+        String selectedRoomId = selectedItem != null ? selectedItem.getRoomId() : null;
+
+        totalRooms = total;
+        nextCursor = (String) data[1];
         roomListModel.clear();
-        rooms.clear();
-
-        if (data.length > 0) {
-            String[] roomInfos;
-            if (data[0] instanceof String[]) {
-                roomInfos = (String[]) data[0];
-            } else if (data[0] instanceof String) {
-                roomInfos = new String[]{(String) data[0]};
-            } else {
-                return;
-            }
+        roomsById.clear();
 
-            for (String roomInfo : roomInfos) {
-                try {
-                    GameRoom room = GameRoom.fromString(roomInfo);
-                    if (room != null) {
-                        rooms.add(room);
-                        roomListModel.addElement(new RoomListItem(room));
+        for (String roomInfo : roomInfos) {
+            try {
+                GameRoom room = GameRoom.fromString(roomInfo);
+                if (room != null) {
+                    roomsById.put(room.getRoomId(), room);
+                    roomListModel.addElement(new RoomListItem(room));
+                    // 목록이 다시 와도 선택은 유지
+                    if (room.getRoomId().equals(selectedRoomId)) {
+                        roomList.setSelectedIndex(roomListModel.size() - 1);
                     }
-                } catch (Exception e) {
-                    e.printStackTrace();
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
             }
         }
 
@@ -370,11 +557,18 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
     }
 
     private void updateStatusLabel() {
-        String status = String.format("총 %d개의 방이 있습니다.", rooms.size());
-        if (rooms.isEmpty()) {
-            status = "현재 생성된 방이 없습니다. 새로운 방을 만들어보세요!";
+        boolean filtered = modeFilter.getSelectedItem() != ALL || difficultyFilter.getSelectedItem() != ALL
+                || joinableFilter.isSelected() || publicFilter.isSelected();
+        String status = String.format("총 %d개의 방이 있습니다.", totalRooms);
+        if (totalRooms == 0) {
+            status = filtered ? "조건에 맞는 방이 없습니다." : "현재 생성된 방이 없습니다. 새로운 방을 만들어보세요!";
         }
         statusLabel.setText(status);
+
+        int pages = Math.max(1, (totalRooms + PAGE_SIZE - 1) / PAGE_SIZE);
+        pageLabel.setText((previousCursors.size() + 1) + " / " + pages);
+        prevButton.setEnabled(!previousCursors.isEmpty());
+        nextButton.setEnabled(nextCursor != null);
     }
 
     private void handleRoomJoined(Object... data) {
@@ -388,6 +582,8 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
 
                 if (joinedRoom != null) {
                     setVisible(false);  // 방 목록 숨기기
+                    // 로비에서 나오면 새 메인 메뉴로 돌아가므로 방 목록은 더 이상 이벤트를 받지 않음
+                    subscription.close();
                     new GameLobby(joinedRoom, client, mainFrame);
                 } else {
                     throw new Exception("방 정보 변환 실패");
@@ -0,0 +1,67 @@
+/*
+ * client.ui.game.FallingWord.java
+ * 게임 화면에 떨어지는 단어의 렌더링 모델
+ * 위치(y)는 시뮬레이션 스텝마다 갱신되며, 색상은 특수 효과에 따라 생성 시 한 번만 정함
+ * 직전 스텝의 위치(prevY)를 함께 두어 능동 렌더링에서 스텝 사이를 보간해 그림
+ * 서버와는 단어 ID(wordId)로 주고받고, text는 화면 표시와 입력 비교에 사용
+ */
+
+package client.ui.game;
+
+import client.ui.theme.ColorScheme;
+import game.model.SpecialEffect;
+
+import java.awt.Color;
+
+public class FallingWord {
+    private final int wordId;
+    private final String text;
+    private final int x;
+    private int y;
+    private int prevY;
+    private final SpecialEffect effect;
+    private final Color color;
+
+    public FallingWord(int wordId, String text, int x, SpecialEffect effect) {
+        this.wordId = wordId;
+        this.text = text;
+        this.x = x;
+        this.y = 0;
+        this.effect = effect;
+        this.color = colorOf(effect);
+    }
+
+    static Color colorOf(SpecialEffect effect) {
+        if (effect == null) {
+            return Color.WHITE;
+        }
+        return switch (effect) {
+            case SCORE_BOOST -> ColorScheme.ITEM_SCORE_BOOST;
+            case BLIND_OPPONENT -> ColorScheme.ITEM_BLIND;
+        };
+    }
+
+    public int getWordId() { return wordId; }
+
+    public String getText() { return text; }
+
+    public int getX() { return x; }
+
+    public int getY() { return y; }
+
+    public void fall(int dy) {
+        prevY = y;
+        y += dy;
+    }
+
+    // alpha: 0이면 직전 스텝 위치, 1이면 현재 위치
+    public int getRenderY(double alpha) {
+        return (int) Math.round(prevY + (y - prevY) * alpha);
+    }
+
+    public boolean hasSpecialEffect() { return effect != null; }
+
+    public SpecialEffect getEffect() { return effect; }
+
+    public Color getColor() { return color; }
+}
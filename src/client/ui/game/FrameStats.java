@@ -0,0 +1,54 @@
+/*
+ * client.ui.game.FrameStats.java
+ * 능동 렌더링 루프의 프레임 계측
+ * - 프레임 간격(이전 프레임 시작 ~ 이번 프레임 시작)과 렌더 시간(그리기 + show)을 히스토그램으로 기록
+ * - 시뮬레이션 스텝 수와, 렌더가 밀려 따라잡지 못하고 버린 스텝 수를 셈
+ * - 렌더 스레드에서만 기록 (히스토그램은 서버/봇과 같은 LatencyHistogram 재사용)
+ */
+
+package client.ui.game;
+
+import common.metrics.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+final class FrameStats {
+    private final LatencyHistogram frameInterval = new LatencyHistogram();
+    private final LatencyHistogram renderTime = new LatencyHistogram();
+    private final long startNanos = System.nanoTime();
+    private long frames;
+    private long steps;
+    private long droppedSteps;
+
+    void recordFrame(long intervalNanos, long renderNanos, int stepsThisFrame) {
+        frames++;
+        steps += stepsThisFrame;
+        if (frames > 1) {
+            frameInterval.recordNanos(intervalNanos);
+        }
+        renderTime.recordNanos(renderNanos);
+    }
+
+    void recordDroppedSteps(long count) {
+        droppedSteps += count;
+    }
+
+    String report() {
+        double seconds = Math.max(1, System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        return String.format("프레임 %d (%.1f fps), 스텝 %d, 버린 스텝 %d | 간격 %s | 렌더 %s",
+                frames, frames / seconds, steps, droppedSteps,
+                formatPercentiles(frameInterval.snapshot()),
+                formatPercentiles(renderTime.snapshot()));
+    }
+
+    private static String formatPercentiles(LatencyHistogram.Snapshot snapshot) {
+        return String.format("p50=%s p99=%s max=%s",
+                millis(snapshot.getValueAtQuantile(0.5)),
+                millis(snapshot.getValueAtQuantile(0.99)),
+                millis(snapshot.getMaxNanos()));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2fms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
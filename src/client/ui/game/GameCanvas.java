@@ -0,0 +1,164 @@
+/*
+ * client.ui.game.GameCanvas.java
+ * 능동 렌더링(active rendering)용 게임 화면
+ * - Swing repaint 요청 대신 전용 렌더 스레드가 BufferStrategy(더블 버퍼)에 직접 그리고 show()
+ * - 시뮬레이션(단어 낙하)은 고정 간격(60Hz)으로 진행, 렌더링은 두 스텝 사이를 보간해 목표 FPS로 그림
+ *   -> 프레임 간격이 흔들려도 단어 속도는 일정하고, 단어가 많아 한 프레임이 늦어도 다음 프레임에 따라잡음
+ * - -Dacidrain.render.active=true 일 때만 사용 (기본은 Swing Timer + JPanel)
+ * - 목표 FPS는 -Dacidrain.render.fps, 없으면 모니터 주사율 (알 수 없으면 60)
+ */
+
+package client.ui.game;
+
+import common.log.Log;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+final class GameCanvas extends Canvas {
+    // 렌더 스레드에서 호출되는 화면 내용 (GameScreen이 구현)
+    interface Scene {
+        // 고정 간격 한 번만큼 상태를 진행
+        void step();
+
+        // alpha: 직전 스텝과 현재 스텝 사이의 보간 비율 (0.0 ~ 1.0)
+        void render(Graphics2D g, double alpha, int width, int height);
+    }
+
+    static final String ACTIVE_PROPERTY = "acidrain.render.active";
+    static final String FPS_PROPERTY = "acidrain.render.fps";
+    static final long STEP_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+
+    private static final Log logger = Log.get(GameCanvas.class);
+    // 창 이동 등으로 렌더가 오래 멈췄을 때 한 프레임에 따라잡을 최대 스텝 수, 넘는 시간은 버림
+    private static final int MAX_STEPS_PER_FRAME = 5;
+    private static final long STATS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final Scene scene;
+    private final long frameNanos;
+    private final FrameStats stats = new FrameStats();
+    private volatile boolean running;
+    private Thread renderThread;
+
+    GameCanvas(Scene scene) {
+        this.scene = scene;
+        this.frameNanos = TimeUnit.SECONDS.toNanos(1) / targetFps();
+        // 운영체제/Swing의 paint 요청은 무시하고 렌더 스레드만 그림
+        setIgnoreRepaint(true);
+    }
+
+    static boolean isActiveRenderingEnabled() {
+        return Boolean.getBoolean(ACTIVE_PROPERTY);
+    }
+
+    private static int targetFps() {
+        int fps = Integer.getInteger(FPS_PROPERTY, 0);
+        if (fps > 0) {
+            return fps;
+        }
+        try {
+            int refreshRate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+            return refreshRate != DisplayMode.REFRESH_RATE_UNKNOWN ? refreshRate : 60;
+        } catch (HeadlessException e) {
+            return 60;
+        }
+    }
+
+    // 화면에 붙기 전에 호출해도 됨 -> 렌더 스레드는 표시될 때까지 기다림
+    void start() {
+        running = true;
+        renderThread = new Thread(this::renderLoop, "game-render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    void stop() {
+        running = false;
+        Thread thread = renderThread;
+        if (thread == null || thread == Thread.currentThread()) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info(() -> "렌더링 종료: " + stats.report());
+    }
+
+    private void renderLoop() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        long nextReportAt = previous + STATS_INTERVAL_NANOS;
+
+        while (running) {
+            long frameStart = System.nanoTime();
+            long elapsed = frameStart - previous;
+            previous = frameStart;
+
+            if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+                LockSupport.parkNanos(frameNanos);
+                continue;
+            }
+
+            accumulator += elapsed;
+            int steps = 0;
+            while (accumulator >= STEP_NANOS && steps < MAX_STEPS_PER_FRAME) {
+                scene.step();
+                accumulator -= STEP_NANOS;
+                steps++;
+            }
+            if (accumulator >= STEP_NANOS) {
+                stats.recordDroppedSteps(accumulator / STEP_NANOS);
+                accumulator %= STEP_NANOS;
+            }
+
+            render((double) accumulator / STEP_NANOS);
+            long renderEnd = System.nanoTime();
+            stats.recordFrame(elapsed, renderEnd - frameStart, steps);
+
+            if (renderEnd >= nextReportAt) {
+                logger.fine(stats::report);
+                nextReportAt = renderEnd + STATS_INTERVAL_NANOS;
+            }
+
+            long sleepNanos = frameStart + frameNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(sleepNanos);
+            }
+        }
+    }
+
+    private void render(double alpha) {
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            createBufferStrategy(2);
+            return;
+        }
+
+        try {
+            do {
+                do {
+                    Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                    try {
+                        g.setColor(getBackground());
+                        g.fillRect(0, 0, getWidth(), getHeight());
+                        scene.render(g, alpha, getWidth(), getHeight());
+                    } finally {
+                        g.dispose();
+                    }
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+        } catch (IllegalStateException e) {
+            // 창이 닫히는 중 버퍼가 해제된 경우 -> 다음 프레임에서 표시 여부를 다시 확인
+            return;
+        }
+        // 일부 플랫폼(X11)은 버퍼 교체를 모아 두므로 바로 반영
+        Toolkit.getDefaultToolkit().sync();
+    }
+}
@@ -6,6 +6,7 @@
 package client.ui.game;
 
 import client.app.GameClient;
+import client.event.EventBus;
 import client.event.GameEvent;
 import client.event.GameEvent.*;
 import client.event.GameEvent.ClientEvent;
@@ -15,6 +16,7 @@ import client.ui.theme.ColorScheme;
 import client.ui.theme.FontManager;
 import client.ui.components.GameTextField;
 import client.ui.components.RetroButton;
+import common.log.Log;
 import game.model.GameMode;
 import game.model.DifficultyLevel;
 import game.model.GameRoom;
@@ -24,14 +26,14 @@ import javax.swing.plaf.basic.BasicScrollBarUI;
 import java.awt.*;
 import java.awt.event.*;
 import java.util.Arrays;
-import java.util.logging.Logger;
 
 public class GameLobby extends JFrame implements GameEventListener {
-    private static final Logger logger = Logger.getLogger(GameLobby.class.getName());
+    private static final Log logger = Log.get(GameLobby.class);
 
     private final GameRoom room;
     private final GameClient client;
     private final JFrame mainFrame;
+    private final EventBus.Subscription subscription;
     private JTextArea chatArea;
     private GameTextField chatInput;
     private JLabel statusLabel;
@@ -59,8 +61,11 @@ public class GameLobby extends JFrame implements GameEventListener {
             updatePlayerList(room.getPlayers());
         }
 
-        // 이벤트 리스너 설정
-        client.setEventListener(this);
+        // 이벤트 구독
+        subscription = client.subscribe(this,
+                ClientEvent.PLAYER_UPDATED, ClientEvent.CHAT_RECEIVED, ClientEvent.SETTINGS_UPDATED,
+                ClientEvent.GAME_STARTED, ClientEvent.HOST_LEFT, ClientEvent.NEW_HOST,
+                ClientEvent.ROOM_CLOSED, ClientEvent.ERROR_OCCURRED);
 
         // 서버에 플레이어 목록 요청
         // 서버에 플레이어 목록 요청
@@ -326,7 +331,7 @@ public class GameLobby extends JFrame implements GameEventListener {
             return;
         }
 
-        logger.info("플레이어 목록 업데이트: " + Arrays.toString(players));
+        logger.fine(() -> "플레이어 목록 업데이트: " + Arrays.toString(players));
 
         playerListPanel.removeAll();
         JPanel listPanel = new JPanel();
@@ -487,6 +492,7 @@ public class GameLobby extends JFrame implements GameEventListener {
             room.setPlayers(players);
         }
 
+        subscription.close();
         GameScreen gameScreen = new GameScreen(client, room.getRoomId(), client.getUsername(), players, mainFrame);
         isClosing = true;
         super.dispose();
@@ -543,11 +549,7 @@ public class GameLobby extends JFrame implements GameEventListener {
      */
     @Override
     public void onGameEvent(String eventType, Object... data) {
-        if (!SwingUtilities.isEventDispatchThread()) {
-            SwingUtilities.invokeLater(() -> onGameEvent(eventType, data));
-            return;
-        }
-
+        // EventBus가 EDT에서 호출
         try {
             switch (eventType) {
                 case ClientEvent.PLAYER_UPDATED -> handlePlayerUpdate(data);
@@ -668,9 +670,8 @@ public class GameLobby extends JFrame implements GameEventListener {
 
     private void transitionToMainMenu() {
         SwingUtilities.invokeLater(() -> {
-            // MainMenu 생성 및 설정
+            // MainMenu 생성 (생성 시 이벤트 구독)
             MainMenu mainMenu = new MainMenu(client);
-            client.setEventListener(mainMenu);
 
             // mainFrame 업데이트
             if (mainFrame != null) {
@@ -703,7 +704,7 @@ public class GameLobby extends JFrame implements GameEventListener {
         if (!isClosing) {
             handleLeaveRoom();
         } else {
-            client.setEventListener(null);
+            subscription.close();
             super.dispose();
         }
     }
@@ -6,41 +6,65 @@
 package client.ui.game;
 
 import client.app.GameClient;
+import client.event.EventBus;
 import client.event.GameEvent.*;
 import client.event.GameEventListener;
 import client.ui.MainMenu;
 import client.ui.components.GameTextField;
 import client.ui.theme.ColorScheme;
 import client.ui.theme.FontManager;
-import game.model.Word;
+import common.log.Log;
+import game.model.SpecialEffect;
+import game.model.WordTable;
+import game.model.WordTrie;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.logging.Logger;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class GameScreen extends JFrame implements GameEventListener {
-    private static final Logger logger = Logger.getLogger(GameScreen.class.getName());
+public class GameScreen extends JFrame implements GameEventListener, GameCanvas.Scene {
+    private static final Log logger = Log.get(GameScreen.class);
     private static final double INITIAL_PH = 7.0;
+    // 시뮬레이션 스텝(1/60초)마다 단어가 내려오는 픽셀 수
+    private static final int FALL_STEP = 2;
+    private static final float WORD_FONT_SIZE = 16f;
+    // 단어 스프라이트는 게임 화면끼리 공유 (같은 모드의 단어를 다음 게임에서도 재사용)
+    private static final WordSpriteCache wordSprites = WordSpriteCache.create();
 
     private final GameClient client;
     private final String roomId;
     private final JFrame mainFrame;
     private final String myName;
     private final String[] players;
+    private final EventBus.Subscription subscription;
 
     private final Map<String, Integer> scoreByPlayer = new LinkedHashMap<>();
     private final Map<String, Double> phByPlayer = new LinkedHashMap<>();
-    private final List<Word> activeWords = new ArrayList<>();
-
-    private JPanel gamePanel;
+    private final List<FallingWord> activeWords = new ArrayList<>();
+    // 화면 단어의 접두사 트라이 -> 키 입력마다 O(입력 길이)로 일치 여부 확인, activeWords 락으로 보호
+    private final WordTrie activeWordTrie = new WordTrie();
+    // 점수판 값 라벨은 플레이어마다 한 번만 만들고 재사용
+    private final Map<String, JLabel> scoreboardValueLabels = new HashMap<>();
+    // 점수/pH가 바뀐 플레이어 (이벤트 처리에서 추가, 화면 갱신 타이머가 비움)
+    private final Set<String> dirtyPlayers = ConcurrentHashMap.newKeySet();
+
+    // 단어가 그려지는 영역: 기본은 JPanel(수동 렌더링), 능동 렌더링이면 GameCanvas
+    private Component gameView;
+    private GameCanvas gameCanvas;
     private JPanel scoreboardPanel;
     private GameTextField inputField;
     private JLabel scoreLabel;
@@ -49,10 +73,14 @@ public class GameScreen extends JFrame implements GameEventListener {
     private JProgressBar phMeter;
     private Timer screenRefreshTimer;
 
-    private boolean isBlinded = false;
-    private long blindEndTime = 0;
+    // 렌더 스레드에서도 읽으므로 volatile
+    private volatile boolean isBlinded = false;
+    private volatile long blindEndTime = 0;
     private volatile boolean isClosing = false;
     private boolean roomLeaveSent = false;
+    // 입력 중인 접두사와, 그 접두사로 시작하는 화면 단어가 있는지 (EDT에서만 갱신)
+    private volatile String typedPrefix = "";
+    private volatile boolean prefixMatches = true;
 
     public GameScreen(GameClient client, String roomId, String myName, String[] players, JFrame mainFrame) {
         this.client = client;
@@ -62,7 +90,9 @@ public class GameScreen extends JFrame implements GameEventListener {
         this.mainFrame = mainFrame;
 
         initializePlayerState();
-        client.setEventListener(this);
+        subscription = client.subscribe(this,
+                ClientEvent.WORD_SPAWNED, ClientEvent.WORD_MATCHED, ClientEvent.WORD_MISSED, ClientEvent.PH_UPDATE,
+                ClientEvent.BLIND_EFFECT, ClientEvent.GAME_OVER, ClientEvent.ROOM_CLOSED, ClientEvent.SESSION_RESUMED);
         initializeFrame();
         setupUI();
         setupInput();
@@ -155,15 +185,23 @@ public class GameScreen extends JFrame implements GameEventListener {
         return panel;
     }
 
-    private JPanel createGamePanel() {
-        gamePanel = new JPanel() {
+    private Component createGamePanel() {
+        if (GameCanvas.isActiveRenderingEnabled()) {
+            gameCanvas = new GameCanvas(this);
+            gameCanvas.setBackground(ColorScheme.BACKGROUND);
+            gameView = gameCanvas;
+            return gameCanvas;
+        }
+
+        JPanel gamePanel = new JPanel() {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                drawGame(g);
+                render((Graphics2D) g, 1.0, getWidth(), getHeight());
             }
         };
         gamePanel.setBackground(ColorScheme.BACKGROUND);
+        gameView = gamePanel;
         return gamePanel;
     }
 
@@ -177,7 +215,7 @@ public class GameScreen extends JFrame implements GameEventListener {
                 BorderFactory.createEmptyBorder(12, 12, 12, 12)
         ));
 
-        refreshScoreboardPanel();
+        buildScoreboardPanel();
         return scoreboardPanel;
     }
 
@@ -214,11 +252,32 @@ public class GameScreen extends JFrame implements GameEventListener {
         inputField.addActionListener(e -> {
             String input = inputField.getText().trim();
             if (!input.isEmpty()) {
-                client.sendGameAction(roomId, ClientCommand.WORD_INPUT, input);
+                // 화면에 없는 단어는 서버에 보내지 않음 (판정과 점수는 여전히 서버가 결정)
+                if (isWordOnScreen(input)) {
+                    client.sendGameAction(roomId, ClientCommand.WORD_INPUT, input);
+                } else {
+                    logger.fine(() -> "화면에 없는 단어 입력 무시: " + input);
+                }
                 inputField.setText("");
             }
         });
 
+        inputField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                updateInputFeedback();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                updateInputFeedback();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
+
         getRootPane().registerKeyboardAction(
                 e -> handleGameEnd(),
                 KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0),
@@ -226,41 +285,87 @@ public class GameScreen extends JFrame implements GameEventListener {
         );
     }
 
+    private boolean isWordOnScreen(String input) {
+        synchronized (activeWords) {
+            return activeWordTrie.contains(input);
+        }
+    }
+
+    // 입력 중인 접두사로 시작하는 단어가 없으면 입력창 글자를 빨간색으로 표시
+    private void updateInputFeedback() {
+        String prefix = inputField.getText().trim();
+        boolean matches;
+        synchronized (activeWords) {
+            matches = prefix.isEmpty() || activeWordTrie.hasPrefix(prefix);
+        }
+        if (matches != prefixMatches) {
+            prefixMatches = matches;
+            inputField.setForeground(matches ? ColorScheme.TEXT : ColorScheme.ERROR);
+        } else if (prefix.equals(typedPrefix)) {
+            return;
+        }
+        typedPrefix = prefix;
+        repaintGameView();
+    }
+
+    // 능동 렌더링이면 렌더 스레드가 매 프레임 그리므로 repaint 요청이 필요 없음
+    private void repaintGameView() {
+        if (gameCanvas == null) {
+            gameView.repaint();
+        }
+    }
+
     private void setupTimers() {
         screenRefreshTimer = new Timer(1000 / 60, e -> refreshScreen());
         screenRefreshTimer.start();
+        if (gameCanvas != null) {
+            gameCanvas.start();
+        }
+    }
+
+    // 수동 렌더링은 EDT(Swing Timer)에서, 능동 렌더링은 렌더 스레드에서 호출
+    @Override
+    public void step() {
+        int floor = gameView.getHeight();
+        if (isClosing || floor <= 0) {
+            return;
+        }
+
+        synchronized (activeWords) {
+            for (Iterator<FallingWord> it = activeWords.iterator(); it.hasNext(); ) {
+                FallingWord word = it.next();
+                word.fall(FALL_STEP);
+                if (word.getY() > floor) {
+                    it.remove();
+                    activeWordTrie.remove(word.getText());
+                    client.sendGameAction(roomId, ClientEvent.WORD_MISSED, String.valueOf(word.getWordId()));
+                }
+            }
+        }
     }
 
-    private void drawGame(Graphics g) {
-        Graphics2D g2d = (Graphics2D) g;
+    @Override
+    public void render(Graphics2D g2d, double alpha, int width, int height) {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.setFont(FontManager.getFont(16f));
+        g2d.setFont(FontManager.getFont(WORD_FONT_SIZE));
 
+        String prefix = typedPrefix;
+        boolean highlight = !prefix.isEmpty() && prefixMatches;
         synchronized (activeWords) {
-            for (Word word : activeWords) {
-                if (word.hasSpecialEffect()) {
-                    g2d.setFont(FontManager.getEmojiFont(16f));
-                    if (word.getEffect() == Word.SpecialEffect.SCORE_BOOST) {
-                        g2d.setColor(ColorScheme.ITEM_SCORE_BOOST);
-                        g2d.drawString("⚡", word.getX() - 25, word.getY());
-                        g2d.setFont(FontManager.getFont(16f));
-                        g2d.setColor(ColorScheme.ITEM_SCORE_BOOST);
-                    } else {
-                        g2d.setColor(ColorScheme.ITEM_BLIND);
-                        g2d.drawString("⭐", word.getX() - 25, word.getY());
-                        g2d.setFont(FontManager.getFont(16f));
-                        g2d.setColor(ColorScheme.ITEM_BLIND);
-                    }
-                } else {
-                    g2d.setColor(Color.WHITE);
+            for (FallingWord word : activeWords) {
+                int y = word.getRenderY(alpha);
+                wordSprites.get(g2d, word, WORD_FONT_SIZE).draw(g2d, word.getX(), y);
+                // 입력 중인 접두사와 일치하는 부분을 강조색으로 덧그림
+                if (highlight && word.getText().startsWith(prefix)) {
+                    g2d.setColor(ColorScheme.ACCENT);
+                    g2d.drawString(prefix, word.getX(), y);
                 }
-                g2d.drawString(word.getText(), word.getX(), word.getY());
             }
         }
 
         if (isBlinded && System.currentTimeMillis() < blindEndTime) {
             g2d.setColor(new Color(0, 0, 0, 180));
-            g2d.fillRect(0, 0, getWidth(), getHeight());
+            g2d.fillRect(0, 0, width, height);
         } else if (isBlinded && System.currentTimeMillis() >= blindEndTime) {
             isBlinded = false;
         }
@@ -271,21 +376,36 @@ public class GameScreen extends JFrame implements GameEventListener {
             return;
         }
 
-        synchronized (activeWords) {
-            for (Word word : new ArrayList<>(activeWords)) {
-                word.setY(word.getY() + 2);
-                if (word.getY() > gamePanel.getHeight()) {
-                    activeWords.remove(word);
-                    client.sendGameAction(roomId, ClientEvent.WORD_MISSED, word.getText());
-                }
-            }
+        // 능동 렌더링이면 단어 이동과 그리기는 렌더 스레드가 맡고, 이 타이머는 Swing 컴포넌트만 갱신
+        if (gameCanvas == null) {
+            step();
+            gameView.repaint();
         }
 
-        updateGameInfo();
-        gamePanel.repaint();
+        // 단어가 생기거나 사라지면 같은 입력이라도 일치 여부가 바뀜
+        updateInputFeedback();
+        if (!dirtyPlayers.isEmpty()) {
+            updateGameInfo();
+        }
     }
 
+    // 바뀐 플레이어의 라벨만 갱신 -> 컴포넌트를 새로 만들거나 레이아웃을 다시 계산하지 않음
     private void updateGameInfo() {
+        for (Iterator<String> it = dirtyPlayers.iterator(); it.hasNext(); ) {
+            String player = it.next();
+            it.remove();
+
+            JLabel valueLabel = scoreboardValueLabels.get(player);
+            if (valueLabel != null) {
+                valueLabel.setText(formatPlayerSummary(player));
+            }
+            if (player.equals(myName)) {
+                updateMyInfo();
+            }
+        }
+    }
+
+    private void updateMyInfo() {
         int myScore = scoreByPlayer.getOrDefault(myName, 0);
         double myPH = phByPlayer.getOrDefault(myName, INITIAL_PH);
 
@@ -301,16 +421,15 @@ public class GameScreen extends JFrame implements GameEventListener {
         }
 
         phMeter.setValue((int) (myPH * 10));
-        refreshScoreboardPanel();
     }
 
-    private void refreshScoreboardPanel() {
-        if (scoreboardPanel == null) {
-            return;
-        }
-
-        scoreboardPanel.removeAll();
+    // 점수/pH를 바꾼 뒤 호출, 실제 갱신은 다음 화면 갱신 타이머에서 한 번에
+    private void markDirty(String player) {
+        dirtyPlayers.add(player);
+    }
 
+    // 점수판은 처음 한 번만 구성하고 이후에는 플레이어별 값 라벨의 텍스트만 바꿈
+    private void buildScoreboardPanel() {
         JLabel title = new JLabel("실시간 점수판");
         title.setFont(FontManager.getFont(18f));
         title.setForeground(ColorScheme.TEXT);
@@ -322,9 +441,6 @@ public class GameScreen extends JFrame implements GameEventListener {
             scoreboardPanel.add(createPlayerSummary(player));
             scoreboardPanel.add(Box.createVerticalStrut(8));
         }
-
-        scoreboardPanel.revalidate();
-        scoreboardPanel.repaint();
     }
 
     private JPanel createPlayerSummary(String player) {
@@ -341,17 +457,22 @@ public class GameScreen extends JFrame implements GameEventListener {
         nameLabel.setFont(FontManager.getFont(15f));
         nameLabel.setForeground(ColorScheme.TEXT);
 
-        JLabel valueLabel = new JLabel(String.format("점수 %d | pH %.1f",
-                scoreByPlayer.getOrDefault(player, 0),
-                phByPlayer.getOrDefault(player, INITIAL_PH)));
+        JLabel valueLabel = new JLabel(formatPlayerSummary(player));
         valueLabel.setFont(FontManager.getFont(13f));
         valueLabel.setForeground(ColorScheme.TEXT.brighter());
+        scoreboardValueLabels.put(player, valueLabel);
 
         panel.add(nameLabel, BorderLayout.NORTH);
         panel.add(valueLabel, BorderLayout.SOUTH);
         return panel;
     }
 
+    private String formatPlayerSummary(String player) {
+        return String.format("점수 %d | pH %.1f",
+                scoreByPlayer.getOrDefault(player, 0),
+                phByPlayer.getOrDefault(player, INITIAL_PH));
+    }
+
     private void handleGameEnd() {
         if (isClosing) {
             return;
@@ -371,6 +492,7 @@ public class GameScreen extends JFrame implements GameEventListener {
         }
     }
 
+    // EventBus가 EDT에서 호출
     @Override
     public void onGameEvent(String eventType, Object... data) {
         if (isClosing) {
@@ -385,53 +507,61 @@ public class GameScreen extends JFrame implements GameEventListener {
             case ClientEvent.BLIND_EFFECT -> handleBlindEffect(data);
             case ClientEvent.GAME_OVER -> handleGameOver(data);
             case ClientEvent.ROOM_CLOSED -> handleRoomClosed(data);
+            case ClientEvent.SESSION_RESUMED -> handleSessionResumed(data);
             default -> {
             }
         }
-
-        gamePanel.repaint();
+        // 다시 그리기는 화면 갱신 타이머/렌더 루프가 다음 프레임에 처리
     }
 
     private void handleWordSpawned(Object... data) {
         synchronized (activeWords) {
-            Word word = new Word((String) data[0], (int) data[1], 0);
-            if (data.length > 2) {
-                word.setSpecialEffect(true);
-                word.setEffect((Word.SpecialEffect) data[2]);
-            }
+            SpecialEffect effect = data.length > 3 ? (SpecialEffect) data[3] : null;
+            FallingWord word = new FallingWord((int) data[0], (String) data[1], (int) data[2], effect);
             activeWords.add(word);
+            activeWordTrie.add(word.getText());
         }
     }
 
     private void handleWordMatched(Object... data) {
-        String wordText = (String) data[0];
-        String playerName = (String) data[1];
-        int newScore = (int) data[2];
+        int wordId = (int) data[0];
+        String playerName = (String) data[2];
+        int newScore = (int) data[3];
 
-        synchronized (activeWords) {
-            activeWords.removeIf(w -> w.getText().equals(wordText));
-        }
+        removeWord(wordId);
         scoreByPlayer.put(playerName, newScore);
-        updateGameInfo();
+        markDirty(playerName);
     }
 
     private void handleWordMissed(Object... data) {
-        String missedWord = (String) data[0];
-        String playerName = (String) data[1];
-        double newPH = (double) data[2];
+        int wordId = (int) data[0];
+        String playerName = (String) data[2];
+        double newPH = (double) data[3];
 
+        removeWord(wordId);
+        phByPlayer.put(playerName, newPH);
+        markDirty(playerName);
+    }
+
+    // 같은 단어가 여러 개면 먼저 생성된 것부터 제거 (서버와 같은 순서)
+    private void removeWord(int wordId) {
         synchronized (activeWords) {
-            activeWords.removeIf(w -> w.getText().equals(missedWord));
+            for (int i = 0; i < activeWords.size(); i++) {
+                FallingWord word = activeWords.get(i);
+                if (word.getWordId() == wordId) {
+                    activeWords.remove(i);
+                    activeWordTrie.remove(word.getText());
+                    return;
+                }
+            }
         }
-        phByPlayer.put(playerName, newPH);
-        updateGameInfo();
     }
 
     private void handlePhUpdate(Object... data) {
         String playerName = (String) data[0];
         double newPH = (double) data[1];
         phByPlayer.put(playerName, newPH);
-        updateGameInfo();
+        markDirty(playerName);
     }
 
     private void handleBlindEffect(Object... data) {
@@ -481,6 +611,107 @@ public class GameScreen extends JFrame implements GameEventListener {
         });
     }
 
+    // 재연결 후 서버 스냅샷으로 상태를 맞춤
+    private void handleSessionResumed(Object... data) {
+        String resumedRoomId = (String) data[0];
+        boolean inGame = (boolean) data[1];
+        if (!roomId.equals(resumedRoomId) || !inGame) {
+            // 끊긴 동안 게임이 끝나 결과 메시지를 놓침 -> 메인 메뉴로
+            isClosing = true;
+            stopTimers();
+            SwingUtilities.invokeLater(() -> {
+                JOptionPane.showMessageDialog(this,
+                        "연결이 끊긴 동안 게임이 종료되었습니다.",
+                        "게임 종료",
+                        JOptionPane.INFORMATION_MESSAGE);
+                if (resumedRoomId != null) {
+                    leaveRoomIfNeeded();
+                }
+                showMainMenu();
+            });
+            return;
+        }
+
+        applyPlayerStates((String) data[2]);
+        reconcileWords((String) data[3]);
+    }
+
+    // 플레이어:점수:pH;...
+    private void applyPlayerStates(String playerStates) {
+        if (playerStates.isEmpty()) {
+            return;
+        }
+
+        for (String entry : playerStates.split(";")) {
+            String[] parts = entry.split(":", 3);
+            if (parts.length != 3) {
+                continue;
+            }
+
+            try {
+                scoreByPlayer.put(parts[0], Integer.parseInt(parts[1]));
+                phByPlayer.put(parts[0], Double.parseDouble(parts[2]));
+                markDirty(parts[0]);
+            } catch (NumberFormatException e) {
+                logger.warning("플레이어 상태 파싱 실패: " + entry);
+            }
+        }
+    }
+
+    /*
+     * 단어ID,x[,효과];... (서버의 생성 순서)
+     * 화면에 있고 서버에도 남아 있는 단어는 위치를 유지하고, 서버에서 사라진 단어는 지우고,
+     * 끊긴 동안 생성된 단어는 맨 위에서 새로 떨어뜨림 (서버는 y 좌표를 모름)
+     */
+    private void reconcileWords(String encodedWords) {
+        Map<Integer, ArrayDeque<String[]>> remaining = new LinkedHashMap<>();
+        List<String[]> ordered = new ArrayList<>();
+        if (!encodedWords.isEmpty()) {
+            for (String entry : encodedWords.split(";")) {
+                String[] fields = entry.split(",");
+                if (fields.length < 2) {
+                    continue;
+                }
+                try {
+                    remaining.computeIfAbsent(Integer.parseInt(fields[0]), id -> new ArrayDeque<>()).add(fields);
+                    ordered.add(fields);
+                } catch (NumberFormatException e) {
+                    logger.warning("단어 스냅샷 파싱 실패: " + entry);
+                }
+            }
+        }
+
+        WordTable table = client.getWordTable();
+        synchronized (activeWords) {
+            for (Iterator<FallingWord> it = activeWords.iterator(); it.hasNext(); ) {
+                FallingWord word = it.next();
+                ArrayDeque<String[]> matches = remaining.get(word.getWordId());
+                if (matches != null && !matches.isEmpty()) {
+                    ordered.remove(matches.poll());
+                } else {
+                    it.remove();
+                    activeWordTrie.remove(word.getText());
+                }
+            }
+
+            for (String[] fields : ordered) {
+                int wordId = Integer.parseInt(fields[0]);
+                String text = table != null ? table.textOf(wordId) : null;
+                if (text == null) {
+                    continue;
+                }
+                try {
+                    SpecialEffect effect = fields.length >= 3 ? SpecialEffect.valueOf(fields[2]) : null;
+                    activeWords.add(new FallingWord(wordId, text, Integer.parseInt(fields[1]), effect));
+                    activeWordTrie.add(text);
+                } catch (IllegalArgumentException e) {
+                    logger.warning("단어 스냅샷 파싱 실패: " + String.join(",", fields));
+                }
+            }
+        }
+        updateInputFeedback();
+    }
+
     private void applyScoreSummary(String scoreSummary) {
         if (scoreSummary == null || scoreSummary.isEmpty()) {
             return;
@@ -528,8 +759,8 @@ public class GameScreen extends JFrame implements GameEventListener {
     }
 
     private void showMainMenu() {
+        subscription.close();
         MainMenu mainMenu = new MainMenu(client);
-        client.setEventListener(mainMenu);
 
         if (mainFrame != null) {
             mainFrame.getContentPane().removeAll();
@@ -548,6 +779,10 @@ public class GameScreen extends JFrame implements GameEventListener {
         if (screenRefreshTimer != null) {
             screenRefreshTimer.stop();
         }
+        if (gameCanvas != null) {
+            gameCanvas.stop();
+        }
+        logger.fine(wordSprites::report);
     }
 
     @Override
@@ -0,0 +1,141 @@
+/*
+ * client.ui.game.WordSpriteCache.java
+ * 떨어지는 단어를 미리 그려 둔 스프라이트 캐시
+ * - (단어, 특수 효과, 폰트 크기)마다 안티앨리어싱된 글자(+ 효과 아이콘)를 호환 이미지에 한 번만 그림
+ *   -> 매 프레임 폰트 전환과 drawString 대신 drawImage 한 번으로 그림
+ * - 색상은 특수 효과로 정해지므로 키에 포함하지 않음 (FallingWord.colorOf)
+ * - LRU로 최대 개수를 제한 -> 여러 모드를 오래 플레이해도 메모리가 계속 늘지 않음
+ * - 크기는 -Dacidrain.render.spriteCache (기본 512개)
+ */
+
+package client.ui.game;
+
+import client.ui.theme.FontManager;
+import game.model.SpecialEffect;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class WordSpriteCache {
+    static final String CAPACITY_PROPERTY = "acidrain.render.spriteCache";
+    private static final int DEFAULT_CAPACITY = 512;
+    // 효과 아이콘은 단어 왼쪽 25px에 그림 (기존 화면 배치 유지)
+    private static final int EFFECT_ICON_OFFSET = 25;
+    // 안티앨리어싱 가장자리가 잘리지 않도록 둘 여백
+    private static final int PADDING = 2;
+    private static final FontRenderContext MEASURE_CONTEXT = new FontRenderContext(null, true, true);
+
+    private record Key(String text, SpecialEffect effect, float fontSize) {
+    }
+
+    static final class Sprite {
+        private final Image image;
+        private final int offsetX;
+        private final int ascent;
+
+        private Sprite(Image image, int offsetX, int ascent) {
+            this.image = image;
+            this.offsetX = offsetX;
+            this.ascent = ascent;
+        }
+
+        // (x, baselineY)는 drawString과 같은 기준점
+        void draw(Graphics2D g, int x, int baselineY) {
+            g.drawImage(image, x + offsetX, baselineY - ascent, null);
+        }
+    }
+
+    private final int capacity;
+    private final Map<Key, Sprite> sprites;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    WordSpriteCache(int capacity) {
+        this.capacity = capacity;
+        this.sprites = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Sprite> eldest) {
+                if (size() > WordSpriteCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    static WordSpriteCache create() {
+        return new WordSpriteCache(Math.max(16, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY)));
+    }
+
+    // target: 그릴 대상 -> 같은 장치에 맞는 호환 이미지로 만들기 위해 사용
+    synchronized Sprite get(Graphics2D target, FallingWord word, float fontSize) {
+        Key key = new Key(word.getText(), word.getEffect(), fontSize);
+        Sprite sprite = sprites.get(key);
+        if (sprite != null) {
+            hits++;
+            return sprite;
+        }
+        misses++;
+        sprite = renderSprite(target.getDeviceConfiguration(), key);
+        sprites.put(key, sprite);
+        return sprite;
+    }
+
+    synchronized String report() {
+        return String.format("스프라이트 캐시 %d/%d, 적중 %d, 생성 %d, 제거 %d",
+                sprites.size(), capacity, hits, misses, evictions);
+    }
+
+    private static Sprite renderSprite(GraphicsConfiguration config, Key key) {
+        Font textFont = FontManager.getFont(key.fontSize());
+        LineMetrics textMetrics = textFont.getLineMetrics(key.text(), MEASURE_CONTEXT);
+        double textWidth = textFont.getStringBounds(key.text(), MEASURE_CONTEXT).getWidth();
+
+        String icon = null;
+        Font iconFont = null;
+        float ascent = textMetrics.getAscent();
+        float descent = textMetrics.getDescent();
+        double width = textWidth;
+        int offsetX = 0;
+        if (key.effect() != null) {
+            icon = key.effect() == SpecialEffect.SCORE_BOOST ? "⚡" : "⭐";
+            iconFont = FontManager.getEmojiFont(key.fontSize());
+            LineMetrics iconMetrics = iconFont.getLineMetrics(icon, MEASURE_CONTEXT);
+            ascent = Math.max(ascent, iconMetrics.getAscent());
+            descent = Math.max(descent, iconMetrics.getDescent());
+            double iconWidth = iconFont.getStringBounds(icon, MEASURE_CONTEXT).getWidth();
+            width = Math.max(EFFECT_ICON_OFFSET + textWidth, iconWidth);
+            offsetX = -EFFECT_ICON_OFFSET;
+        }
+
+        int baseline = (int) Math.ceil(ascent) + PADDING;
+        int imageWidth = (int) Math.ceil(width) + PADDING * 2;
+        int imageHeight = baseline + (int) Math.ceil(descent) + PADDING;
+        BufferedImage image = config != null
+                ? config.createCompatibleImage(imageWidth, imageHeight, Transparency.TRANSLUCENT)
+                : new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setColor(FallingWord.colorOf(key.effect()));
+            int textX = PADDING - offsetX;
+            if (icon != null) {
+                g.setFont(iconFont);
+                g.drawString(icon, PADDING, baseline);
+            }
+            g.setFont(textFont);
+            g.drawString(key.text(), textX, baseline);
+        } finally {
+            g.dispose();
+        }
+        return new Sprite(image, offsetX - PADDING, baseline);
+    }
+}
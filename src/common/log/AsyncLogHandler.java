@@ -0,0 +1,109 @@
+/*
+ * common.log.AsyncLogHandler.java
+ * 로그 레코드를 고정 크기 링 버퍼에 넣고, 별도의 데몬 스레드가 실제 출력 핸들러로 내보내는 비동기 핸들러
+ * 호출 스레드(네트워크 수신 스레드, EDT, 게임 스케줄러)는 콘솔 I/O를 기다리지 않음
+ * 버퍼가 가득 차면 기다리지 않고 레코드를 버리며, 버린 개수는 다음 출력 때 경고로 남김
+ */
+
+package common.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+public class AsyncLogHandler extends Handler {
+    private static final int MAX_BATCH = 256;
+
+    private final Handler delegate;
+    private final BlockingQueue<LogRecord> buffer;
+    private final LongAdder dropped = new LongAdder();
+    // 경고 출력 때 초기화되는 dropped와 달리 누적 값을 유지 (관리자 통계용)
+    private final LongAdder totalDropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AsyncLogHandler(Handler delegate, int capacity) {
+        this.delegate = delegate;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::drainLoop, "log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!running || !isLoggable(record)) {
+            return;
+        }
+        // offer는 버퍼가 가득 차도 블로킹하지 않음 -> 핫 패스 보호가 우선
+        if (!buffer.offer(record)) {
+            dropped.increment();
+            totalDropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH);
+        while (running || !buffer.isEmpty()) {
+            try {
+                LogRecord first = buffer.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, MAX_BATCH - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // close()에서 깨운 경우 -> 남은 레코드는 루프 조건에서 계속 비움
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<LogRecord> batch) {
+        long droppedCount = dropped.sumThenReset();
+        if (droppedCount > 0) {
+            LogRecord notice = new LogRecord(Level.WARNING,
+                    "로그 버퍼 포화로 " + droppedCount + "개의 레코드를 버렸습니다.");
+            notice.setSourceClassName(AsyncLogHandler.class.getName());
+            delegate.publish(notice);
+        }
+        for (LogRecord record : batch) {
+            delegate.publish(record);
+        }
+        // 배치마다 한 번만 flush
+        delegate.flush();
+    }
+
+    public long getDroppedCount() {
+        return totalDropped.sum();
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * common.log.Log.java
+ * 서버/클라이언트 공용 로깅 파사드
+ * java.util.logging.Logger를 감싸고, Supplier 기반 지연 메시지를 기본으로 사용하도록 함
+ * 레벨이 꺼져 있으면 메시지 문자열 조립(String.format, 문자열 연결)이 아예 일어나지 않음
+ * 호출 위치 추론(스택 워킹)을 피하기 위해 소스 클래스 이름을 직접 넘겨 기록함
+ */
+
+package common.log;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class Log {
+    private final Logger delegate;
+    private final String sourceClass;
+
+    private Log(Class<?> type) {
+        this.sourceClass = type.getName();
+        this.delegate = Logger.getLogger(sourceClass);
+    }
+
+    public static Log get(Class<?> type) {
+        return new Log(type);
+    }
+
+    public boolean isFineEnabled() {
+        return delegate.isLoggable(Level.FINE);
+    }
+
+    public boolean isInfoEnabled() {
+        return delegate.isLoggable(Level.INFO);
+    }
+
+    // 패킷 단위처럼 자주 호출되는 경로는 fine + Supplier 조합을 사용할 것
+    public void fine(Supplier<String> message) {
+        log(Level.FINE, message);
+    }
+
+    public void fine(String message) {
+        log(Level.FINE, message);
+    }
+
+    public void info(Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    public void warning(Supplier<String> message) {
+        log(Level.WARNING, message);
+    }
+
+    public void warning(String message) {
+        log(Level.WARNING, message);
+    }
+
+    public void severe(Supplier<String> message) {
+        log(Level.SEVERE, message);
+    }
+
+    public void severe(String message) {
+        log(Level.SEVERE, message);
+    }
+
+    public void severe(String message, Throwable error) {
+        if (delegate.isLoggable(Level.SEVERE)) {
+            delegate.logp(Level.SEVERE, sourceClass, null, message, error);
+        }
+    }
+
+    private void log(Level level, Supplier<String> message) {
+        if (delegate.isLoggable(level)) {
+            delegate.logp(level, sourceClass, null, message);
+        }
+    }
+
+    private void log(Level level, String message) {
+        if (delegate.isLoggable(level)) {
+            delegate.logp(level, sourceClass, null, message);
+        }
+    }
+}
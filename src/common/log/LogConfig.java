@@ -0,0 +1,96 @@
+/*
+ * common.log.LogConfig.java
+ * 프로세스 시작 시 한 번 호출해 로깅 설정을 적용하는 클래스
+ * - 루트 로거의 기본 콘솔 핸들러를 AsyncLogHandler로 교체
+ * - 서브시스템(패키지)별 레벨을 시스템 프로퍼티로 조정
+ *
+ * 사용 예:
+ *   -Dacidrain.log.level=INFO                 (루트 레벨)
+ *   -Dacidrain.log.level.server.game=FINE     (server.game 패키지만 FINE)
+ *   -Dacidrain.log.level.client.network=FINE  (클라이언트 수신 메시지 추적)
+ *   -Dacidrain.log.buffer=8192                (비동기 링 버퍼 크기)
+ */
+
+package common.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class LogConfig {
+    private static final String LEVEL_PROPERTY = "acidrain.log.level";
+    private static final String BUFFER_PROPERTY = "acidrain.log.buffer";
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // JUL은 로거를 약한 참조로만 들고 있으므로, 레벨을 지정한 서브시스템 로거는 여기서 붙잡아 둠
+    private static final List<Logger> configuredLoggers = new ArrayList<>();
+    private static AsyncLogHandler asyncHandler;
+
+    private LogConfig() {
+    }
+
+    public static synchronized void install() {
+        if (asyncHandler != null) {
+            return;
+        }
+
+        Logger root = Logger.getLogger("");
+        for (Handler handler : root.getHandlers()) {
+            root.removeHandler(handler);
+            handler.close();
+        }
+
+        ConsoleHandler console = new ConsoleHandler();
+        console.setLevel(Level.ALL);
+
+        asyncHandler = new AsyncLogHandler(console,
+                Integer.getInteger(BUFFER_PROPERTY, DEFAULT_BUFFER_SIZE));
+        asyncHandler.setLevel(Level.ALL);
+        root.addHandler(asyncHandler);
+        root.setLevel(parseLevel(System.getProperty(LEVEL_PROPERTY), Level.INFO));
+
+        String prefix = LEVEL_PROPERTY + ".";
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(prefix)) {
+                setLevel(name.substring(prefix.length()),
+                        parseLevel(System.getProperty(name), Level.INFO));
+            }
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(LogConfig::shutdown, "log-shutdown"));
+    }
+
+    // 서브시스템(server, server.game, client, client.network ...)별 레벨 지정
+    public static synchronized void setLevel(String subsystem, Level level) {
+        Logger logger = Logger.getLogger(subsystem);
+        logger.setLevel(level);
+        if (!configuredLoggers.contains(logger)) {
+            configuredLoggers.add(logger);
+        }
+    }
+
+    public static synchronized long getDroppedCount() {
+        return asyncHandler != null ? asyncHandler.getDroppedCount() : 0;
+    }
+
+    private static synchronized void shutdown() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
+        }
+    }
+
+    private static Level parseLevel(String value, Level defaultLevel) {
+        if (value == null || value.isBlank()) {
+            return defaultLevel;
+        }
+        try {
+            return Level.parse(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("잘못된 로그 레벨입니다: " + value);
+            return defaultLevel;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * common.metrics.LatencyHistogram.java
+ * HDR 히스토그램 방식(로그-선형 버킷)의 지연 시간 히스토그램
+ * - 값(나노초)을 마이크로초로 바꾼 뒤, 최상위 비트 위치(크기)와 그 아래 3비트(세부 구간)로 버킷을 결정
+ *   -> 어느 구간이든 상대 오차가 약 12.5% 이내
+ * - 버킷마다 LongAdder를 두어 여러 스레드가 동시에 기록해도 락이나 CAS 경합이 없음
+ * - 읽기(snapshot)는 기록과 동시에 일어나도 되며, 약간 어긋난 값이 나올 수 있음 (모니터링 용도로 충분)
+ * - 서버 메트릭(MetricsRegistry)과 클라이언트 측 통계(부하 테스트 봇, 렌더 프레임)가 함께 사용 -> common에 둠
+ */
+
+package common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // 약 2^40 µs(12일)까지 표현, 그 이상은 마지막 버킷에 모음
+    private static final int MAGNITUDES = 38;
+    private static final int BUCKET_COUNT = MAGNITUDES * SUB_BUCKET_COUNT;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void recordNanos(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[bucketIndex(TimeUnit.NANOSECONDS.toMicros(nanos))].increment();
+        count.increment();
+        sumNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    // System.nanoTime()으로 잰 시작 시각을 넘기면 경과 시간을 기록
+    public void recordSince(long startNanos) {
+        recordNanos(System.nanoTime() - startNanos);
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);   // 최상위 비트 위치 (>= SUB_BUCKET_BITS)
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) & (SUB_BUCKET_COUNT - 1);
+        int index = (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    // 버킷의 상한값(µs) -> 백분위 계산 시 보수적으로 상한을 사용
+    static long bucketUpperBoundMicros(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        long lower = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        return new Snapshot(counts, total, sumNanos.sum(), maxNanos.get());
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long total;
+        private final long sumNanos;
+        private final long maxNanos;
+
+        private Snapshot(long[] counts, long total, long sumNanos, long maxNanos) {
+            this.counts = counts;
+            this.total = total;
+            this.sumNanos = sumNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getCount() {
+            return total;
+        }
+
+        public long getSumNanos() {
+            return sumNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public double getMeanNanos() {
+            return total == 0 ? 0 : (double) sumNanos / total;
+        }
+
+        // quantile: 0.0 ~ 1.0, 결과는 나노초
+        public long getValueAtQuantile(double quantile) {
+            if (total == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    long upper = TimeUnit.MICROSECONDS.toNanos(bucketUpperBoundMicros(i) + 1);
+                    return Math.min(upper, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
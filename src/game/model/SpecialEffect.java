@@ -0,0 +1,34 @@
+/*
+ * game.model.SpecialEffect.java
+ * 단어에 붙는 특수 효과, 서버/클라이언트 공용
+ * 프로토콜에는 이름(name())으로 실리고, 서버 내부에서는 1바이트 코드로 보관함
+ */
+
+package game.model;
+
+public enum SpecialEffect {
+    SCORE_BOOST((byte) 1),    // 점수 1.5배
+    BLIND_OPPONENT((byte) 2); // 상대방 화면 가리기
+
+    // 효과 없음을 나타내는 코드
+    public static final byte NONE = 0;
+
+    private final byte code;
+
+    SpecialEffect(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    // 코드가 NONE이면 null
+    public static SpecialEffect fromCode(byte code) {
+        return switch (code) {
+            case 1 -> SCORE_BOOST;
+            case 2 -> BLIND_OPPONENT;
+            default -> null;
+        };
+    }
+}
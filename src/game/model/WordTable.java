@@ -0,0 +1,67 @@
+/*
+ * game.model.WordTable.java
+ * 모드별 단어 목록(코퍼스)에 정수 ID를 붙인 불변 테이블, 서버/클라이언트 공용
+ * - ID는 단어 파일의 순서 (중복 단어는 처음 나온 위치의 ID를 사용)
+ * - 서버는 게임 시작 시 GAME_START 뒤에 테이블을 한 번만 실어 보내고,
+ *   이후 WORD_SPAWNED / WORD_MATCHED / WORD_MISSED는 단어 대신 ID를 주고받음
+ * - 단어에는 프로토콜 구분자('|')가 들어가지 않는다고 가정 (resources/words 파일 기준)
+ */
+
+package game.model;
+
+import java.util.*;
+
+public final class WordTable {
+    public static final int UNKNOWN_ID = -1;
+
+    private final String[] words;
+    private final Map<String, Integer> idByText;
+    // GAME_START에 붙일 인코딩 결과를 미리 만들어 둠 (게임마다 다시 조립하지 않음)
+    private final String encoded;
+
+    public WordTable(List<String> corpus) {
+        List<String> unique = new ArrayList<>(corpus.size());
+        Map<String, Integer> ids = new HashMap<>(corpus.size() * 2);
+        for (String word : corpus) {
+            if (word.isEmpty() || ids.containsKey(word)) {
+                continue;
+            }
+            ids.put(word, unique.size());
+            unique.add(word);
+        }
+        this.words = unique.toArray(new String[0]);
+        this.idByText = Collections.unmodifiableMap(ids);
+        this.encoded = String.join("|", words);
+    }
+
+    // 메시지를 '|'로 나눈 배열에서 from 위치부터 끝까지를 테이블로 읽음
+    public static WordTable decode(String[] parts, int from) {
+        if (from >= parts.length) {
+            return new WordTable(List.of());
+        }
+        return new WordTable(Arrays.asList(parts).subList(from, parts.length));
+    }
+
+    public String encode() {
+        return encoded;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    // 범위를 벗어난 ID는 null
+    public String textOf(int id) {
+        return id >= 0 && id < words.length ? words[id] : null;
+    }
+
+    // 테이블에 없는 단어는 UNKNOWN_ID
+    public int idOf(String text) {
+        Integer id = idByText.get(text);
+        return id != null ? id : UNKNOWN_ID;
+    }
+}
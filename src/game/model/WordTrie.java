@@ -0,0 +1,141 @@
+/*
+ * game.model.WordTrie.java
+ * 화면에 떠 있는 단어들의 접두사 트라이, 서버/클라이언트 공용
+ * - 같은 단어가 여러 개 떠 있을 수 있으므로 노드마다 지나가는 단어 수를 세어 둠 (중복 허용)
+ * - contains / hasPrefix / countWithPrefix는 입력 길이 k에 대해 O(k), 활성 단어 수와 무관
+ * - 스레드 안전하지 않음 -> 활성 단어 목록과 같은 락 안에서 사용
+ */
+
+package game.model;
+
+import java.util.Arrays;
+
+public final class WordTrie {
+    private final Node root = new Node();
+
+    public void add(String word) {
+        Node node = root;
+        node.count++;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.childOrCreate(word.charAt(i));
+            node.count++;
+        }
+        node.terminal++;
+    }
+
+    // 없는 단어면 false, 있으면 하나만 제거하고 더 이상 쓰이지 않는 가지는 잘라냄
+    public boolean remove(String word) {
+        if (!contains(word)) {
+            return false;
+        }
+        Node node = root;
+        node.count--;
+        for (int i = 0; i < word.length(); i++) {
+            Node child = node.child(word.charAt(i));
+            if (--child.count == 0) {
+                node.removeChild(word.charAt(i));
+                return true;
+            }
+            node = child;
+        }
+        node.terminal--;
+        return true;
+    }
+
+    public boolean contains(String word) {
+        Node node = find(word);
+        return node != null && node.terminal > 0;
+    }
+
+    public boolean hasPrefix(String prefix) {
+        return find(prefix) != null;
+    }
+
+    // prefix로 시작하는 단어 수 (중복 포함)
+    public int countWithPrefix(String prefix) {
+        Node node = find(prefix);
+        return node != null ? node.count : 0;
+    }
+
+    public int size() {
+        return root.count;
+    }
+
+    public boolean isEmpty() {
+        return root.count == 0;
+    }
+
+    public void clear() {
+        root.clearChildren();
+        root.count = 0;
+        root.terminal = 0;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        if (node.count == 0) {
+            return null;
+        }
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    // 자식 수가 적으므로(키워드 알파벳) 맵 대신 정렬 없는 배열을 선형 탐색
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+        // 이 노드를 지나가는 단어 수 / 이 노드에서 끝나는 단어 수
+        private int count;
+        private int terminal;
+
+        Node child(char c) {
+            for (int i = 0; i < childCount; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childOrCreate(char c) {
+            Node child = child(c);
+            if (child != null) {
+                return child;
+            }
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            child = new Node();
+            keys[childCount] = c;
+            children[childCount] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char c) {
+            for (int i = 0; i < childCount; i++) {
+                if (keys[i] == c) {
+                    childCount--;
+                    keys[i] = keys[childCount];
+                    children[i] = children[childCount];
+                    children[childCount] = null;
+                    return;
+                }
+            }
+        }
+
+        void clearChildren() {
+            keys = NO_KEYS;
+            children = NO_CHILDREN;
+            childCount = 0;
+        }
+    }
+}
@@ -9,7 +9,15 @@
 package server;
 
 import client.event.GameEvent.*;
+import common.log.Log;
+import common.metrics.LatencyHistogram;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
 import game.model.GameRoom;
+import server.diagnostics.AcidRainEvent;
+import server.diagnostics.MessageDispatchEvent;
+import server.metrics.MetricFamily;
+import server.metrics.MetricsRegistry;
 
 import java.io.*;
 import java.net.Socket;
@@ -17,10 +25,13 @@ import java.net.SocketException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.UUID;
-import java.util.logging.Logger;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ClientHandler implements Runnable {
-    private static final Logger logger = Logger.getLogger(ClientHandler.class.getName());
+    private static final Log logger = Log.get(ClientHandler.class);
+    private static final MetricFamily<LatencyHistogram> messageLatency = MetricsRegistry.getInstance()
+            .histogramFamily("acidrain_message_process_seconds", "클라이언트 메시지 타입별 처리 시간", "type");
+    private static final String THROTTLED_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.";
 
     private final Socket socket;
     private final GameServer server;
@@ -29,7 +40,19 @@ public class ClientHandler implements Runnable {
     private BufferedReader in;
     private String username;
     private String currentRoomId;
+    // 재연결용 세션 토큰 (로그인/재연결 성공 후 설정)
+    private volatile String sessionToken;
+    // LOGOUT으로 정상 종료했거나 도배로 끊었는지 -> 이 경우 유예 없이 바로 퇴장 처리
+    private volatile boolean loggedOut;
     private volatile boolean running = true;
+    // 마지막으로 메시지를 받은 시각 -> IdleReaper가 PING/연결 종료 판단에 사용
+    private volatile long lastActivityNanos = System.nanoTime();
+    private final MessageRateLimiter rateLimiter = new MessageRateLimiter();
+    // 이번 제한 구간에서 이미 로그를 남겼는지 -> 로그만 제한 구간당 한 번 남김
+    // (클라이언트 응답 여부는 handleThrottled에서 메시지 타입별로 결정)
+    private boolean throttleNotified;
+    // 소켓 쓰기 중인 전송 수 -> 느린 클라이언트 때문에 전송 스레드가 쌓이는지 관리자 통계로 확인
+    private final AtomicInteger pendingSends = new AtomicInteger();
 
     public ClientHandler(Socket socket, GameServer server) {
         this.socket = socket;
@@ -49,6 +72,7 @@ public class ClientHandler implements Runnable {
         try {
             String message;
             while (running && (message = in.readLine()) != null) {
+                lastActivityNanos = System.nanoTime();
                 processMessage(message);
             }
         } catch (SocketException e) {
@@ -65,15 +89,35 @@ public class ClientHandler implements Runnable {
     }
  
     // 클라이언트의 메시지를 처리하는 메서드 ** 중요 **
-    private void processMessage(String message) {
+    // 벤치마크(benchmarks 모듈, 같은 패키지)에서 직접 호출할 수 있도록 package-private
+    void processMessage(String message) {
+        long startNanos = System.nanoTime();
+        MessageDispatchEvent event = new MessageDispatchEvent();
+        event.begin();
+        // 처리 중 방을 나가거나 들어갈 수 있으므로 처리 전의 방을 기록
+        String roomIdBefore = currentRoomId;
         String[] parts = message.split("\\|", -1);
         String messageType = parts[0];
+        // 알 수 없는 타입은 라벨 하나로 묶어 기록 -> 임의 문자열로 메트릭이 늘어나지 않도록
+        String metricType = messageType;
 
         try {
+            MessageRateLimiter.Decision decision = rateLimiter.check(messageType);
+            if (decision == MessageRateLimiter.Decision.ALLOW) {
+                throttleNotified = false;
+            } else if (decision == MessageRateLimiter.Decision.DISCONNECT || !isReleaseCommand(parts)) {
+                metricType = "THROTTLED";
+                handleThrottled(decision, parts);
+                return;
+            }
+
             switch (messageType) {
                 case ClientCommand.LOGIN:
                     handleLogin(parts);
                     break;
+                case ClientCommand.RESUME:
+                    handleResume(parts);
+                    break;
                 case ClientCommand.CREATE_ROOM:
                     server.createRoom(parts, this);
                     break;
@@ -83,6 +127,16 @@ public class ClientHandler implements Runnable {
                 case ClientCommand.LEAVE_ROOM:
                     handleLeaveRoom(parts);
                     break;
+                case ClientCommand.SPECTATE:
+                    if (parts.length >= 2) {
+                        server.spectate(this, parts[1]);
+                    } else {
+                        sendMessage(ServerMessage.SPECTATE_FAILED + "|잘못된 관전 요청입니다.");
+                    }
+                    break;
+                case ClientCommand.SPECTATE_STOP:
+                    server.stopSpectating(this);
+                    break;
                 case ClientCommand.CHAT:
                     handleChat(parts);
                     break;
@@ -95,12 +149,23 @@ public class ClientHandler implements Runnable {
                 case ClientCommand.GAME_ACTION:
                     handleGameAction(parts);
                     break;
-                // not used just for testing
-                case "PING":
-                    sendMessage("PONG");
+                // 연결 유지 -> 받은 것만으로 활동 시각이 갱신됨
+                case ClientCommand.PING:
+                    sendMessage(ServerMessage.PONG);
+                    break;
+                case ClientCommand.PONG:
                     break;
                 case ClientCommand.ROOM_LIST:
-                    server.broadcastRoomList();
+                    sendMessage(roomListResponse(parts, 0));
+                    break;
+                case ClientCommand.ROOM_LIST_TAGGED:
+                    handleTaggedRoomList(parts);
+                    break;
+                case ClientCommand.QUICK_MATCH:
+                    handleQuickMatch(parts);
+                    break;
+                case ClientCommand.QUICK_MATCH_CANCEL:
+                    server.cancelQuickMatch(this);
                     break;
                 case ClientCommand.PLAYER_LIST:
                     handlePlayerList(parts);
@@ -115,19 +180,96 @@ public class ClientHandler implements Runnable {
 
                 // must be removed after refactoring
                 case ClientCommand.USERS_REQUEST:
-                    server.broadcastUserCount();
+                    server.sendUserCount(this);
                     break;
 
                 default:
+                    metricType = "UNKNOWN";
                     logger.warning("알 수 없는 메시지 타입: " + messageType);
                     sendMessage(ServerMessage.ERROR + "|지원하지 않는 메시지 타입입니다.");
             }
         } catch (Exception e) {
             logger.severe("메시지 처리 중 오류 발생: " + e.getMessage());
             sendMessage(ServerMessage.ERROR + "|메시지 처리 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            messageLatency.get(metricType).recordSince(startNanos);
+            if (event.shouldCommit()) {
+                event.roomId = roomIdBefore != null ? roomIdBefore : currentRoomId;
+                event.messageType = metricType;
+                event.byteSize = AcidRainEvent.utf8Length(message);
+                event.username = username;
+                event.commit();
+            }
+        }
+    }
+
+    /*
+     * 한도를 넘은 메시지 처리
+     * - 로비 조회, 채팅, heartbeat: 응답 없이 버림 (다시 보내면 같은 결과)
+     * - 상태를 바꾸는 요청: 평소의 실패 응답을 보냄 -> 클라이언트 화면이 서버 상태와 어긋나지 않음
+     *   (메인 메뉴의 ERROR 처리는 연결을 끊으므로 방 밖에서 보내는 요청에는 ERROR로 응답하지 않음)
+     */
+    private void handleThrottled(MessageRateLimiter.Decision decision, String[] parts) {
+        String messageType = parts[0];
+        if (decision == MessageRateLimiter.Decision.DISCONNECT) {
+            logger.warning("요청 한도를 계속 넘겨 연결을 종료합니다: " + (username != null ? username : clientId)
+                    + " (마지막 메시지: " + messageType + ")");
+            sendMessage(ServerMessage.ERROR + "|요청이 너무 많아 연결을 종료합니다.");
+            loggedOut = true;
+            running = false;
+            return;
+        }
+
+        if (!throttleNotified) {
+            throttleNotified = true;
+            logger.warning("요청 한도 초과: " + (username != null ? username : clientId) + " - " + messageType);
+        }
+
+        switch (messageType) {
+            case ClientCommand.CREATE_ROOM ->
+                    sendMessage(ServerMessage.CREATE_ROOM_RESPONSE + "|false|" + THROTTLED_MESSAGE);
+            case ClientCommand.JOIN_ROOM ->
+                    sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|" + THROTTLED_MESSAGE);
+            case ClientCommand.QUICK_MATCH ->
+                    sendMessage(ServerMessage.MATCH_CANCELLED + "|" + THROTTLED_MESSAGE);
+            case ClientCommand.SPECTATE ->
+                    sendMessage(ServerMessage.SPECTATE_FAILED + "|" + THROTTLED_MESSAGE);
+            // 게이트웨이는 모든 노드의 응답을 모아야 하므로 빈 응답으로 이 노드 몫을 끝냄
+            case ClientCommand.ROOM_LIST_TAGGED -> {
+                if (parts.length >= 2) {
+                    sendMessage(ServerMessage.ROOM_LIST_TAGGED + "|" + parts[1] + "|");
+                }
+            }
+            // 방장의 설정 화면을 서버에 있는 설정으로 되돌림
+            case ClientCommand.UPDATE_SETTINGS -> {
+                if (currentRoomId != null) {
+                    server.sendRoomSettings(currentRoomId, this);
+                }
+            }
+            // 방 안(게임 로비)의 ERROR는 알림창만 띄움
+            case ClientCommand.START_GAME, ClientCommand.LOGIN ->
+                    sendMessage(ServerMessage.ERROR + "|" + THROTTLED_MESSAGE);
+            default -> {
+                // 로비 조회, 채팅, heartbeat, 단어 입력(맞히지 못한 입력과 같음), 알 수 없는 타입 -> 버림
+            }
         }
     }
 
+    /*
+     * 한도를 넘어도 처리하는 요청 -> 서버 쪽 상태를 정리하기만 하고 클라이언트는 실패 응답을 기다리지 않음
+     * (방 퇴장, 매칭/관전 취소, 로그아웃, 재연결, 게임 퇴장, 놓친 단어 보고)
+     * 이 요청도 abuse 버킷은 쓰므로 계속 보내면 연결이 끊김
+     */
+    private static boolean isReleaseCommand(String[] parts) {
+        return switch (parts[0]) {
+            case ClientCommand.LEAVE_ROOM, ClientCommand.QUICK_MATCH_CANCEL, ClientCommand.SPECTATE_STOP,
+                 ClientCommand.LOGOUT, ClientCommand.RESUME -> true;
+            case ClientCommand.GAME_ACTION -> parts.length >= 3
+                    && (ClientCommand.PLAYER_LEAVE_GAME.equals(parts[2]) || ServerMessage.WORD_MISSED.equals(parts[2]));
+            default -> false;
+        };
+    }
+
     private void handleLogin(String[] parts) {
         if (parts.length >= 2) {
             String requestedUsername = parts[1].trim();
@@ -144,13 +286,27 @@ public class ClientHandler implements Runnable {
             }
 
             logger.info("로그인: " + username);
+            server.openSession(this);
+            // 접속자 수는 모두에게, 방 목록은 방 목록 화면을 열 때 필요한 페이지만 요청함
             server.broadcastUserCount();
-            server.broadcastRoomList();
         } else {
             sendMessage(ServerMessage.ERROR + "|잘못된 로그인 요청입니다.");
         }
     }
 
+    // RESUME|토큰 -> 새 연결의 첫 메시지로만 허용
+    private void handleResume(String[] parts) {
+        if (username != null || parts.length < 2) {
+            sendMessage(ServerMessage.RESUME_FAILED + "|잘못된 재연결 요청입니다.");
+            return;
+        }
+
+        if (!server.resumeSession(this, parts[1])) {
+            sendMessage(ServerMessage.RESUME_FAILED + "|세션이 만료되었습니다.");
+            running = false;
+        }
+    }
+
     private void handleJoinRoom(String[] parts) {
         if (parts.length >= 2) {
             String roomId = parts[1];
@@ -224,38 +380,105 @@ public class ClientHandler implements Runnable {
         }
     }
 
+    // ROOM_LIST -> 전체 목록 (이전 클라이언트 호환)
+    // ROOM_LIST|커서|페이지크기|모드|난이도|빈자리만|공개방만 -> 한 페이지 (커서/모드/난이도는 빈 문자열이면 조건 없음)
+    // offset: ROOM_LIST 인자 앞에 붙은 필드 수 (ROOM_LIST_TAGGED의 요청 ID)
+    private String roomListResponse(String[] parts, int offset) {
+        if (parts.length - offset < 3) {
+            return server.getRoomListMessage();
+        }
+
+        int pageSize;
+        try {
+            pageSize = Math.max(1, Math.min(GameServer.MAX_ROOM_PAGE_SIZE, Integer.parseInt(parts[offset + 2])));
+        } catch (NumberFormatException e) {
+            pageSize = GameServer.MAX_ROOM_PAGE_SIZE;
+        }
+        String cursor = parts[offset + 1].isEmpty() ? null : parts[offset + 1];
+        GameMode mode = parts.length > offset + 3 ? parseFilter(GameMode.class, parts[offset + 3]) : null;
+        DifficultyLevel difficulty = parts.length > offset + 4
+                ? parseFilter(DifficultyLevel.class, parts[offset + 4]) : null;
+        boolean joinableOnly = parts.length > offset + 5 && Boolean.parseBoolean(parts[offset + 5]);
+        boolean publicOnly = parts.length > offset + 6 && Boolean.parseBoolean(parts[offset + 6]);
+
+        return server.buildRoomListPage(
+                new RoomIndex.Query(cursor, pageSize, mode, difficulty, joinableOnly, publicOnly));
+    }
+
+    // ROOM_LIST_TAGGED|요청ID|ROOM_LIST와 같은 인자 -> ROOM_LIST_TAGGED|요청ID|응답 메시지 (게이트웨이가 응답을 요청별로 모음)
+    private void handleTaggedRoomList(String[] parts) {
+        if (parts.length < 2) {
+            sendMessage(ServerMessage.ERROR + "|잘못된 방 목록 요청입니다.");
+            return;
+        }
+        sendMessage(ServerMessage.ROOM_LIST_TAGGED + "|" + parts[1] + "|" + roomListResponse(parts, 1));
+    }
+
+    // QUICK_MATCH|모드|난이도
+    private void handleQuickMatch(String[] parts) {
+        if (parts.length < 3 || username == null) {
+            sendMessage(ServerMessage.MATCH_CANCELLED + "|잘못된 빠른 대전 요청입니다.");
+            return;
+        }
+
+        try {
+            server.requestQuickMatch(this, GameMode.fromDisplayName(parts[1]), DifficultyLevel.fromDisplayName(parts[2]));
+        } catch (IllegalArgumentException e) {
+            sendMessage(ServerMessage.MATCH_CANCELLED + "|잘못된 모드 또는 난이도입니다.");
+        }
+    }
+
+    // 알 수 없는 값은 조건 없음으로 처리 -> 메인 메뉴의 ERROR 처리는 연결을 끊으므로 에러로 응답하지 않음
+    private static <E extends Enum<E>> E parseFilter(Class<E> type, String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            logger.warning("알 수 없는 방 목록 필터: " + value);
+            return null;
+        }
+    }
+
     private void handleLogout() {
         logger.info("로그아웃: " + username);
+        loggedOut = true;
         running = false;
     }
 
     public void sendMessage(String message) {
         if (out != null && !socket.isClosed() && running) {
-            out.println(message);
-            if (out.checkError()) {
-                logger.warning("메시지 전송 실패: " + message);
-                running = false;
+            pendingSends.incrementAndGet();
+            try {
+                out.println(message);
+                if (out.checkError()) {
+                    logger.warning(() -> "메시지 전송 실패: " + message);
+                    running = false;
+                }
+            } finally {
+                pendingSends.decrementAndGet();
             }
         }
     }
 
+    // 다른 스레드(유휴 연결 정리, 재연결)에서도 호출됨
+    // 소켓을 먼저 닫아야 readLine에 막힌 수신 스레드가 풀림 (읽는 중인 BufferedReader를 먼저 닫으면 같이 막힘)
     public void shutdown() {
         running = false;
         try {
+            if (socket != null && !socket.isClosed()) socket.close();
             if (out != null) out.close();
             if (in != null) in.close();
-            if (socket != null && !socket.isClosed()) socket.close();
         } catch (IOException e) {
             logger.severe("리소스 정리 중 오류 발생: " + e.getMessage());
         }
     }
 
+    // 로그인한 세션이면 바로 퇴장시키지 않고 유예 상태로 둠 -> 판단은 GameServer.handleDisconnect
     private void cleanup() {
         try {
-            if (currentRoomId != null) {
-                server.leaveRoom(currentRoomId, this);
-            }
-            server.removeClient(this);
+            server.handleDisconnect(this, loggedOut);
         } finally {
             shutdown();
         }
@@ -269,6 +492,14 @@ public class ClientHandler implements Runnable {
         this.username = username;
     }
 
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
+    public void setSessionToken(String sessionToken) {
+        this.sessionToken = sessionToken;
+    }
+
     public String getClientId() {
         return clientId;
     }
@@ -284,4 +515,12 @@ public class ClientHandler implements Runnable {
     public boolean isRunning() {
         return running;
     }
+
+    public long getLastActivityNanos() {
+        return lastActivityNanos;
+    }
+
+    public int getPendingSends() {
+        return pendingSends.get();
+    }
 }
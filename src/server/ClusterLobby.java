@@ -0,0 +1,148 @@
+/*
+ * server.ClusterLobby.java
+ * 여러 게임 노드의 로비 상태 맞추기 (LobbyBus 사용)
+ * - rooms 토픽: 방 목록이 바뀌면 "changed" 발행 -> 다른 노드는 자기 로비 클라이언트에게 ROOM_LIST_CHANGED를 보냄
+ *   (게이트웨이가 모든 노드의 목록을 합쳐 보여 주므로 다른 노드의 변경도 알려야 함)
+ * - users 토픽: 로그인/퇴장 시 "+이름"/"-이름" 발행, 다른 노드가 붙으면 "=" 뒤에 전체 이름 목록을 다시 보냄
+ *   -> 접속자 수는 이 노드와 다른 노드 사용자 이름의 합집합 크기 (게이트웨이 사용자는 모든 노드에 로그인하므로 한 번만 셈)
+ *   -> 노드가 떨어지면 그 노드의 이름을 지움
+ * - 락 순서: GameServer -> ClusterLobby, 버스 스레드에서 받은 이벤트는 이 락만 잡고 GameServer 락은 잡지 않음
+ */
+
+package server;
+
+import common.log.Log;
+import server.cluster.LobbyBus;
+
+import java.util.*;
+
+final class ClusterLobby {
+    static final String ROOMS_TOPIC = "rooms";
+    static final String USERS_TOPIC = "users";
+    private static final Log logger = Log.get(ClusterLobby.class);
+    private static final String ROOMS_CHANGED = "changed";
+    private static final String RESET = "=";
+
+    private final GameServer server;
+    private final LobbyBus bus;
+    // 아래는 모두 this로 보호
+    private final Set<String> localUsers = new HashSet<>();
+    private final Map<String, Set<String>> remoteUsersByNode = new HashMap<>();
+    // 이름 -> 그 이름이 있는 다른 노드 수
+    private final Map<String, Integer> remoteRefs = new HashMap<>();
+    // 다른 노드에만 있는 이름 수 -> 접속자 수 = localUsers + remoteOnly
+    private int remoteOnly;
+
+    ClusterLobby(GameServer server, LobbyBus bus) {
+        this.server = server;
+        this.bus = bus;
+    }
+
+    void start() {
+        bus.subscribe(ROOMS_TOPIC, (origin, events) -> server.notifyLobbyClients());
+        bus.subscribe(USERS_TOPIC, this::onUserEvents);
+        bus.subscribe(LobbyBus.MEMBERS_TOPIC, this::onMemberEvents);
+        bus.start();
+    }
+
+    void shutdown() {
+        bus.close();
+    }
+
+    void roomListChanged() {
+        bus.publish(ROOMS_TOPIC, ROOMS_CHANGED);
+    }
+
+    synchronized void userJoined(String username) {
+        if (localUsers.add(username)) {
+            if (remoteRefs.containsKey(username)) {
+                remoteOnly--;
+            }
+            bus.publish(USERS_TOPIC, "+" + username);
+        }
+    }
+
+    synchronized void userLeft(String username) {
+        if (localUsers.remove(username)) {
+            if (remoteRefs.containsKey(username)) {
+                remoteOnly++;
+            }
+            bus.publish(USERS_TOPIC, "-" + username);
+        }
+    }
+
+    synchronized int getUserCount() {
+        return localUsers.size() + remoteOnly;
+    }
+
+    private void onUserEvents(String origin, List<String> events) {
+        synchronized (this) {
+            for (String event : events) {
+                if (event.equals(RESET)) {
+                    clearNode(origin);
+                } else if (event.startsWith("+")) {
+                    addRemote(origin, event.substring(1));
+                } else if (event.startsWith("-")) {
+                    removeRemote(origin, event.substring(1));
+                }
+            }
+        }
+        server.broadcastUserCount();
+    }
+
+    // 새로 붙은 노드에 전체 이름 목록을 보냄 (발행은 모든 노드로 가지만 받은 쪽은 지우고 다시 채우므로 결과가 같음)
+    private void onMemberEvents(String origin, List<String> events) {
+        if (events.contains(LobbyBus.JOINED)) {
+            synchronized (this) {
+                bus.publish(USERS_TOPIC, RESET);
+                for (String username : localUsers) {
+                    bus.publish(USERS_TOPIC, "+" + username);
+                }
+            }
+            logger.info("로비 버스에 노드가 붙었습니다: " + origin);
+        } else if (events.contains(LobbyBus.LEFT)) {
+            synchronized (this) {
+                clearNode(origin);
+            }
+            logger.info("로비 버스에서 노드가 떨어졌습니다: " + origin);
+            server.broadcastUserCount();
+        }
+    }
+
+    private void addRemote(String node, String username) {
+        if (!remoteUsersByNode.computeIfAbsent(node, k -> new HashSet<>()).add(username)) {
+            return;
+        }
+        if (remoteRefs.merge(username, 1, Integer::sum) == 1 && !localUsers.contains(username)) {
+            remoteOnly++;
+        }
+    }
+
+    private void removeRemote(String node, String username) {
+        Set<String> users = remoteUsersByNode.get(node);
+        if (users == null || !users.remove(username)) {
+            return;
+        }
+        if (remoteRefs.merge(username, -1, Integer::sum) == 0) {
+            remoteRefs.remove(username);
+            if (!localUsers.contains(username)) {
+                remoteOnly--;
+            }
+        }
+    }
+
+    private void clearNode(String node) {
+        Set<String> users = remoteUsersByNode.remove(node);
+        if (users == null) {
+            return;
+        }
+        for (String username : users) {
+            if (remoteRefs.merge(username, -1, Integer::sum) == 0) {
+                remoteRefs.remove(username);
+                if (!localUsers.contains(username)) {
+                    remoteOnly--;
+                }
+            }
+        }
+    }
+}
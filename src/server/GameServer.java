@@ -6,24 +6,43 @@
 
 package server;
 
+import common.log.Log;
+import common.metrics.LatencyHistogram;
 import game.model.DifficultyLevel;
 import game.model.GameMode;
 import game.model.GameRoom;
 import client.event.GameEvent.*;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.net.StandardSocketOptions;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.logging.Logger;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import game.model.LeaderboardEntry;
 import server.game.LeaderboardManager;
+import server.game.RatingManager;
+import server.diagnostics.AcidRainEvent;
+import server.cluster.ConsistentHashRing;
+import server.cluster.LobbyBus;
+import server.diagnostics.RoomBroadcastEvent;
 import server.game.ServerGameController;
+import server.metrics.Counter;
+import server.metrics.MetricsRegistry;
 
 public class GameServer {
-    private static final Logger logger = Logger.getLogger(GameServer.class.getName());
+    private static final Log logger = Log.get(GameServer.class);
+    private static final LatencyHistogram roomBroadcastLatency = MetricsRegistry.getInstance()
+            .histogram("acidrain_room_broadcast_seconds", "방 단위 브로드캐스트 소요 시간");
+    private static final Counter roomBroadcastMessages = MetricsRegistry.getInstance()
+            .counter("acidrain_room_broadcast_messages_total", "방 브로드캐스트로 전송한 메시지 수 (수신자 기준)");
+    private static final Counter sessionsHandedOff = MetricsRegistry.getInstance()
+            .counter("acidrain_drain_sessions_handed_off_total", "드레인 중 새 프로세스로 넘긴 세션 수");
+    private static final Counter sessionsAdopted = MetricsRegistry.getInstance()
+            .counter("acidrain_drain_sessions_adopted_total", "이전 프로세스에서 이어받은 세션 수");
     private final int port;
     // ServerSocket -> very Important...!!@@
     private ServerSocket serverSocket;
@@ -35,28 +54,89 @@ public class GameServer {
     private final Map<String, Set<ClientHandler>> roomPlayers = new ConcurrentHashMap<>();
     private int roomIdCounter = 1;
     private final Map<String, ServerGameController> controllers = new ConcurrentHashMap<>();
+    private final SessionRegistry sessions = new SessionRegistry();
+    private final IdleReaper idleReaper = new IdleReaper();
+    private final Matchmaker matchmaker = new Matchmaker(this);
+    // 관전자는 방 인원(roomPlayers)과 따로 관리 -> 주기적인 상태 스냅샷만 받음
+    private final SpectatorHub spectators = new SpectatorHub(this);
+    // 방 목록 응답 캐시 -> 방 상태가 바뀌면 버전만 올리고, 다음 요청/브로드캐스트 때 한 번 다시 만듦
+    private final AtomicLong roomListVersion = new AtomicLong();
+    private volatile RoomListSnapshot roomListSnapshot = new RoomListSnapshot(-1, null);
+
+    private record RoomListSnapshot(long version, String message) {
+    }
+
+    // 방 목록 페이지/필터 조회용 인덱스 -> 방 상태가 바뀔 때마다 roomChanged/roomRemoved에서 갱신
+    private final RoomIndex roomIndex = new RoomIndex();
+    public static final int MAX_ROOM_PAGE_SIZE = 50;
+
+    // 게이트웨이 뒤의 게임 노드로 실행 중이면 링에서 이 노드가 맡는 방 ID만 발급 -> 게이트웨이가 방 ID만으로 노드를 찾음
+    // 노드 이름은 -Dacidrain.cluster.self (기본 localhost:포트), 단일 서버면 clusterRing은 null
+    static final String CLUSTER_SELF_PROPERTY = "acidrain.cluster.self";
+    private final ConsistentHashRing clusterRing;
+    private final String clusterSelf;
+    // 다른 노드와 방 목록 변경/접속자를 주고받음 -> 단일 서버면 이 노드만 붙은 버스라 아무 일도 하지 않음
+    private final ClusterLobby lobby;
+
+    /*
+     * 재시작 드레인 (종료 훅, 관리자 POST /drain)
+     * - -Dacidrain.server.reusePort=true면 리스닝 소켓을 SO_REUSEPORT로 열어 새 프로세스가 같은 포트를 먼저 열 수 있게 함
+     *   -> 드레인 시작 시 이 프로세스의 소켓만 닫음 (기본은 끔 -> 실수로 띄운 두 번째 서버는 포트 사용 중 오류로 실패)
+     * - 드레인 중에는 방 생성/입장/빠른 대전/게임 시작을 거절하고, 진행 중인 게임은 끝까지 진행
+     * - 1초마다 대기 중인 방을 닫고, 방에 없는 사용자를 초당 handoffPerSecond명씩 SessionHandoff로 넘긴 뒤 연결을 닫음
+     *   -> 클라이언트는 기존 재연결 흐름(RESUME)으로 새 프로세스에 붙음, 한꺼번에 끊지 않아 재연결이 몰리지 않음
+     * - 로그인 사용자와 게임이 모두 없어지거나 timeoutSeconds가 지나면 기존 종료 처리
+     */
+    static final String REUSE_PORT_PROPERTY = "acidrain.server.reusePort";
+    static final String DRAIN_TIMEOUT_PROPERTY = "acidrain.drain.timeoutSeconds";
+    static final String DRAIN_HANDOFF_RATE_PROPERTY = "acidrain.drain.handoffPerSecond";
+    private static final String DRAIN_MESSAGE = "서버 점검 중입니다. 잠시 후 다시 시도해 주세요.";
+    private final int drainTimeoutSeconds = Math.max(0, Integer.getInteger(DRAIN_TIMEOUT_PROPERTY, 60));
+    private final int handoffPerSecond = Math.max(1, Integer.getInteger(DRAIN_HANDOFF_RATE_PROPERTY, 50));
+    private final SessionHandoff handoff = new SessionHandoff();
+    private final CountDownLatch drained = new CountDownLatch(1);
+    private volatile boolean draining;
+    private ScheduledExecutorService drainTimer;
 
     public GameServer(int port) {
         this.port = port;
+        ConsistentHashRing ring = ConsistentHashRing.fromSystemProperty();
+        String self = System.getProperty(CLUSTER_SELF_PROPERTY, "localhost:" + port);
+        if (ring != null && !ring.contains(self)) {
+            logger.warning("클러스터 노드 목록에 " + self + "이(가) 없습니다. 단일 서버로 실행합니다.");
+            ring = null;
+        }
+        this.clusterRing = ring;
+        this.clusterSelf = self;
+        this.lobby = new ClusterLobby(this, LobbyBus.create(self));
     }
 
     public void start() {
         try {
-            serverSocket = new ServerSocket(port);
+            serverSocket = openServerSocket();
             running = true;
             logger.info("서버가 포트 " + port + "에서 시작되었습니다.");
+            if (clusterRing != null) {
+                logger.info("클러스터 노드 " + clusterSelf + "로 실행합니다 (전체 " + clusterRing.getNodes().size() + "개 노드)");
+            }
+            idleReaper.start();
+            matchmaker.start();
+            spectators.start();
+            lobby.start();
 
             // 클라이언트의 연결을 수락하고 새로운 클라이언트를 처리하는 메서드
-            while (running) {
+            while (running && !draining) {
                 try {
                     Socket clientSocket = serverSocket.accept();
                     handleNewConnection(clientSocket);
                 } catch (IOException e) {
-                    if (running) {
+                    if (running && !draining) {
                         logger.severe("클라이언트 연결 수락 중 오류: " + e.getMessage());
                     }
                 }
             }
+            // 드레인으로 소켓이 닫혔으면 남은 게임이 끝날 때까지 기다린 뒤 종료
+            awaitDrained();
         } catch (IOException e) {
             logger.severe("서버 시작 실패: " + e.getMessage());
             throw new RuntimeException("서버 시작 실패", e);
@@ -65,13 +145,30 @@ public class GameServer {
         }
     }
 
+    // 새 프로세스가 드레인 중인 이전 프로세스와 같은 포트를 열 수 있도록 SO_REUSEPORT 사용 (켰을 때, 지원하는 OS에서만)
+    // 두 프로세스 모두 켜야 같은 포트를 열 수 있음
+    private ServerSocket openServerSocket() throws IOException {
+        ServerSocket socket = new ServerSocket();
+        try {
+            socket.setReuseAddress(true);
+            if (Boolean.parseBoolean(System.getProperty(REUSE_PORT_PROPERTY, "false"))
+                    && socket.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT)) {
+                socket.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+            }
+            socket.bind(new InetSocketAddress(port));
+            return socket;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
     // 클라이언트 연결 이후, 해당 클라이언트의 스레드를 시작함 -> 클라이언트 핸들러
     private void handleNewConnection(Socket clientSocket) {
         try {
             ClientHandler clientHandler = new ClientHandler(clientSocket, this);
             if (clientHandler.isRunning()) {
-                clients.add(clientHandler);
-                clientsById.put(clientHandler.getClientId(), clientHandler);
+                registerClient(clientHandler);
                 new Thread(clientHandler).start();
                 logger.info("새로운 클라이언트 연결: " + clientSocket.getInetAddress());
                 broadcastUserCount();
@@ -89,17 +186,28 @@ public class GameServer {
         }
     }
 
+    // 벤치마크(benchmarks 모듈, 같은 패키지)에서 소켓 없이 접속자를 채울 수 있도록 package-private
+    void registerClient(ClientHandler clientHandler) {
+        clients.add(clientHandler);
+        clientsById.put(clientHandler.getClientId(), clientHandler);
+        idleReaper.register(clientHandler);
+    }
+
     public void sendPlayerList(String roomId, ClientHandler requester) {
         GameRoom room = rooms.get(roomId);
         if (room != null) {
             String playerList = String.join(";", room.getPlayers());
             requester.sendMessage(ServerMessage.PLAYER_LIST_RESPONSE + "|" + roomId + "|" +
                     room.getCurrentPlayers() + "|" + playerList);
-            logger.info("플레이어 목록 전송: " + roomId + " - " + playerList);
+            logger.fine(() -> "플레이어 목록 전송: " + roomId + " - " + playerList);
         }
     }
 
     public synchronized void createRoom(String[] roomInfo, ClientHandler creator) {
+        if (draining) {
+            creator.sendMessage(ServerMessage.CREATE_ROOM_RESPONSE + "|false|" + DRAIN_MESSAGE);
+            return;
+        }
         if (roomInfo.length < 6) {
             creator.sendMessage(ServerMessage.CREATE_ROOM_RESPONSE + "|false|잘못된 요청 형식입니다.");
             return;
@@ -118,29 +226,52 @@ public class GameServer {
             return;
         }
 
-        String roomId = "R" + roomIdCounter++;
-        GameRoom room = new GameRoom(roomName, password, gameMode, difficulty, maxPlayers);
-        room.setRoomId(roomId);
-        room.setHostName(creator.getUsername());
-        room.addPlayer(creator.getUsername());
-
-        rooms.put(roomId, room);
-        Set<ClientHandler> players = Collections.synchronizedSet(new HashSet<>());
-        players.add(creator);
-        roomPlayers.put(roomId, players);
+        GameRoom room = openRoom(roomName, password, gameMode, difficulty, maxPlayers, creator);
+        String roomId = room.getRoomId();
 
         String roomInfoStr = formatRoomInfo(room);
         creator.sendMessage(ServerMessage.CREATE_ROOM_RESPONSE + "|true|방이 생성되었습니다.|" + roomInfoStr + "|" + roomId);
-        creator.setCurrentRoomId(roomId);
 
         String playerList = String.join(";", room.getPlayers());
         broadcastToRoom(roomId, ServerMessage.PLAYER_UPDATE + "|" + roomId + "|" + room.getCurrentPlayers() + "|" + playerList);
 
-        broadcastRoomList();
+        roomChanged(room);
         logger.info("방 생성 완료: " + roomId + ", 방장: " + creator.getUsername());
     }
 
+    // 클러스터 노드면 다른 노드가 맡는 번호는 건너뜀 -> 노드끼리 ID가 겹치지 않고, 번호 순 정렬(방 목록 커서)도 그대로 유지
+    private String nextRoomId() {
+        while (true) {
+            String roomId = "R" + roomIdCounter++;
+            if (clusterRing == null || clusterSelf.equals(clusterRing.nodeFor(roomId))) {
+                return roomId;
+            }
+        }
+    }
+
+    // 새 방을 만들고 방장을 넣음 (방 생성, 빠른 대전 공통)
+    private GameRoom openRoom(String roomName, String password, GameMode gameMode, DifficultyLevel difficulty,
+                              int maxPlayers, ClientHandler host) {
+        String roomId = nextRoomId();
+        GameRoom room = new GameRoom(roomName, password, gameMode, difficulty, maxPlayers);
+        room.setRoomId(roomId);
+        room.setHostName(host.getUsername());
+        room.addPlayer(host.getUsername());
+        spectators.unwatch(host);
+
+        rooms.put(roomId, room);
+        Set<ClientHandler> players = Collections.synchronizedSet(new HashSet<>());
+        players.add(host);
+        roomPlayers.put(roomId, players);
+        host.setCurrentRoomId(roomId);
+        return room;
+    }
+
     public synchronized void joinRoom(String roomId, ClientHandler client, String password) {
+        if (draining) {
+            client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|" + DRAIN_MESSAGE);
+            return;
+        }
         GameRoom room = rooms.get(roomId);
         if (room == null) {
             client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|존재하지 않는 방입니다.");
@@ -166,6 +297,7 @@ public class GameServer {
         players.add(client);
         room.addPlayer(client.getUsername());
         client.setCurrentRoomId(roomId);
+        spectators.unwatch(client);
 
         String roomInfoStr = formatRoomInfo(room);
         client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|true|방에 입장했습니다.|" + roomInfoStr);
@@ -173,7 +305,7 @@ public class GameServer {
         String playerList = String.join(";", room.getPlayers());
         broadcastToRoom(roomId,  ServerMessage.PLAYER_UPDATE + "|" + roomId + "|" + room.getCurrentPlayers() + "|" + playerList);
 
-        broadcastRoomList();
+        roomChanged(room);
         logger.info(client.getUsername() + "님이 " + roomId + " 방에 입장했습니다.");
     }
 
@@ -201,6 +333,8 @@ public class GameServer {
             rooms.remove(roomId);
             roomPlayers.remove(roomId);
             controllers.remove(roomId);
+            roomRemoved(roomId);
+            spectators.roomClosed(roomId, "방이 닫혔습니다.");
             broadcast(ServerMessage.ROOM_CLOSED + "|" + roomId + "|방이 닫혔습니다.");
         } else if (isHost) {
             ClientHandler newHost = players.iterator().next();
@@ -216,7 +350,9 @@ public class GameServer {
             broadcastToRoom(roomId, ServerMessage.PLAYER_UPDATE + "|" + roomId + "|" + room.getCurrentPlayers() + "|" + playerList);
         }
 
-        broadcastRoomList();
+        if (!players.isEmpty()) {
+            roomChanged(room);
+        }
         logger.info(client.getUsername() + "님이 " + roomId + " 방에서 퇴장했습니다.");
     }
 
@@ -247,14 +383,28 @@ public class GameServer {
             broadcastToRoom(roomId, ServerMessage.SETTINGS_UPDATE + "|" + roomId + "|" +
                     room.getGameMode().name() + "|" +
                     room.getDifficulty().name());
-            broadcastRoomList();
+            roomChanged(room);
         } catch (IllegalArgumentException e) {
             updater.sendMessage(ServerMessage.ERROR + "|잘못된 설정값입니다: " + e.getMessage());
         }
     }
 
+    // 현재 설정을 다시 보냄 -> 속도 제한으로 설정 변경을 처리하지 못했을 때 방장 화면을 되돌림
+    void sendRoomSettings(String roomId, ClientHandler client) {
+        GameRoom room = rooms.get(roomId);
+        if (room != null) {
+            client.sendMessage(ServerMessage.SETTINGS_UPDATE + "|" + roomId + "|" +
+                    room.getGameMode().name() + "|" +
+                    room.getDifficulty().name());
+        }
+    }
+
     // 게임 시작
     public void startGame(String roomId, ClientHandler starter) {
+        if (draining) {
+            starter.sendMessage(ServerMessage.ERROR + "|" + DRAIN_MESSAGE);
+            return;
+        }
         GameRoom room = rooms.get(roomId);
         if (room == null || !starter.getUsername().equals(room.getHostName())) {
             starter.sendMessage(ServerMessage.ERROR + "|게임을 시작할 권한이 없습니다.");
@@ -267,6 +417,11 @@ public class GameServer {
             return;
         }
 
+        beginGame(room);
+    }
+
+    private void beginGame(GameRoom room) {
+        String roomId = room.getRoomId();
         try {
             room.setGameStarted(true);
             room.setInGame(true);
@@ -274,11 +429,13 @@ public class GameServer {
             ServerGameController controller = new ServerGameController(this, room);
             controllers.put(roomId, controller);
 
-            broadcastToRoom(roomId, ServerMessage.GAME_START + "|" + roomId + "|" +
-                    String.join(";", room.getPlayers()));
+            // 참가자 목록 뒤에 이번 게임의 단어 테이블을 붙여 보냄 -> 이후 단어 이벤트는 ID만 사용
+            String gameInfo = roomId + "|" + String.join(";", room.getPlayers()) + "|" + controller.getWordTable().encode();
+            broadcastToRoom(roomId, ServerMessage.GAME_START + "|" + gameInfo);
+            spectators.broadcast(roomId, ServerMessage.SPECTATE_START + "|" + gameInfo);
 
             controller.startGame();
-            broadcastRoomList();
+            roomChanged(room);
             logger.info("게임 시작됨: 방 " + roomId);
         } catch (Exception e) {
             logger.severe("게임 시작 중 오류 발생: " + e.getMessage());
@@ -288,6 +445,111 @@ public class GameServer {
         }
     }
 
+    // QUICK_MATCH|모드|난이도 -> 로그인했고 방에 없는 사용자만 대기열에 넣음
+    public synchronized void requestQuickMatch(ClientHandler client, GameMode mode, DifficultyLevel difficulty) {
+        if (draining) {
+            client.sendMessage(ServerMessage.MATCH_CANCELLED + "|" + DRAIN_MESSAGE);
+            return;
+        }
+        if (!isMatchable(client)) {
+            client.sendMessage(ServerMessage.MATCH_CANCELLED + "|이미 방에 입장해 있습니다.");
+            return;
+        }
+
+        int rating = matchmaker.enqueue(client, mode, difficulty);
+        client.sendMessage(ServerMessage.MATCH_QUEUED + "|" + mode.name() + "|" + difficulty.name() + "|" + rating);
+        logger.fine(() -> "빠른 대전 대기: " + client.getUsername() + " (" + mode + ", " + difficulty + ", " + rating + "점)");
+    }
+
+    public synchronized void cancelQuickMatch(ClientHandler client) {
+        matchmaker.cancel(client);
+        client.sendMessage(ServerMessage.MATCH_CANCELLED + "|매칭을 취소했습니다.");
+    }
+
+    /*
+     * SPECTATE|방ID -> 로그인했고 방에 없는 사용자만, 비밀번호가 있는 방은 관전할 수 없음
+     * SPECTATE_OK|방ID|관전자 수, 게임 중이면 이어서 SPECTATE_START|방ID|참가자|단어 테이블
+     */
+    public synchronized void spectate(ClientHandler client, String roomId) {
+        GameRoom room = rooms.get(roomId);
+        String reason = null;
+        if (draining) {
+            reason = DRAIN_MESSAGE;
+        } else if (client.getUsername() == null) {
+            reason = "로그인이 필요합니다.";
+        } else if (client.getCurrentRoomId() != null) {
+            reason = "방에 입장한 상태에서는 관전할 수 없습니다.";
+        } else if (room == null) {
+            reason = "존재하지 않는 방입니다.";
+        } else if (room.isPasswordRequired()) {
+            reason = "비밀번호가 있는 방은 관전할 수 없습니다.";
+        } else {
+            ServerGameController controller = controllers.get(roomId);
+            String startMessage = controller != null && controller.isInProgress()
+                    ? ServerMessage.SPECTATE_START + "|" + roomId + "|" +
+                    String.join(";", room.getPlayers()) + "|" + controller.getWordTable().encode()
+                    : null;
+            if (!spectators.watch(client, roomId, startMessage)) {
+                reason = "관전자가 가득 찼습니다.";
+            }
+        }
+        if (reason != null) {
+            client.sendMessage(ServerMessage.SPECTATE_FAILED + "|" + reason);
+            return;
+        }
+
+        logger.fine(() -> "관전 시작: " + client.getUsername() + " -> " + roomId);
+    }
+
+    public void stopSpectating(ClientHandler client) {
+        String roomId = spectators.getWatchedRoom(client);
+        if (roomId != null) {
+            spectators.unwatch(client, ServerMessage.SPECTATE_END + "|" + roomId + "|관전을 종료했습니다.");
+        }
+    }
+
+    // 게임 종료 결과처럼 관전자도 한 번 받아야 하는 방 메시지 (ServerGameController)
+    public void broadcastToSpectators(String roomId, String message) {
+        spectators.broadcast(roomId, message);
+    }
+
+    synchronized boolean isMatchable(ClientHandler client) {
+        return client.isRunning() && client.getUsername() != null && client.getCurrentRoomId() == null
+                && activeUsersByName.get(client.getUsername()) == client;
+    }
+
+    /*
+     * 매칭된 플레이어로 방을 만들고 바로 게임 시작 (Matchmaker 스레드에서 호출)
+     * 첫 번째 플레이어가 방장, 비밀번호 없음, 정원은 매칭 인원
+     * @return 그 사이 연결이 끊겼거나 방에 들어간 플레이어가 있으면 아무것도 하지 않고 false
+     */
+    synchronized boolean startMatchedGame(GameMode mode, DifficultyLevel difficulty, List<ClientHandler> players) {
+        if (draining) {
+            return false;
+        }
+        for (ClientHandler player : players) {
+            if (!isMatchable(player)) {
+                return false;
+            }
+        }
+
+        GameRoom room = openRoom("빠른 대전", "", mode, difficulty, players.size(), players.get(0));
+        Set<ClientHandler> roomMembers = roomPlayers.get(room.getRoomId());
+        for (ClientHandler player : players.subList(1, players.size())) {
+            roomMembers.add(player);
+            room.addPlayer(player.getUsername());
+            player.setCurrentRoomId(room.getRoomId());
+            spectators.unwatch(player);
+        }
+        for (ClientHandler player : players) {
+            matchmaker.cancel(player);
+        }
+
+        logger.info("빠른 대전 매칭: 방 " + room.getRoomId() + " (" + String.join(", ", room.getPlayers()) + ")");
+        beginGame(room);
+        return true;
+    }
+
     /*
      * GAME_ACTION 메시지를 처리하는 메서드.
      */
@@ -359,7 +621,7 @@ public class GameServer {
                             response.append("|").append(entry.toFileString());
                         }
                         player.sendMessage(response.toString());
-                        logger.info("상위 기록 전송 - 모드: " + mode + ", 난이도: " + difficulty);
+                        logger.fine(() -> "상위 기록 전송 - 모드: " + mode + ", 난이도: " + difficulty);
                     }
                     case "GET_MY_RECORDS" -> {
                         List<LeaderboardEntry> userEntries = leaderboardManager.getUserEntries(player.getUsername());
@@ -368,7 +630,7 @@ public class GameServer {
                             response.append("|").append(entry.toFileString());
                         }
                         player.sendMessage(response.toString());
-                        logger.info("사용자 기록 전송 - 사용자: " + player.getUsername());
+                        logger.fine(() -> "사용자 기록 전송 - 사용자: " + player.getUsername());
                     }
                     default -> {
                         logger.warning("알 수 없는 리더보드 액션: " + leaderboardAction);
@@ -389,10 +651,11 @@ public class GameServer {
     }
 
     public synchronized void removeClient(ClientHandler client) {
+        spectators.unwatch(client);
         clients.remove(client);
         clientsById.remove(client.getClientId());
-        if (client.getUsername() != null) {
-            activeUsersByName.remove(client.getUsername(), client);
+        if (client.getUsername() != null && activeUsersByName.remove(client.getUsername(), client)) {
+            lobby.userLeft(client.getUsername());
         }
         String roomId = client.getCurrentRoomId();
         if (roomId != null) {
@@ -401,13 +664,176 @@ public class GameServer {
         broadcastUserCount();
     }
 
+    // 로그인 성공 후 재연결용 세션 발급 -> SESSION|토큰|유예시간(초)
+    public synchronized void openSession(ClientHandler client) {
+        if (!sessions.isResumeEnabled()) {
+            return;
+        }
+
+        SessionRegistry.Session previous = sessions.get(client.getSessionToken());
+        if (previous != null) {
+            sessions.remove(previous);
+        }
+        SessionRegistry.Session session = sessions.create(client);
+        client.setSessionToken(session.getToken());
+        client.sendMessage(ServerMessage.SESSION + "|" + session.getToken() + "|" + sessions.getGraceSeconds());
+    }
+
+    /*
+     * 클라이언트 연결이 끝났을 때 호출 (ClientHandler.cleanup)
+     * - 다른 연결이 이미 세션을 이어받았으면 이 연결만 정리
+     * - 로그인한 세션이 비정상 종료되면 방/게임 자리를 유지한 채 유예 -> 만료 시 기존 퇴장 처리
+     * - 그 외(로그아웃, 미로그인, 서버 종료 중)는 바로 퇴장 처리
+     */
+    public synchronized void handleDisconnect(ClientHandler client, boolean loggedOut) {
+        // 빠른 대전 대기열과 관전은 유예하지 않음 -> 재연결한 클라이언트가 다시 요청
+        matchmaker.cancel(client);
+        spectators.unwatch(client);
+        SessionRegistry.Session session = sessions.get(client.getSessionToken());
+        if (session != null && session.getHandler() != client) {
+            clients.remove(client);
+            clientsById.remove(client.getClientId());
+            return;
+        }
+
+        if (session != null && !loggedOut && running) {
+            clients.remove(client);
+            clientsById.remove(client.getClientId());
+            sessions.detach(session, () -> expireSession(session));
+            logger.info(client.getUsername() + "님의 연결이 끊겼습니다. " + sessions.getGraceSeconds() + "초 동안 재연결을 기다립니다.");
+            return;
+        }
+
+        if (session != null) {
+            sessions.remove(session);
+        }
+        removeClient(client);
+    }
+
+    private synchronized void expireSession(SessionRegistry.Session session) {
+        if (!session.isDetached() || sessions.get(session.getToken()) != session) {
+            return;
+        }
+
+        sessions.remove(session);
+        ClientHandler client = session.getHandler();
+        logger.info(client.getUsername() + "님의 재연결 유예 시간이 지나 퇴장 처리합니다.");
+        removeClient(client);
+    }
+
+    /*
+     * RESUME|토큰 처리 -> 새 연결이 기존 세션의 이름, 방, 게임 자리를 이어받음
+     * 성공하면 다시 로그인/방 목록을 받을 필요 없이 RESUME_OK 스냅샷 하나로 상태를 맞춤
+     * @return 만료되었거나 알 수 없는 토큰이면 false
+     */
+    public synchronized boolean resumeSession(ClientHandler client, String token) {
+        SessionRegistry.Session session = sessions.get(token);
+        if (session == null) {
+            return adoptHandedOffSession(client, token);
+        }
+
+        ClientHandler previous = session.getHandler();
+        if (previous == client) {
+            return true;
+        }
+        // 끊겨 있던 동안 시작된 게임이면 GAME_START(단어 테이블 포함)부터 다시 보내야 함
+        long detachedAtNanos = session.isDetached() ? session.getDetachedAtNanos() : Long.MAX_VALUE;
+        // 서버가 아직 끊김을 감지하지 못한 연결(half-open)이면 정리 -> 그 연결의 cleanup은 위에서 무시됨
+        sessions.attach(session, client);
+        if (previous.isRunning()) {
+            previous.shutdown();
+        }
+        spectators.unwatch(previous);
+        clients.remove(previous);
+        clientsById.remove(previous.getClientId());
+
+        String username = previous.getUsername();
+        client.setUsername(username);
+        client.setSessionToken(session.getToken());
+        activeUsersByName.put(username, client);
+
+        String roomId = previous.getCurrentRoomId();
+        Set<ClientHandler> players = roomId != null ? roomPlayers.get(roomId) : null;
+        if (players != null) {
+            players.remove(previous);
+            players.add(client);
+            client.setCurrentRoomId(roomId);
+        }
+        previous.setCurrentRoomId(null);
+
+        ServerGameController controller = roomId != null ? controllers.get(roomId) : null;
+        if (players != null && controller != null && controller.getCreatedAtNanos() > detachedAtNanos) {
+            client.sendMessage(ServerMessage.GAME_START + "|" + roomId + "|" +
+                    String.join(";", rooms.get(roomId).getPlayers()) + "|" + controller.getWordTable().encode());
+        }
+        client.sendMessage(buildResumeSnapshot(client));
+        if (players == null) {
+            // 메인 메뉴에 있던 클라이언트 -> 끊긴 동안 놓친 유저 수만 본인에게 보냄 (방 목록은 화면이 SESSION_RESUMED를 받고 다시 요청)
+            sendUserCount(client);
+        } else if (!rooms.get(roomId).isInGame()) {
+            sendPlayerList(roomId, client);
+        }
+
+        logger.info(username + "님이 재연결했습니다." + (roomId != null ? " (방 " + roomId + ")" : ""));
+        return true;
+    }
+
+    // 이전 프로세스가 드레인하며 넘긴 로비 세션 -> 같은 토큰으로 로그인 상태만 복구 (방은 없음)
+    private boolean adoptHandedOffSession(ClientHandler client, String token) {
+        if (draining || !sessions.isResumeEnabled()) {
+            return false;
+        }
+        String username = handoff.claim(token);
+        if (username == null || !registerLogin(client, username)) {
+            return false;
+        }
+
+        sessions.adopt(token, client);
+        client.setSessionToken(token);
+        client.sendMessage(buildResumeSnapshot(client));
+        broadcastUserCount();
+        sessionsAdopted.increment();
+        logger.info(username + "님의 세션을 이전 프로세스에서 이어받았습니다.");
+        return true;
+    }
+
+    // RESUME_OK|방ID|게임중|플레이어:점수:pH;...|단어ID,x[,효과];...
+    // 방이 없으면 방ID는 빈 문자열, 게임 중이 아니면 뒤의 두 필드는 생략
+    private String buildResumeSnapshot(ClientHandler client) {
+        String roomId = client.getCurrentRoomId();
+        StringBuilder snapshot = new StringBuilder(ServerMessage.RESUME_OK)
+                .append("|").append(roomId != null ? roomId : "");
+
+        ServerGameController controller = roomId != null ? controllers.get(roomId) : null;
+        if (controller != null && controller.isInProgress()) {
+            snapshot.append("|true|").append(controller.encodeResumeState());
+        } else {
+            snapshot.append("|false");
+        }
+        return snapshot.toString();
+    }
+
     public void broadcastToRoom(String roomId, String message) {
         Set<ClientHandler> players = roomPlayers.get(roomId);
         if (players != null) {
+            long startNanos = System.nanoTime();
+            RoomBroadcastEvent event = new RoomBroadcastEvent();
+            event.begin();
+            int recipients;
             synchronized (players) {
                 for (ClientHandler player : players) {
                     player.sendMessage(message);
                 }
+                recipients = players.size();
+                roomBroadcastMessages.add(recipients);
+            }
+            roomBroadcastLatency.recordSince(startNanos);
+            if (event.shouldCommit()) {
+                event.roomId = roomId;
+                event.messageType = AcidRainEvent.typeOf(message);
+                event.byteSize = AcidRainEvent.utf8Length(message) * recipients;
+                event.recipients = recipients;
+                event.commit();
             }
         }
     }
@@ -420,28 +846,101 @@ public class GameServer {
         }
     }
 
-    public void broadcastRoomList() {
-        StringBuilder response = new StringBuilder("ROOM_LIST_RESPONSE");
+    // 방 상태가 바뀐 뒤 호출 -> 인덱스 갱신, 전체 목록 캐시 무효화, 메인 메뉴에 있는 클라이언트에게 변경만 알림
+    // 목록은 보내지 않음 -> 방 목록 화면을 열어 둔 클라이언트만 보고 있는 페이지를 다시 요청
+    private void roomChanged(GameRoom room) {
+        roomIndex.update(room);
+        notifyRoomListChanged();
+    }
+
+    private void roomRemoved(String roomId) {
+        roomIndex.remove(roomId);
+        notifyRoomListChanged();
+    }
+
+    private void notifyRoomListChanged() {
+        roomListVersion.incrementAndGet();
+        notifyLobbyClients();
+        lobby.roomListChanged();
+    }
+
+    // 다른 노드의 방 목록이 바뀌었을 때도 호출 (ClusterLobby, 버스 스레드)
+    void notifyLobbyClients() {
+        String message = ServerMessage.ROOM_LIST_CHANGED + "|" + roomListVersion.get();
+        synchronized (clients) {
+            for (ClientHandler client : clients) {
+                if (client.getUsername() != null && client.getCurrentRoomId() == null) {
+                    client.sendMessage(message);
+                }
+            }
+        }
+    }
+
+    // 벤치마크에서 소켓 없이 방을 채울 수 있도록 package-private, 알림은 보내지 않음
+    void addRoom(GameRoom room) {
+        rooms.put(room.getRoomId(), room);
+        roomIndex.update(room);
+        roomListVersion.incrementAndGet();
+    }
+
+    // ROOM_LIST|커서|페이지크기|... 응답 -> 인덱스에서 요청한 페이지만 꺼냄 (요청한 클라이언트에게만 보냄)
+    // ROOM_LIST_PAGE|전체 방 수|다음 커서(마지막 페이지면 빈 문자열)|roomInfo1|roomInfo2|...
+    String buildRoomListPage(RoomIndex.Query query) {
+        RoomIndex.Page page = roomIndex.query(query);
+        StringBuilder response = new StringBuilder(64 + page.rooms().size() * 48)
+                .append(ServerMessage.ROOM_LIST_PAGE)
+                .append('|').append(page.total())
+                .append('|').append(page.nextCursor() != null ? page.nextCursor() : "");
+        for (GameRoom room : page.rooms()) {
+            appendRoomInfo(response.append('|'), room);
+        }
+        return response.toString();
+    }
+
+    public void sendUserCount(ClientHandler requester) {
+        requester.sendMessage(ServerMessage.USERS + "|" + lobby.getUserCount());
+    }
+
+    // 인자 없는 ROOM_LIST 응답 -> 캐시된 전체 목록 (이전 클라이언트 호환, 요청한 클라이언트에게만 보냄)
+    // 버전을 먼저 읽고 만들기 때문에, 만드는 도중 방이 바뀌면 다음 호출에서 다시 만듦
+    String getRoomListMessage() {
+        RoomListSnapshot snapshot = roomListSnapshot;
+        long version = roomListVersion.get();
+        if (snapshot.version() != version) {
+            snapshot = new RoomListSnapshot(version, buildRoomListMessage());
+            roomListSnapshot = snapshot;
+        }
+        return snapshot.message();
+    }
+
+    // 방 목록 응답 메시지 생성 -> 포맷 비용만 따로 측정할 수 있도록 분리
+    String buildRoomListMessage() {
+        StringBuilder response = new StringBuilder(ServerMessage.ROOM_LIST_RESPONSE);
         for (GameRoom room : rooms.values()) {
-            response.append("|").append(formatRoomInfo(room));
+            appendRoomInfo(response.append('|'), room);
         }
-        broadcast(response.toString());
+        return response.toString();
     }
 
+    // 접속자 수는 클러스터 전체 기준 (단일 서버면 이 서버의 로그인 사용자 수)
     public void broadcastUserCount() {
-        broadcast(ServerMessage.USERS + "|" + activeUsersByName.size());
+        broadcast(ServerMessage.USERS + "|" + lobby.getUserCount());
     }
 
     private String formatRoomInfo(GameRoom room) {
-        return String.format("%s,%s,%d,%d,%s,%s,%s,%s",
-                room.getRoomId(),
-                room.getRoomName(),
-                room.getCurrentPlayers(),
-                room.getMaxPlayers(),
-                room.getGameMode().getDisplayName(),
-                room.getDifficulty().getDisplayName(),
-                room.getHostName(),
-                room.isPasswordRequired());
+        return appendRoomInfo(new StringBuilder(48), room).toString();
+    }
+
+    // 방ID,방이름,현재인원,최대인원,모드,난이도,방장,비밀번호여부 -> 목록 응답마다 방 수만큼 호출되므로 String.format 대신 직접 이어 붙임
+    private static StringBuilder appendRoomInfo(StringBuilder sb, GameRoom room) {
+        return sb.append(room.getRoomId()).append(',')
+                .append(room.getRoomName()).append(',')
+                .append(room.getCurrentPlayers()).append(',')
+                .append(room.getMaxPlayers()).append(',')
+                .append(room.getGameMode().getDisplayName()).append(',')
+                .append(room.getDifficulty().getDisplayName()).append(',')
+                .append(room.getHostName()).append(',')
+                .append(room.isPasswordRequired());
     }
 
     public synchronized void resetRoomAfterGame(String roomId) {
@@ -454,11 +953,142 @@ public class GameServer {
         room.setGameStarted(false);
         room.setInGame(false);
         controllers.remove(roomId);
-        broadcastRoomList();
+        roomChanged(room);
     }
 
-    public void shutdown() {
-        running = false;
+    // 드레인 시작 -> 이 프로세스의 리스닝 소켓을 닫고 1초마다 drainTick 실행, 이미 드레인 중이면 아무것도 하지 않음
+    public void drain() {
+        synchronized (this) {
+            if (draining || !running) {
+                return;
+            }
+            draining = true;
+            handoff.reset();
+            drainTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "server-drain");
+                thread.setDaemon(true);
+                return thread;
+            });
+            drainTimer.scheduleWithFixedDelay(this::drainTick, 0, 1, TimeUnit.SECONDS);
+        }
+        closeServerSocket();
+        logger.info("드레인을 시작합니다. 새 연결과 방 생성을 받지 않고 진행 중인 게임 " + controllers.size()
+                + "개가 끝나기를 기다립니다 (최대 " + drainTimeoutSeconds + "초).");
+    }
+
+    /*
+     * 드레인이 끝날 때까지 기다림 (최대 -Dacidrain.drain.timeoutSeconds, 기본 60초)
+     * @return 시간 안에 모든 게임과 세션을 정리했으면 true, 드레인 중이 아니면 바로 true
+     */
+    public boolean awaitDrained() {
+        if (!draining) {
+            return true;
+        }
+        try {
+            if (drained.await(drainTimeoutSeconds, TimeUnit.SECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.warning("드레인 시간이 지났습니다. 남은 게임 " + controllers.size() + "개를 종료합니다.");
+        return false;
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    public int getDrainTimeoutSeconds() {
+        return drainTimeoutSeconds;
+    }
+
+    // 방 닫기와 넘길 세션 고르기만 서버 락 안에서 하고, 인계 파일 쓰기는 락 밖에서 함
+    // -> 드레인 중에도 방 생성/입장/재연결 처리가 디스크 I/O를 기다리지 않음
+    private void drainTick() {
+        try {
+            HandoffBatch batch;
+            synchronized (this) {
+                closeWaitingRooms();
+                batch = collectHandoffBatch();
+            }
+            if (batch != null) {
+                handOff(batch);
+            }
+            synchronized (this) {
+                if (controllers.isEmpty() && activeUsersByName.isEmpty()) {
+                    logger.info("드레인 완료: 남은 게임과 로그인 사용자가 없습니다.");
+                    drained.countDown();
+                    drainTimer.shutdown();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.severe("드레인 처리 중 오류", e);
+        }
+    }
+
+    // 게임이 진행 중이 아닌 방(대기실, 게임이 끝난 방)은 넘기지 않고 닫음 -> 방에 있던 사용자는 다음 틱부터 넘길 대상
+    private void closeWaitingRooms() {
+        for (GameRoom room : new ArrayList<>(rooms.values())) {
+            String roomId = room.getRoomId();
+            if (room.isInGame() || controllers.containsKey(roomId)) {
+                continue;
+            }
+            broadcastToRoom(roomId, ServerMessage.ROOM_CLOSED + "|" + roomId + "|서버 점검으로 방이 닫혔습니다.");
+            Set<ClientHandler> players = roomPlayers.remove(roomId);
+            rooms.remove(roomId);
+            if (players != null) {
+                synchronized (players) {
+                    for (ClientHandler player : players) {
+                        player.setCurrentRoomId(null);
+                    }
+                }
+            }
+            roomRemoved(roomId);
+            spectators.roomClosed(roomId, "서버 점검으로 방이 닫혔습니다.");
+            logger.info("드레인: 대기 중인 방 " + roomId + "을(를) 닫았습니다.");
+        }
+    }
+
+    private record HandoffBatch(Map<String, String> usernamesByToken, List<ClientHandler> clients) {
+    }
+
+    // 방에 없는 로그인 사용자를 이번 틱 한도만큼 고름 -> 세션은 여기서 지워 다른 연결이 이어받지 못하게 함
+    private HandoffBatch collectHandoffBatch() {
+        Map<String, String> usernamesByToken = new LinkedHashMap<>();
+        List<ClientHandler> handedOff = new ArrayList<>();
+        for (ClientHandler client : activeUsersByName.values()) {
+            if (handedOff.size() >= handoffPerSecond) {
+                break;
+            }
+            // 진행 중인 게임을 관전하는 사용자도 게임이 끝날 때까지 둠 (방이 닫히면 관전도 끝남)
+            if (client.getCurrentRoomId() != null || spectators.getWatchedRoom(client) != null) {
+                continue;
+            }
+            SessionRegistry.Session session = sessions.get(client.getSessionToken());
+            if (session != null) {
+                usernamesByToken.put(session.getToken(), client.getUsername());
+                sessions.remove(session);
+            }
+            handedOff.add(client);
+        }
+        return handedOff.isEmpty() ? null : new HandoffBatch(usernamesByToken, handedOff);
+    }
+
+    // 파일을 먼저 쓰고 연결을 닫아야 새 프로세스가 토큰을 찾음
+    private void handOff(HandoffBatch batch) {
+        long expiresAtMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(sessions.getGraceSeconds());
+        if (!batch.usernamesByToken().isEmpty() && handoff.export(batch.usernamesByToken(), expiresAtMillis)) {
+            sessionsHandedOff.add(batch.usernamesByToken().size());
+        }
+        for (ClientHandler client : batch.clients()) {
+            removeClient(client);
+            client.shutdown();
+        }
+        logger.info("드레인: 세션 " + batch.clients().size() + "개를 넘겼습니다. 남은 로그인 사용자 " + activeUsersByName.size() + "명");
+    }
+
+    private void closeServerSocket() {
         try {
             if (serverSocket != null && !serverSocket.isClosed()) {
                 serverSocket.close();
@@ -466,6 +1096,16 @@ public class GameServer {
         } catch (IOException e) {
             logger.severe("서버 소켓 종료 중 오류: " + e.getMessage());
         }
+    }
+
+    public void shutdown() {
+        running = false;
+        closeServerSocket();
+        synchronized (this) {
+            if (drainTimer != null) {
+                drainTimer.shutdownNow();
+            }
+        }
 
         synchronized (clients) {
             for (ClientHandler client : clients) {
@@ -475,8 +1115,16 @@ public class GameServer {
         }
 
         rooms.clear();
+        roomIndex.clear();
         roomPlayers.clear();
         controllers.clear();
+        sessions.shutdown();
+        idleReaper.shutdown();
+        matchmaker.shutdown();
+        spectators.shutdown();
+        lobby.shutdown();
+        // 저장 주기를 기다리지 않고 마지막 실력 점수 변경을 기록
+        RatingManager.getInstance().flush();
 
         logger.info("서버가 종료되었습니다.");
     }
@@ -489,18 +1137,37 @@ public class GameServer {
         return roomPlayers;
     }
 
+    // 관리자 통계 조회용 -> 동시성 맵의 뷰이므로 순회 중 락을 잡지 않음
+    public Collection<ClientHandler> getConnectedClients() {
+        return Collections.unmodifiableCollection(clientsById.values());
+    }
+
+    public ServerGameController getController(String roomId) {
+        return controllers.get(roomId);
+    }
+
+    public int getActiveUserCount() {
+        return activeUsersByName.size();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
     public synchronized boolean registerLogin(ClientHandler client, String username) {
         ClientHandler existing = activeUsersByName.get(username);
         if (existing != null && existing != client) {
             return false;
         }
 
-        if (client.getUsername() != null && !client.getUsername().equals(username)) {
-            activeUsersByName.remove(client.getUsername(), client);
+        if (client.getUsername() != null && !client.getUsername().equals(username)
+                && activeUsersByName.remove(client.getUsername(), client)) {
+            lobby.userLeft(client.getUsername());
         }
 
         client.setUsername(username);
         activeUsersByName.put(username, client);
+        lobby.userJoined(username);
         return true;
     }
 }
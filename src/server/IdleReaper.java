@@ -0,0 +1,151 @@
+/*
+ * server.IdleReaper.java
+ * 유휴 연결 정리기 -> 타이머 스레드 하나가 해시 타이밍 휠(1초 칸 64개)을 돌림
+ * - 연결마다 "다음에 확인할 시각"을 휠 칸에 넣어 두고, 칸이 돌아오면 그 칸의 연결만 확인 -> 매 틱 전체 클라이언트를 훑지 않음
+ * - 메시지를 받을 때는 마지막 활동 시각만 갱신(휠은 건드리지 않음), 확인 시점에 실제 유휴 시간으로 다시 예약
+ * - 유휴 시간이 heartbeat 간격을 넘으면 PING을 보내고, timeout을 넘으면 소켓을 닫음
+ *   -> 로그인한 연결은 ClientHandler.cleanup을 거쳐 세션 유예(재연결 대기) 상태가 됨
+ * - 간격은 -Dacidrain.heartbeat.intervalSeconds (기본 15초), timeout은 -Dacidrain.heartbeat.timeoutSeconds (기본 45초)
+ */
+
+package server;
+
+import client.event.GameEvent.ServerMessage;
+import common.log.Log;
+import server.metrics.Counter;
+import server.metrics.MetricsRegistry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class IdleReaper {
+    static final String INTERVAL_PROPERTY = "acidrain.heartbeat.intervalSeconds";
+    static final String TIMEOUT_PROPERTY = "acidrain.heartbeat.timeoutSeconds";
+    private static final Log logger = Log.get(IdleReaper.class);
+    private static final Counter pingsSent = MetricsRegistry.getInstance()
+            .counter("acidrain_heartbeat_pings_total", "유휴 연결에 보낸 PING 수");
+    private static final Counter idleEvictions = MetricsRegistry.getInstance()
+            .counter("acidrain_idle_evictions_total", "응답이 없어 닫은 연결 수");
+    private static final int DEFAULT_INTERVAL_SECONDS = 15;
+    private static final int DEFAULT_TIMEOUT_SECONDS = 45;
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // 2의 거듭제곱 -> 칸 번호를 비트 마스크로 계산, 한 바퀴(64초)보다 먼 예약은 round로 구분
+    private static final int WHEEL_SIZE = 64;
+
+    private record Entry(ClientHandler client, long tick) {
+    }
+
+    private final long intervalNanos;
+    private final long timeoutNanos;
+    // 휠의 0번 틱 시각 -> start()에서 다시 정함 (생성과 start 사이의 지연만큼 확인 시각이 밀리지 않도록)
+    // wheel, currentTick, startNanos는 this로 보호
+    private long startNanos = System.nanoTime();
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final ArrayDeque<Entry>[] wheel = new ArrayDeque[WHEEL_SIZE];
+    private long currentTick;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "idle-reaper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    IdleReaper() {
+        int intervalSeconds = Math.max(1, Integer.getInteger(INTERVAL_PROPERTY, DEFAULT_INTERVAL_SECONDS));
+        int timeoutSeconds = Math.max(intervalSeconds + 1, Integer.getInteger(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT_SECONDS));
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(intervalSeconds);
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+    }
+
+    void start() {
+        synchronized (this) {
+            startNanos = System.nanoTime();
+            currentTick = 0;
+            // start 전에 등록된 연결은 새 기준 시각으로 다시 배치
+            List<ClientHandler> registered = new ArrayList<>();
+            for (ArrayDeque<Entry> slot : wheel) {
+                for (Entry entry : slot) {
+                    registered.add(entry.client());
+                }
+                slot.clear();
+            }
+            for (ClientHandler client : registered) {
+                register(client);
+            }
+        }
+        timer.scheduleAtFixedRate(this::advance, TICK_NANOS, TICK_NANOS, TimeUnit.NANOSECONDS);
+        logger.info("유휴 연결 확인 시작: PING " + TimeUnit.NANOSECONDS.toSeconds(intervalNanos) + "초, 종료 "
+                + TimeUnit.NANOSECONDS.toSeconds(timeoutNanos) + "초");
+    }
+
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    // 새 연결 등록, 종료된 연결은 확인 시점에 휠에서 빠지므로 따로 해지하지 않음
+    void register(ClientHandler client) {
+        schedule(client, client.getLastActivityNanos() + intervalNanos);
+    }
+
+    private synchronized void schedule(ClientHandler client, long deadlineNanos) {
+        // 올림 -> 예정 시각보다 먼저 확인하지 않음
+        long tick = Math.max(currentTick + 1, (deadlineNanos - startNanos + TICK_NANOS - 1) / TICK_NANOS);
+        wheel[(int) (tick & (WHEEL_SIZE - 1))].add(new Entry(client, tick));
+    }
+
+    // 타이머 스레드에서 1초마다 실행, 이번 칸에서 기한이 된 연결만 꺼내 확인
+    private void advance() {
+        List<ClientHandler> due = new ArrayList<>();
+        synchronized (this) {
+            currentTick++;
+            Iterator<Entry> it = wheel[(int) (currentTick & (WHEEL_SIZE - 1))].iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.tick() <= currentTick) {
+                    it.remove();
+                    due.add(entry.client());
+                }
+            }
+        }
+
+        for (ClientHandler client : due) {
+            try {
+                check(client);
+            } catch (Exception e) {
+                logger.severe("유휴 연결 확인 중 오류", e);
+            }
+        }
+    }
+
+    private void check(ClientHandler client) {
+        if (!client.isRunning()) {
+            return;
+        }
+
+        long lastActivity = client.getLastActivityNanos();
+        long idleNanos = System.nanoTime() - lastActivity;
+        if (idleNanos >= timeoutNanos) {
+            idleEvictions.increment();
+            logger.info(() -> "응답 없는 연결 종료: " + describe(client)
+                    + " (" + TimeUnit.NANOSECONDS.toSeconds(idleNanos) + "초 유휴)");
+            client.shutdown();
+        } else if (idleNanos >= intervalNanos) {
+            pingsSent.increment();
+            client.sendMessage(ServerMessage.PING);
+            schedule(client, lastActivity + timeoutNanos);
+        } else {
+            schedule(client, lastActivity + intervalNanos);
+        }
+    }
+
+    private static String describe(ClientHandler client) {
+        return client.getUsername() != null ? client.getUsername() : client.getClientId();
+    }
+}
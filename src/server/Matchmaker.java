@@ -0,0 +1,227 @@
+/*
+ * server.Matchmaker.java
+ * 빠른 대전 매칭 -> 방 목록에서 자리를 두고 경쟁하지 않고 서버가 비슷한 실력끼리 묶어 바로 게임을 시작함
+ * - (모드, 난이도)마다 대기열을 두고, 대기열 안에서는 실력 점수 구간(100점)별로 TreeMap에 보관
+ *   -> 등록/취소는 구간 찾기 O(log n) + 구간 안에서 O(1), 구간 안은 들어온 순서
+ * - 실력 점수는 RatingManager의 해당 모드/난이도 Elo 점수 (게임 기록이 없으면 1200) -> 조회는 상수 시간
+ * - 매칭 스레드가 주기적으로 대기열을 점수 순으로 한 번 훑고, 연속한 플레이어들의 점수 차이가 허용 범위 안이면 한 게임으로 묶음
+ *   -> 허용 범위는 오래 기다릴수록 넓어짐, 묶이면 GameServer.startMatchedGame이 방을 만들고 바로 게임 시작
+ * - -Dacidrain.matchmaking.players (게임당 인원, 기본 2, 2~4), -Dacidrain.matchmaking.intervalMillis (기본 1000)
+ *   -Dacidrain.matchmaking.baseSpread (기본 200점), -Dacidrain.matchmaking.spreadPerSecond (기본 50점)
+ */
+
+package server;
+
+import common.log.Log;
+import common.metrics.LatencyHistogram;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+import server.game.RatingManager;
+import server.metrics.Counter;
+import server.metrics.MetricsRegistry;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class Matchmaker {
+    static final String PROPERTY_PREFIX = "acidrain.matchmaking.";
+    private static final Log logger = Log.get(Matchmaker.class);
+    private static final Counter matchesStarted = MetricsRegistry.getInstance()
+            .counter("acidrain_matches_total", "빠른 대전으로 시작한 게임 수");
+    private static final LatencyHistogram queueWait = MetricsRegistry.getInstance()
+            .histogram("acidrain_matchmaking_wait_seconds", "빠른 대전 대기열에서 매칭까지 걸린 시간");
+    private static final int BUCKET_WIDTH = 100;
+
+    private record Ticket(ClientHandler client, GameMode mode, DifficultyLevel difficulty, int rating,
+                          long enqueuedAtNanos) {
+    }
+
+    // (모드, 난이도) 하나의 대기열
+    private static final class Queue {
+        private final TreeMap<Integer, LinkedHashSet<Ticket>> buckets = new TreeMap<>();
+        private int size;
+
+        void add(Ticket ticket) {
+            buckets.computeIfAbsent(ticket.rating() / BUCKET_WIDTH, k -> new LinkedHashSet<>()).add(ticket);
+            size++;
+        }
+
+        void remove(Ticket ticket) {
+            int key = ticket.rating() / BUCKET_WIDTH;
+            LinkedHashSet<Ticket> bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(ticket)) {
+                size--;
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private final GameServer server;
+    private final int groupSize = Math.max(2, Math.min(4, Integer.getInteger(PROPERTY_PREFIX + "players", 2)));
+    private final long intervalMillis = Math.max(100, Long.getLong(PROPERTY_PREFIX + "intervalMillis", 1000));
+    private final int baseSpread = Math.max(0, Integer.getInteger(PROPERTY_PREFIX + "baseSpread", 200));
+    private final int spreadPerSecond = Math.max(0, Integer.getInteger(PROPERTY_PREFIX + "spreadPerSecond", 50));
+    // queues, tickets는 this로 보호
+    // tickets에는 매칭되어 방을 만드는 중인 플레이어도 남아 있음 -> 그 사이 취소/재등록하면 다시 대기열에 넣지 않음
+    private final Queue[][] queues = new Queue[GameMode.values().length][DifficultyLevel.values().length];
+    private final Map<ClientHandler, Ticket> tickets = new HashMap<>();
+    private volatile int queuedPlayers;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "matchmaker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    Matchmaker(GameServer server) {
+        this.server = server;
+        for (Queue[] byDifficulty : queues) {
+            for (int i = 0; i < byDifficulty.length; i++) {
+                byDifficulty[i] = new Queue();
+            }
+        }
+    }
+
+    void start() {
+        MetricsRegistry.getInstance().gauge("acidrain_matchmaking_queued_players", "빠른 대전 대기 인원",
+                () -> queuedPlayers);
+        timer.scheduleWithFixedDelay(this::matchAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("빠른 대전 매칭 시작: " + groupSize + "인, " + intervalMillis + "ms 간격");
+    }
+
+    void shutdown() {
+        timer.shutdownNow();
+        synchronized (this) {
+            for (Ticket ticket : tickets.values()) {
+                queueOf(ticket).remove(ticket);
+            }
+            tickets.clear();
+            queuedPlayers = 0;
+        }
+    }
+
+    // 대기열 등록, 이미 다른 대기열에 있으면 옮김 -> 실력 점수 반환
+    int enqueue(ClientHandler client, GameMode mode, DifficultyLevel difficulty) {
+        int rating = RatingManager.getInstance().getRating(client.getUsername(), mode, difficulty);
+        Ticket ticket = new Ticket(client, mode, difficulty, rating, System.nanoTime());
+        synchronized (this) {
+            cancel(client);
+            tickets.put(client, ticket);
+            queueOf(ticket).add(ticket);
+            queuedPlayers = tickets.size();
+        }
+        return ticket.rating();
+    }
+
+    synchronized boolean cancel(ClientHandler client) {
+        Ticket ticket = tickets.remove(client);
+        if (ticket == null) {
+            return false;
+        }
+        queueOf(ticket).remove(ticket);
+        queuedPlayers = tickets.size();
+        return true;
+    }
+
+    private Queue queueOf(Ticket ticket) {
+        return queues[ticket.mode().ordinal()][ticket.difficulty().ordinal()];
+    }
+
+    // 매칭 스레드에서 주기적으로 실행 -> 묶음은 락 안에서 고르고, 방 생성은 락 밖에서 (GameServer 락을 잡으므로)
+    private void matchAll() {
+        try {
+            List<List<Ticket>> groups = new ArrayList<>();
+            synchronized (this) {
+                long nowNanos = System.nanoTime();
+                for (Queue[] byDifficulty : queues) {
+                    for (Queue queue : byDifficulty) {
+                        collectGroups(queue, nowNanos, groups);
+                    }
+                }
+                for (List<Ticket> group : groups) {
+                    for (Ticket ticket : group) {
+                        queueOf(ticket).remove(ticket);
+                    }
+                }
+            }
+
+            for (List<Ticket> group : groups) {
+                startMatch(group);
+            }
+        } catch (Exception e) {
+            logger.severe("빠른 대전 매칭 중 오류", e);
+        }
+    }
+
+    // 점수 순으로 한 번 훑으며 연속한 groupSize명이 허용 범위 안이면 한 게임으로 묶음
+    // 범위를 벗어나면 가장 앞(점수가 가장 낮은) 플레이어를 빼고 다음 플레이어와 다시 비교
+    private void collectGroups(Queue queue, long nowNanos, List<List<Ticket>> groups) {
+        if (queue.size < groupSize) {
+            return;
+        }
+
+        ArrayDeque<Ticket> window = new ArrayDeque<>(groupSize);
+        for (LinkedHashSet<Ticket> bucket : queue.buckets.values()) {
+            for (Ticket ticket : bucket) {
+                window.addLast(ticket);
+                while (window.size() > 1 && !fits(window, nowNanos)) {
+                    window.removeFirst();
+                }
+                if (window.size() == groupSize) {
+                    groups.add(new ArrayList<>(window));
+                    window.clear();
+                }
+            }
+        }
+    }
+
+    // 점수 차이가 허용 범위 이하인지 -> 허용 범위는 묶음에서 가장 오래 기다린 플레이어 기준
+    private boolean fits(Collection<Ticket> window, long nowNanos) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        long oldestNanos = nowNanos;
+        for (Ticket ticket : window) {
+            min = Math.min(min, ticket.rating());
+            max = Math.max(max, ticket.rating());
+            oldestNanos = Math.min(oldestNanos, ticket.enqueuedAtNanos());
+        }
+        long waitedSeconds = TimeUnit.NANOSECONDS.toSeconds(nowNanos - oldestNanos);
+        return max - min <= baseSpread + spreadPerSecond * waitedSeconds;
+    }
+
+    private void startMatch(List<Ticket> group) {
+        List<ClientHandler> players = new ArrayList<>(group.size());
+        for (Ticket ticket : group) {
+            players.add(ticket.client());
+        }
+
+        Ticket first = group.get(0);
+        if (server.startMatchedGame(first.mode(), first.difficulty(), players)) {
+            matchesStarted.increment();
+            for (Ticket ticket : group) {
+                queueWait.recordSince(ticket.enqueuedAtNanos());
+            }
+            return;
+        }
+
+        // 그 사이 연결이 끊겼거나 방에 들어간 플레이어가 있음 -> 남은 플레이어는 기다린 시간을 유지한 채 다시 대기열로
+        for (Ticket ticket : group) {
+            requeue(ticket, server.isMatchable(ticket.client()));
+        }
+    }
+
+    private synchronized void requeue(Ticket ticket, boolean matchable) {
+        if (tickets.get(ticket.client()) != ticket) {
+            return;
+        }
+        if (matchable) {
+            queueOf(ticket).add(ticket);
+        } else {
+            tickets.remove(ticket.client());
+            queuedPlayers = tickets.size();
+        }
+    }
+}
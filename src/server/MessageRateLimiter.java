@@ -0,0 +1,119 @@
+/*
+ * server.MessageRateLimiter.java
+ * 연결별 메시지 속도 제한 -> ClientHandler.processMessage에서 디스패치 전에 확인
+ * - 메시지 타입을 종류(게임 입력, 채팅, 로비 조회, 방 조작, 연결 제어)로 나누고 종류마다 토큰 버킷을 둠
+ *   -> 채팅을 도배해도 게임 입력은 막히지 않음
+ * - 한도를 넘은 메시지는 처리하지 않음 (메트릭: acidrain_throttled_messages_total{class})
+ *   -> 조회/채팅은 그냥 버리고, 상태를 바꾸는 요청은 평소의 실패 응답을 보냄 (ClientHandler.handleThrottled)
+ *   -> 방 퇴장, 취소처럼 상태를 정리하는 요청은 한도를 넘어도 처리
+ * - 버려진 메시지도 별도 버킷(abuse)에서 토큰을 씀 -> 이 버킷까지 비면(지속적인 도배) 연결을 끊음
+ * - 한도는 -Dacidrain.ratelimit.<종류>=초당/버스트 (예: -Dacidrain.ratelimit.chat=2/5)
+ *   -Dacidrain.ratelimit.enabled=false 이면 제한하지 않음
+ */
+
+package server;
+
+import client.event.GameEvent.ClientCommand;
+import common.log.Log;
+import server.metrics.Counter;
+import server.metrics.MetricFamily;
+import server.metrics.MetricsRegistry;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+final class MessageRateLimiter {
+    static final String PROPERTY_PREFIX = "acidrain.ratelimit.";
+    private static final Log logger = Log.get(MessageRateLimiter.class);
+    private static final MetricFamily<Counter> throttledMessages = MetricsRegistry.getInstance()
+            .counterFamily("acidrain_throttled_messages_total", "속도 제한 한도를 넘은 메시지 수", "class");
+    private static final Counter abuseDisconnects = MetricsRegistry.getInstance()
+            .counter("acidrain_abuse_disconnects_total", "속도 제한을 계속 넘겨 끊은 연결 수");
+    static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty(PROPERTY_PREFIX + "enabled"));
+
+    enum CommandClass {
+        // 타자 속도가 빨라도 초당 몇 단어 수준, 놓친 단어 보고가 한꺼번에 올 수 있어 버스트를 넉넉히 둠
+        GAME(20, 40),
+        CHAT(2, 5),
+        // 방 목록/유저 수/리더보드 조회 -> 응답 비용이 큼
+        LOBBY(3, 10),
+        ROOM(3, 10),
+        CONTROL(5, 10),
+        // 버려진 메시지 허용량 -> 다 쓰면 연결 종료
+        ABUSE(2, 50);
+
+        private final double rate;
+        private final int burst;
+
+        CommandClass(double defaultRate, int defaultBurst) {
+            String spec = System.getProperty(PROPERTY_PREFIX + name().toLowerCase(Locale.ROOT));
+            double parsedRate = defaultRate;
+            int parsedBurst = defaultBurst;
+            if (spec != null) {
+                try {
+                    String[] parts = spec.split("/", 2);
+                    parsedRate = Double.parseDouble(parts[0].trim());
+                    parsedBurst = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : (int) Math.ceil(parsedRate);
+                } catch (NumberFormatException e) {
+                    parsedRate = Double.NaN;
+                }
+                // 0, 음수, NaN이면 TokenBucket 생성에서 예외 -> 첫 연결에서 서버가 멈추므로 기본값 사용
+                if (!Double.isFinite(parsedRate) || parsedRate <= 0 || parsedBurst <= 0) {
+                    logger.warning("잘못된 속도 제한 설정 (" + name() + "): " + spec);
+                    parsedRate = defaultRate;
+                    parsedBurst = defaultBurst;
+                }
+            }
+            this.rate = parsedRate;
+            this.burst = parsedBurst;
+        }
+
+        static CommandClass of(String messageType) {
+            return switch (messageType) {
+                case ClientCommand.GAME_ACTION -> GAME;
+                case ClientCommand.CHAT -> CHAT;
+                case ClientCommand.ROOM_LIST, ClientCommand.ROOM_LIST_TAGGED, ClientCommand.PLAYER_LIST, ClientCommand.USERS_REQUEST,
+                     ClientCommand.LEADERBOARD_ACTION -> LOBBY;
+                case ClientCommand.CREATE_ROOM, ClientCommand.JOIN_ROOM, ClientCommand.LEAVE_ROOM,
+                     ClientCommand.UPDATE_SETTINGS, ClientCommand.START_GAME,
+                     ClientCommand.QUICK_MATCH, ClientCommand.QUICK_MATCH_CANCEL,
+                     ClientCommand.SPECTATE, ClientCommand.SPECTATE_STOP -> ROOM;
+                // 로그인, 재연결, heartbeat, 알 수 없는 타입
+                default -> CONTROL;
+            };
+        }
+    }
+
+    enum Decision {
+        ALLOW,
+        THROTTLE,
+        DISCONNECT
+    }
+
+    private final Map<CommandClass, TokenBucket> buckets = new EnumMap<>(CommandClass.class);
+
+    MessageRateLimiter() {
+        for (CommandClass commandClass : CommandClass.values()) {
+            buckets.put(commandClass, new TokenBucket(commandClass.rate, commandClass.burst));
+        }
+    }
+
+    Decision check(String messageType) {
+        if (!ENABLED) {
+            return Decision.ALLOW;
+        }
+
+        CommandClass commandClass = CommandClass.of(messageType);
+        if (buckets.get(commandClass).tryAcquire()) {
+            return Decision.ALLOW;
+        }
+
+        throttledMessages.get(commandClass.name()).increment();
+        if (!buckets.get(CommandClass.ABUSE).tryAcquire()) {
+            abuseDisconnects.increment();
+            return Decision.DISCONNECT;
+        }
+        return Decision.THROTTLE;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * server.RoomIndex.java
+ * 방 목록 페이지 조회용 보조 인덱스
+ * - 방 번호(R12 -> 12) 순으로 정렬 -> 커서(이전 페이지의 마지막 방) 다음부터 이어서 조회
+ *   -> 페이지를 넘기는 사이 방이 생기거나 없어져도 중복/누락 없음 (OFFSET 방식과 달리 앞쪽 변화에 밀리지 않음)
+ * - 필터(모드, 난이도, 입장 가능, 공개방)마다 방 번호 집합을 두고, 조회할 때는 그중 가장 작은 집합만 훑음
+ * - 방 상태가 바뀔 때 GameServer가 update/remove 호출, 모든 메서드는 this로 동기화
+ */
+
+package server;
+
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+import game.model.GameRoom;
+
+import java.util.*;
+
+final class RoomIndex {
+    /**
+     * @param afterRoomId 이 방 다음부터 조회 (null이면 처음부터)
+     * @param mode null이면 모든 모드
+     * @param difficulty null이면 모든 난이도
+     * @param joinableOnly 빈자리가 있고 게임 중이 아닌 방만
+     * @param publicOnly 비밀번호 없는 방만
+     */
+    record Query(String afterRoomId, int limit, GameMode mode, DifficultyLevel difficulty,
+                 boolean joinableOnly, boolean publicOnly) {
+    }
+
+    // total: 필터에 맞는 전체 방 수, nextCursor: 다음 페이지 커서 (마지막 페이지면 null)
+    record Page(int total, List<GameRoom> rooms, String nextCursor) {
+    }
+
+    private record Keys(GameMode mode, DifficultyLevel difficulty, boolean joinable, boolean isPublic) {
+        static Keys of(GameRoom room) {
+            return new Keys(room.getGameMode(), room.getDifficulty(),
+                    !room.isFull() && !room.isInGame(), !room.isPasswordRequired());
+        }
+
+        boolean matches(Query query) {
+            return (query.mode() == null || query.mode() == mode)
+                    && (query.difficulty() == null || query.difficulty() == difficulty)
+                    && (!query.joinableOnly() || joinable)
+                    && (!query.publicOnly() || isPublic);
+        }
+    }
+
+    private final TreeMap<Integer, GameRoom> byNumber = new TreeMap<>();
+    private final Map<Integer, Keys> keysByNumber = new HashMap<>();
+    private final Map<GameMode, TreeSet<Integer>> byMode = new EnumMap<>(GameMode.class);
+    private final Map<DifficultyLevel, TreeSet<Integer>> byDifficulty = new EnumMap<>(DifficultyLevel.class);
+    private final TreeSet<Integer> joinable = new TreeSet<>();
+    private final TreeSet<Integer> publicRooms = new TreeSet<>();
+
+    RoomIndex() {
+        for (GameMode mode : GameMode.values()) {
+            byMode.put(mode, new TreeSet<>());
+        }
+        for (DifficultyLevel difficulty : DifficultyLevel.values()) {
+            byDifficulty.put(difficulty, new TreeSet<>());
+        }
+    }
+
+    // 방 ID는 "R" + 번호 (GameServer.createRoom), 형식이 다르면 -1
+    static int numberOf(String roomId) {
+        if (roomId == null || roomId.length() < 2 || roomId.charAt(0) != 'R') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(roomId, 1, roomId.length(), 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 방 추가 또는 상태 변경 반영, 색인 키가 그대로면 집합은 건드리지 않음
+    synchronized void update(GameRoom room) {
+        int number = numberOf(room.getRoomId());
+        if (number < 0) {
+            return;
+        }
+
+        byNumber.put(number, room);
+        Keys keys = Keys.of(room);
+        Keys previous = keysByNumber.put(number, keys);
+        if (keys.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            unindex(number, previous);
+        }
+        byMode.get(keys.mode()).add(number);
+        byDifficulty.get(keys.difficulty()).add(number);
+        if (keys.joinable()) {
+            joinable.add(number);
+        }
+        if (keys.isPublic()) {
+            publicRooms.add(number);
+        }
+    }
+
+    synchronized void remove(String roomId) {
+        int number = numberOf(roomId);
+        Keys previous = keysByNumber.remove(number);
+        byNumber.remove(number);
+        if (previous != null) {
+            unindex(number, previous);
+        }
+    }
+
+    synchronized void clear() {
+        byNumber.clear();
+        keysByNumber.clear();
+        byMode.values().forEach(Set::clear);
+        byDifficulty.values().forEach(Set::clear);
+        joinable.clear();
+        publicRooms.clear();
+    }
+
+    private void unindex(int number, Keys keys) {
+        byMode.get(keys.mode()).remove(number);
+        byDifficulty.get(keys.difficulty()).remove(number);
+        joinable.remove(number);
+        publicRooms.remove(number);
+    }
+
+    synchronized Page query(Query query) {
+        // 조건마다 후보 집합을 고르고 가장 작은 것만 훑음, 나머지 조건은 방마다 확인
+        NavigableSet<Integer> candidates = byNumber.navigableKeySet();
+        int filters = 0;
+        if (query.mode() != null) {
+            candidates = smaller(candidates, byMode.get(query.mode()));
+            filters++;
+        }
+        if (query.difficulty() != null) {
+            candidates = smaller(candidates, byDifficulty.get(query.difficulty()));
+            filters++;
+        }
+        if (query.joinableOnly()) {
+            candidates = smaller(candidates, joinable);
+            filters++;
+        }
+        if (query.publicOnly()) {
+            candidates = smaller(candidates, publicRooms);
+            filters++;
+        }
+
+        int after = query.afterRoomId() != null ? numberOf(query.afterRoomId()) : -1;
+        List<GameRoom> rooms = new ArrayList<>(Math.min(query.limit(), candidates.size()));
+        String nextCursor = null;
+        for (int number : candidates.tailSet(after, false)) {
+            if (filters > 1 && !keysByNumber.get(number).matches(query)) {
+                continue;
+            }
+            if (rooms.size() == query.limit()) {
+                nextCursor = rooms.get(rooms.size() - 1).getRoomId();
+                break;
+            }
+            rooms.add(byNumber.get(number));
+        }
+
+        // 조건이 하나 이하면 후보 집합 크기가 곧 전체 수, 여러 개면 후보 집합을 한 번 훑어 셈
+        int total;
+        if (filters <= 1) {
+            total = candidates.size();
+        } else {
+            total = 0;
+            for (int number : candidates) {
+                if (keysByNumber.get(number).matches(query)) {
+                    total++;
+                }
+            }
+        }
+        return new Page(total, rooms, nextCursor);
+    }
+
+    private static NavigableSet<Integer> smaller(NavigableSet<Integer> a, NavigableSet<Integer> b) {
+        return b.size() < a.size() ? b : a;
+    }
+}
@@ -1,9 +1,17 @@
 package server;
 
+import common.log.LogConfig;
+import server.admin.AdminServer;
+
 public class ServerMain {
+    private static final String ADMIN_PORT_PROPERTY = "acidrain.admin.port";
+    private static final String ADMIN_BIND_PROPERTY = "acidrain.admin.bind";
     private static GameServer server;
+    private static AdminServer adminServer;
 
     public static void main(String[] args) {
+        LogConfig.install();
+
         int port = 12345; // 기본 포트
 
         // 커맨드 라인 인자로 포트 번호를 받을 수 있도록 함
@@ -19,9 +27,29 @@ public class ServerMain {
             }
         }
 
-        // 서버 종료 훅 등록
+        // 관리자 포트는 두 번째 인자 또는 -Dacidrain.admin.port 로 지정 (지정하지 않으면 비활성화)
+        int adminPort = Integer.getInteger(ADMIN_PORT_PROPERTY, 0);
+        if (args.length > 1) {
+            try {
+                adminPort = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("잘못된 관리자 포트 번호입니다. 관리자 리스너를 사용하지 않습니다.");
+                adminPort = 0;
+            }
+        }
+
+        // 서버 종료 훅 등록 -> 드레인 시간이 설정되어 있으면(기본 60초, -Dacidrain.drain.timeoutSeconds=0이면 바로 종료)
+        // 진행 중인 게임이 끝나고 로비 세션을 새 프로세스로 넘길 때까지 기다린 뒤 종료
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (server != null && server.getDrainTimeoutSeconds() > 0) {
+                System.out.println("서버를 드레인합니다...");
+                server.drain();
+                server.awaitDrained();
+            }
             System.out.println("서버를 종료합니다...");
+            if (adminServer != null) {
+                adminServer.shutdown();
+            }
             if (server != null) {
                 server.shutdown();
             }
@@ -29,6 +57,12 @@ public class ServerMain {
 
         try {
             server = new GameServer(port);
+            if (adminPort > 0) {
+                adminServer = new AdminServer(server, adminPort,
+                        System.getProperty(ADMIN_BIND_PROPERTY, "127.0.0.1"));
+                adminServer.start();
+                System.out.println("관리자 포트: " + adminPort + " (GET /metrics, /healthz, POST /drain)");
+            }
             System.out.println("타자 게임 서버를 시작합니다...");
             System.out.println("포트: " + port);
             System.out.println("서버를 종료하려면 Ctrl+C를 누르세요.");
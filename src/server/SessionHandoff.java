@@ -0,0 +1,120 @@
+/*
+ * server.SessionHandoff.java
+ * 재시작 시 로비 세션을 새 프로세스로 넘기는 파일
+ * - 드레인 중인(이전) 프로세스: 방에 없는 로그인 사용자의 세션을 "토큰|이름|만료시각(ms)" 줄로 기록한 뒤 연결을 닫음
+ *   -> 클라이언트는 평소처럼 같은 포트로 RESUME|토큰 재연결 -> SO_REUSEPORT로 같은 포트를 연 새 프로세스가 받음
+ *      (두 프로세스 모두 -Dacidrain.server.reusePort=true로 띄워야 함)
+ * - 새 프로세스: 모르는 토큰으로 RESUME이 오면 파일이 바뀐 경우에만 다시 읽고, 토큰은 한 번만 사용 가능
+ * - 파일은 -Dacidrain.drain.handoffFile (기본 resources/handoff/sessions.txt), 임시 파일에 쓰고 원자적으로 교체
+ *   -> 토큰이 평문으로 들어가므로 서버 계정만 읽을 수 있는 위치에 둠
+ * - 방/게임 상태는 넘기지 않음 (진행 중인 게임은 이전 프로세스에서 끝까지 진행)
+ */
+
+package server;
+
+import common.log.Log;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class SessionHandoff {
+    static final String FILE_PROPERTY = "acidrain.drain.handoffFile";
+    private static final Log logger = Log.get(SessionHandoff.class);
+    private static final String DEFAULT_FILE = "resources/handoff/sessions.txt";
+
+    private record Entry(String username, long expiresAtMillis) {
+    }
+
+    private final Path file = Paths.get(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+    // 아래는 모두 this로 보호
+    private final List<String> exported = new ArrayList<>();
+    private final Map<String, Entry> imported = new HashMap<>();
+    // 이미 사용한 토큰 -> 파일을 다시 읽어도 같은 세션을 두 번 이어받지 않음
+    private final Map<String, Long> claimed = new HashMap<>();
+    private FileTime loadedModifiedTime;
+
+    // 드레인 시작 시 이전 재시작에서 남은 파일을 지움
+    synchronized void reset() {
+        exported.clear();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("세션 인계 파일 삭제 실패: " + e.getMessage());
+        }
+    }
+
+    // 넘길 세션을 추가하고 파일을 다시 씀 -> 반환 후에 연결을 닫아야 새 프로세스가 토큰을 찾을 수 있음
+    synchronized boolean export(Map<String, String> usernamesByToken, long expiresAtMillis) {
+        for (Map.Entry<String, String> entry : usernamesByToken.entrySet()) {
+            exported.add(entry.getKey() + "|" + entry.getValue() + "|" + expiresAtMillis);
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "sessions", ".tmp");
+            Files.write(temp, exported, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            logger.severe("세션 인계 파일 저장 실패", e);
+            return false;
+        }
+    }
+
+    /*
+     * 이전 프로세스가 넘긴 세션을 이어받음 (RESUME 처리 중, GameServer 락 안에서 호출)
+     * @return 사용자 이름, 모르는 토큰이거나 만료/사용된 토큰이면 null
+     */
+    synchronized String claim(String token) {
+        reloadIfChanged();
+        Entry entry = imported.remove(token);
+        if (entry == null || entry.expiresAtMillis() < System.currentTimeMillis()) {
+            return null;
+        }
+        claimed.put(token, entry.expiresAtMillis());
+        return entry.username();
+    }
+
+    private void reloadIfChanged() {
+        FileTime modified;
+        try {
+            modified = Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            // 파일이 없으면 넘겨받은 세션도 없음
+            return;
+        }
+        if (modified.equals(loadedModifiedTime)) {
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("세션 인계 파일 읽기 실패: " + e.getMessage());
+            return;
+        }
+        loadedModifiedTime = modified;
+        long now = System.currentTimeMillis();
+        claimed.values().removeIf(expiresAt -> expiresAt < now);
+        imported.clear();
+        for (String line : lines) {
+            String[] parts = line.split("\\|");
+            if (parts.length != 3 || claimed.containsKey(parts[0])) {
+                continue;
+            }
+            try {
+                imported.put(parts[0], new Entry(parts[1], Long.parseLong(parts[2])));
+            } catch (NumberFormatException e) {
+                logger.warning("잘못된 세션 인계 줄을 건너뜁니다.");
+            }
+        }
+        logger.info("이전 프로세스가 넘긴 세션 " + imported.size() + "개를 읽었습니다.");
+    }
+}
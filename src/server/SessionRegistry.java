@@ -0,0 +1,120 @@
+/*
+ * server.SessionRegistry.java
+ * 재연결용 세션 토큰 관리
+ * - 로그인에 성공하면 추측할 수 없는 토큰(128비트, SecureRandom)을 발급해 SESSION 메시지로 알려줌
+ * - 소켓이 끊기면 세션을 "분리(detached)" 상태로 두고 유예 시간 동안 방/게임 자리를 유지
+ *   -> 유예 시간 안에 새 연결이 RESUME|토큰을 보내면 그 연결이 세션을 이어받음
+ *   -> 유예 시간이 지나면 만료 콜백(GameServer가 기존 퇴장 처리)을 실행
+ * - 유예 시간은 -Dacidrain.session.graceSeconds (기본 30초, 0이면 재연결 없이 바로 퇴장)
+ * - 상태 변경은 GameServer의 락 안에서 호출됨, 만료 타이머만 별도 스레드에서 실행
+ */
+
+package server;
+
+import common.log.Log;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.*;
+
+final class SessionRegistry {
+    static final String GRACE_PROPERTY = "acidrain.session.graceSeconds";
+    private static final Log logger = Log.get(SessionRegistry.class);
+    private static final int DEFAULT_GRACE_SECONDS = 30;
+    private static final int TOKEN_BYTES = 16;
+
+    static final class Session {
+        private final String token;
+        private volatile ClientHandler handler;
+        private ScheduledFuture<?> expiry;
+        private long detachedAtNanos;
+
+        private Session(String token, ClientHandler handler) {
+            this.token = token;
+            this.handler = handler;
+        }
+
+        String getToken() {
+            return token;
+        }
+
+        ClientHandler getHandler() {
+            return handler;
+        }
+
+        boolean isDetached() {
+            return expiry != null;
+        }
+
+        long getDetachedAtNanos() {
+            return detachedAtNanos;
+        }
+    }
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final int graceSeconds = Math.max(0, Integer.getInteger(GRACE_PROPERTY, DEFAULT_GRACE_SECONDS));
+    private final ScheduledExecutorService reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "session-reaper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    int getGraceSeconds() {
+        return graceSeconds;
+    }
+
+    boolean isResumeEnabled() {
+        return graceSeconds > 0;
+    }
+
+    Session create(ClientHandler handler) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        return adopt(token, handler);
+    }
+
+    // 이전 프로세스가 발급한 토큰을 그대로 이어 씀 (SessionHandoff) -> 클라이언트는 토큰을 바꾸지 않아도 됨
+    Session adopt(String token, ClientHandler handler) {
+        Session session = new Session(token, handler);
+        sessions.put(token, session);
+        return session;
+    }
+
+    Session get(String token) {
+        return token != null ? sessions.get(token) : null;
+    }
+
+    // 연결이 끊긴 세션을 유예 상태로 두고, 유예 시간이 지나면 onExpire 실행
+    void detach(Session session, Runnable onExpire) {
+        cancelExpiry(session);
+        session.detachedAtNanos = System.nanoTime();
+        session.expiry = reaper.schedule(onExpire, graceSeconds, TimeUnit.SECONDS);
+        logger.fine(() -> "세션 유예 시작: " + session.handler.getUsername() + " (" + graceSeconds + "초)");
+    }
+
+    // 새 연결이 세션을 이어받음 -> 만료 타이머 취소
+    void attach(Session session, ClientHandler handler) {
+        cancelExpiry(session);
+        session.handler = handler;
+    }
+
+    void remove(Session session) {
+        cancelExpiry(session);
+        sessions.remove(session.token, session);
+    }
+
+    void shutdown() {
+        reaper.shutdownNow();
+        sessions.clear();
+    }
+
+    private static void cancelExpiry(Session session) {
+        if (session.expiry != null) {
+            session.expiry.cancel(false);
+            session.expiry = null;
+        }
+    }
+}
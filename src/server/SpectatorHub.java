@@ -0,0 +1,344 @@
+/*
+ * server.SpectatorHub.java
+ * 관전자 스트림
+ * - 관전자는 roomPlayers에 넣지 않음 -> 단어 생성/입력마다 보내는 방 브로드캐스트가 관전자 수만큼 늘지 않음
+ * - 대신 hz(기본 5)마다 게임 중인 방의 상태를 한 번만 인코딩해(ServerGameController.encodeResumeState)
+ *   그 방의 모든 관전자에게 같은 문자열을 보냄 -> 틱 사이의 단어 생성/제거/점수 변화는 다음 스냅샷 하나로 합쳐짐
+ * - 관전자마다 순서가 보장되는 보낼 함(Outbox)을 둠
+ *   -> 타이머 스레드는 인코딩한 스냅샷을 함에 넣기만 하고, 실제 전송은 관전자별로 고정된 전송 스레드가 함
+ *   -> 한 관전자의 메시지는 항상 같은 스레드에서 넣은 순서대로 나감 (SPECTATE_OK -> START -> STATE... -> GAME_OVER -> END)
+ * - 함에 아직 보내지 못한 스냅샷이 있으면 새 스냅샷으로 덮어씀 (다음 스냅샷이 전체 상태이므로 잃는 것 없음)
+ *   -> 게임 시작/종료 같은 한 번만 가는 메시지는 버리지 않음, 함이 가득 찰 만큼 밀린 관전자는 연결을 끊음
+ * - 전송은 블로킹 쓰기라 느린 소켓은 같은 전송 스레드를 쓰는 관전자를 늦춤
+ *   (그 동안 스냅샷은 덮어써져 쌓이지 않고, 다른 전송 스레드의 관전자와 인코딩은 영향 없음)
+ *   -> 한 메시지를 스냅샷 주기 10번 넘게(최소 2초) 보내고 있으면 타이머 스레드가 연결을 닫아 쓰기를 풀어 줌
+ *      (읽지 않는 관전자 하나가 같은 스레드의 다른 관전자를 계속 막지 않도록)
+ * - 한 연결은 한 방만 관전, 방에 들어가거나 연결이 끊기면 관전 종료
+ * - 설정: -Dacidrain.spectate.hz (기본 5), -Dacidrain.spectate.maxPerRoom (기본 5000),
+ *   -Dacidrain.spectate.fanoutThreads (전송 스레드 수, 기본 CPU 수)
+ */
+
+package server;
+
+import client.event.GameEvent.ServerMessage;
+import common.log.Log;
+import common.metrics.LatencyHistogram;
+import server.game.ServerGameController;
+import server.metrics.Counter;
+import server.metrics.MetricsRegistry;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class SpectatorHub {
+    static final String HZ_PROPERTY = "acidrain.spectate.hz";
+    static final String MAX_PER_ROOM_PROPERTY = "acidrain.spectate.maxPerRoom";
+    static final String FANOUT_THREADS_PROPERTY = "acidrain.spectate.fanoutThreads";
+    private static final Log logger = Log.get(SpectatorHub.class);
+    private static final LatencyHistogram encodeLatency = MetricsRegistry.getInstance()
+            .histogram("acidrain_spectate_encode_seconds", "관전 스냅샷 한 개 인코딩 소요 시간");
+    private static final Counter framesSent = MetricsRegistry.getInstance()
+            .counter("acidrain_spectate_frames_total", "관전자에게 보낸 메시지 수 (수신자 기준)");
+    private static final Counter framesSkipped = MetricsRegistry.getInstance()
+            .counter("acidrain_spectate_frames_skipped_total", "보내기 전에 새 스냅샷으로 덮어쓴 스냅샷 수");
+    private static final Counter overflowDisconnects = MetricsRegistry.getInstance()
+            .counter("acidrain_spectate_overflow_disconnects_total", "보낼 함이 가득 차거나 전송이 멈춰 연결을 끊은 관전자 수");
+    // 스냅샷은 덮어쓰므로 함에는 한 번만 가는 메시지 사이사이에 스냅샷이 하나씩만 들어감
+    private static final int OUTBOX_CAPACITY = 32;
+    // 메시지 하나를 이 시간(스냅샷 주기 수, 최소 시간) 넘게 보내고 있으면 멈춘 것으로 봄
+    private static final int STALL_PERIODS = 10;
+    private static final long MIN_STALL_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    // 방 하나의 관전자, 순번은 타이머 스레드에서만 올림
+    private static final class Audience {
+        private final Map<ClientHandler, Outbox> watchers = new ConcurrentHashMap<>();
+        private long seq;
+    }
+
+    // 관전자 한 명의 보낼 함 -> 항상 같은 전송 스레드에서 비움
+    private static final class Outbox {
+        private final ClientHandler client;
+        private final ExecutorService sender;
+        // 지금 소켓에 쓰고 있는 함 (허브 전체 공유) -> 타이머 스레드가 멈춘 전송을 찾음
+        private final Set<Outbox> sending;
+        // sending에 들어 있는 동안만 의미 있음
+        private volatile long sendingSinceNanos;
+        // 아래는 모두 this로 보호
+        private final ArrayDeque<String> messages = new ArrayDeque<>();
+        private boolean tailIsSnapshot;
+        private boolean scheduled;
+        // 관전 종료 -> 이후 메시지는 받지 않음 (종료 메시지는 넣은 뒤에 닫음)
+        private boolean closed;
+
+        private Outbox(ClientHandler client, ExecutorService sender, Set<Outbox> sending) {
+            this.client = client;
+            this.sender = sender;
+            this.sending = sending;
+        }
+
+        // 스냅샷을 넣음, 마지막에 아직 안 보낸 스냅샷이 있으면 덮어씀
+        synchronized void offerSnapshot(String frame) {
+            if (closed) {
+                return;
+            }
+            if (tailIsSnapshot) {
+                messages.pollLast();
+                framesSkipped.increment();
+            } else if (messages.size() >= OUTBOX_CAPACITY) {
+                framesSkipped.increment();
+                return;
+            }
+            messages.addLast(frame);
+            tailIsSnapshot = true;
+            schedule();
+        }
+
+        /*
+         * 한 번만 가는 메시지를 넣음
+         * @return 함이 가득 차 넣지 못했으면 false -> 호출한 쪽에서 연결을 끊음
+         */
+        synchronized boolean offer(String message) {
+            if (closed) {
+                return true;
+            }
+            if (messages.size() >= OUTBOX_CAPACITY) {
+                closed = true;
+                messages.clear();
+                return false;
+            }
+            messages.addLast(message);
+            tailIsSnapshot = false;
+            schedule();
+            return true;
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+
+        // 보내지 않은 메시지까지 버림 (연결 끊김, 방 입장)
+        synchronized void discard() {
+            closed = true;
+            messages.clear();
+        }
+
+        private void schedule() {
+            if (!scheduled) {
+                scheduled = true;
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 서버 종료 중
+                    scheduled = false;
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                String message;
+                synchronized (this) {
+                    message = messages.pollFirst();
+                    if (message == null) {
+                        scheduled = false;
+                        return;
+                    }
+                    if (messages.isEmpty()) {
+                        tailIsSnapshot = false;
+                    }
+                }
+                sendingSinceNanos = System.nanoTime();
+                sending.add(this);
+                try {
+                    client.sendMessage(message);
+                } finally {
+                    sending.remove(this);
+                }
+                framesSent.increment();
+            }
+        }
+    }
+
+    private final GameServer server;
+    private final long periodMillis = 1000L / Math.max(1, Math.min(50, Integer.getInteger(HZ_PROPERTY, 5)));
+    private final int maxPerRoom = Math.max(1, Integer.getInteger(MAX_PER_ROOM_PROPERTY, 5000));
+    private final Map<String, Audience> audiences = new ConcurrentHashMap<>();
+    // 관전자 -> 보고 있는 방 ID
+    private final Map<ClientHandler, String> watching = new ConcurrentHashMap<>();
+    private final Set<Outbox> sending = ConcurrentHashMap.newKeySet();
+    private final long stallNanos = Math.max(MIN_STALL_NANOS, TimeUnit.MILLISECONDS.toNanos(periodMillis * STALL_PERIODS));
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "spectate-encoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 관전자는 연결 기준으로 한 전송 스레드에 고정 -> 방을 옮겨도 이전 방의 종료 메시지가 먼저 나감
+    private final ExecutorService[] senders;
+
+    SpectatorHub(GameServer server) {
+        this.server = server;
+        int threads = Math.max(1, Integer.getInteger(FANOUT_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+        this.senders = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            String name = "spectate-fanout-" + (i + 1);
+            senders[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        MetricsRegistry.getInstance().gauge("acidrain_spectators", "현재 관전자 수", watching::size);
+    }
+
+    void start() {
+        timer.scheduleAtFixedRate(this::tick, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void shutdown() {
+        timer.shutdownNow();
+        for (ExecutorService sender : senders) {
+            sender.shutdownNow();
+        }
+        audiences.clear();
+        watching.clear();
+    }
+
+    /*
+     * 관전 등록 (이미 다른 방을 보고 있으면 옮김)
+     * SPECTATE_OK와 진행 중인 게임 정보(startMessage, 없으면 null)를 함에 먼저 넣은 뒤 등록
+     * -> 첫 스냅샷이 이 메시지들보다 먼저 나가지 않음
+     * @return 그 방의 관전자가 가득 찼으면 false
+     */
+    boolean watch(ClientHandler client, String roomId, String startMessage) {
+        unwatch(client);
+        Audience audience = audiences.computeIfAbsent(roomId, id -> new Audience());
+        if (audience.watchers.size() >= maxPerRoom) {
+            return false;
+        }
+        ExecutorService sender = senders[Math.floorMod(System.identityHashCode(client), senders.length)];
+        Outbox outbox = new Outbox(client, sender, sending);
+        outbox.offer(ServerMessage.SPECTATE_OK + "|" + roomId + "|" + (audience.watchers.size() + 1));
+        if (startMessage != null) {
+            outbox.offer(startMessage);
+        }
+        audience.watchers.put(client, outbox);
+        watching.put(client, roomId);
+        return true;
+    }
+
+    // 관전 종료, 아직 보내지 않은 메시지는 버림
+    void unwatch(ClientHandler client) {
+        Outbox outbox = remove(client);
+        if (outbox != null) {
+            outbox.discard();
+        }
+    }
+
+    // 관전 종료, 이미 넣은 메시지 뒤에 종료 메시지를 보냄
+    void unwatch(ClientHandler client, String message) {
+        Outbox outbox = remove(client);
+        if (outbox != null) {
+            offer(outbox, message);
+            outbox.close();
+        }
+    }
+
+    private Outbox remove(ClientHandler client) {
+        String roomId = watching.remove(client);
+        if (roomId == null) {
+            return null;
+        }
+        Audience audience = audiences.get(roomId);
+        return audience != null ? audience.watchers.remove(client) : null;
+    }
+
+    String getWatchedRoom(ClientHandler client) {
+        return watching.get(client);
+    }
+
+    int getSpectatorCount(String roomId) {
+        Audience audience = audiences.get(roomId);
+        return audience != null ? audience.watchers.size() : 0;
+    }
+
+    // 게임 시작, 게임 종료처럼 한 번만 가는 메시지 -> 스냅샷과 달리 덮어쓰거나 건너뛰지 않음
+    void broadcast(String roomId, String message) {
+        Audience audience = audiences.get(roomId);
+        if (audience != null) {
+            for (Outbox outbox : audience.watchers.values()) {
+                offer(outbox, message);
+            }
+        }
+    }
+
+    // 방이 없어짐 -> 관전 종료를 알리고 관전자 정리
+    void roomClosed(String roomId, String reason) {
+        Audience audience = audiences.remove(roomId);
+        if (audience == null) {
+            return;
+        }
+        String message = ServerMessage.SPECTATE_END + "|" + roomId + "|" + reason;
+        for (Map.Entry<ClientHandler, Outbox> entry : audience.watchers.entrySet()) {
+            watching.remove(entry.getKey(), roomId);
+            offer(entry.getValue(), message);
+            entry.getValue().close();
+        }
+    }
+
+    // 소켓을 닫으면 막혀 있던 쓰기가 실패로 끝나 전송 스레드가 다른 관전자에게 넘어감
+    // 관전 종료 후 마지막 메시지를 보내다 멈춘 경우도 포함 (sending은 방과 관계없이 모든 전송 중인 함)
+    private void reapStalledSenders() {
+        long now = System.nanoTime();
+        for (Outbox outbox : sending) {
+            if (now - outbox.sendingSinceNanos > stallNanos && sending.remove(outbox)) {
+                overflowDisconnects.increment();
+                logger.warning("관전 메시지 전송이 멈춰 연결을 종료합니다: " + outbox.client.getUsername());
+                outbox.discard();
+                outbox.client.shutdown();
+            }
+        }
+    }
+
+    private void offer(Outbox outbox, String message) {
+        if (!outbox.offer(message)) {
+            overflowDisconnects.increment();
+            logger.warning("관전 메시지가 밀려 연결을 종료합니다: " + outbox.client.getUsername());
+            outbox.client.shutdown();
+        }
+    }
+
+    private void tick() {
+        try {
+            reapStalledSenders();
+            for (Map.Entry<String, Audience> entry : audiences.entrySet()) {
+                Audience audience = entry.getValue();
+                if (audience.watchers.isEmpty()) {
+                    continue;
+                }
+                String roomId = entry.getKey();
+                ServerGameController controller = server.getController(roomId);
+                if (controller == null || !controller.isInProgress()) {
+                    continue;
+                }
+
+                // SPECTATE_STATE|방ID|순번|플레이어:점수:pH;...|단어ID,x[,효과];...
+                long startNanos = System.nanoTime();
+                String frame = ServerMessage.SPECTATE_STATE + "|" + roomId + "|" + (++audience.seq) + "|"
+                        + controller.encodeResumeState();
+                encodeLatency.recordSince(startNanos);
+                for (Outbox outbox : audience.watchers.values()) {
+                    outbox.offerSnapshot(frame);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.severe("관전 스냅샷 처리 중 오류", e);
+        }
+    }
+}
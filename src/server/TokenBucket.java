@@ -0,0 +1,47 @@
+/*
+ * server.TokenBucket.java
+ * 락 없는 토큰 버킷 (GCRA 방식)
+ * - 토큰 수와 마지막 충전 시각을 따로 두지 않고, "버킷이 가득 차는 시각" 하나만 AtomicLong에 저장
+ *   -> tryAcquire는 CAS 한 번으로 끝남, 여러 스레드에서 동시에 호출해도 안전
+ * - rate: 초당 충전되는 토큰 수, burst: 한 번에 쓸 수 있는 최대 토큰 수
+ */
+
+package server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class TokenBucket {
+    // 토큰 하나가 충전되는 데 걸리는 시간
+    private final long emissionNanos;
+    // 버킷이 비어 있을 때와 가득 찼을 때의 시각 차이
+    private final long capacityNanos;
+    private final AtomicLong fullAtNanos;
+
+    TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("rate와 burst는 0보다 커야 합니다: " + ratePerSecond + "/" + burst);
+        }
+        this.emissionNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+        this.capacityNanos = emissionNanos * burst;
+        // 처음에는 가득 찬 상태
+        this.fullAtNanos = new AtomicLong(System.nanoTime());
+    }
+
+    boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long fullAt = fullAtNanos.get();
+            long next = Math.max(fullAt, nowNanos) + emissionNanos;
+            if (next - nowNanos > capacityNanos) {
+                return false;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * server.admin.AdminServer.java
+ * 운영용 관리자 리스너, 게임 포트와 별도의 포트에서 아주 단순한 HTTP로 서버 상태를 제공
+ * - GET /metrics : 메트릭 레지스트리 + 서버/방 상태를 Prometheus 텍스트 포맷으로 출력
+ * - GET /healthz : 서버가 동작 중이면 200 OK, 드레인 중이거나 종료되었으면 503
+ * - POST /drain : 재시작 드레인 시작 (GameServer.drain) -> 끝나면 서버가 스스로 종료됨
+ *
+ * 모든 값은 동시성 맵의 약한 일관성 순회와 volatile 필드만으로 만들어진 스냅샷이며,
+ * 게임 서버의 synchronized 메서드나 방 플레이어 집합의 락은 잡지 않음
+ * 기본적으로 127.0.0.1에만 바인딩함 -> 외부 노출이 필요하면 -Dacidrain.admin.bind 로 변경
+ */
+
+package server.admin;
+
+import common.log.Log;
+import common.log.LogConfig;
+import game.model.GameRoom;
+import server.ClientHandler;
+import server.GameServer;
+import server.game.ServerGameController;
+import server.metrics.MetricsRegistry;
+import server.metrics.PrometheusTextWriter;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+
+public class AdminServer {
+    private static final Log logger = Log.get(AdminServer.class);
+    private static final int READ_TIMEOUT_MS = 2000;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final GameServer gameServer;
+    private final int port;
+    private final String bindAddress;
+    private ServerSocket serverSocket;
+    private volatile boolean running;
+
+    public AdminServer(GameServer gameServer, int port, String bindAddress) {
+        this.gameServer = gameServer;
+        this.port = port;
+        this.bindAddress = bindAddress;
+    }
+
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getByName(bindAddress));
+        running = true;
+
+        // 요청 빈도가 낮으므로 단일 데몬 스레드에서 순차 처리
+        Thread acceptThread = new Thread(this::acceptLoop, "admin-listener");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+        logger.info("관리자 리스너 시작: " + bindAddress + ":" + port);
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try (Socket socket = serverSocket.accept()) {
+                socket.setSoTimeout(READ_TIMEOUT_MS);
+                handleRequest(socket);
+            } catch (SocketException e) {
+                if (running) {
+                    logger.warning("관리자 연결 처리 중 오류: " + e.getMessage());
+                }
+            } catch (IOException e) {
+                logger.warning("관리자 요청 처리 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    private void handleRequest(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        String requestLine = in.readLine();
+        if (requestLine == null) {
+            return;
+        }
+        // 헤더는 사용하지 않으므로 빈 줄까지 읽고 버림
+        String header;
+        while ((header = in.readLine()) != null && !header.isEmpty()) {
+            // ignore
+        }
+
+        String[] parts = requestLine.split(" ");
+        OutputStream out = socket.getOutputStream();
+        if (parts.length >= 2 && "POST".equals(parts[0]) && "/drain".equals(parts[1])) {
+            gameServer.drain();
+            writeResponse(out, "202 Accepted", "text/plain", "draining\n");
+            return;
+        }
+        if (parts.length < 2 || !"GET".equals(parts[0])) {
+            writeResponse(out, "405 Method Not Allowed", "text/plain", "GET only\n");
+            return;
+        }
+
+        switch (parts[1]) {
+            case "/metrics", "/" -> writeResponse(out, "200 OK",
+                    "text/plain; version=0.0.4; charset=utf-8", renderMetrics());
+            case "/healthz" -> {
+                if (gameServer.isDraining()) {
+                    // 로드 밸런서가 새 연결을 보내지 않도록 드레인 중에는 실패로 응답
+                    writeResponse(out, "503 Service Unavailable", "text/plain", "draining\n");
+                } else if (gameServer.isRunning()) {
+                    writeResponse(out, "200 OK", "text/plain", "ok\n");
+                } else {
+                    writeResponse(out, "503 Service Unavailable", "text/plain", "stopped\n");
+                }
+            }
+            default -> writeResponse(out, "404 Not Found", "text/plain", "not found\n");
+        }
+    }
+
+    String renderMetrics() {
+        StringBuilder body = new StringBuilder(4096);
+        PrometheusTextWriter writer = new PrometheusTextWriter(body);
+        writeServerState(writer);
+        writer.writeRegistry(MetricsRegistry.getInstance());
+        return body.toString();
+    }
+
+    private void writeServerState(PrometheusTextWriter writer) {
+        int connections = 0;
+        int pendingSendsTotal = 0;
+        int pendingSendsMax = 0;
+        for (ClientHandler client : gameServer.getConnectedClients()) {
+            connections++;
+            int pending = client.getPendingSends();
+            pendingSendsTotal += pending;
+            pendingSendsMax = Math.max(pendingSendsMax, pending);
+        }
+
+        writer.writeHeader("acidrain_connections", "현재 연결된 클라이언트 수", "gauge");
+        writer.writeSample("acidrain_connections", null, null, connections);
+        writer.writeHeader("acidrain_users", "로그인한 사용자 수", "gauge");
+        writer.writeSample("acidrain_users", null, null, gameServer.getActiveUserCount());
+        writer.writeHeader("acidrain_outbound_pending_sends", "소켓 쓰기 중인 전송 수 (합계)", "gauge");
+        writer.writeSample("acidrain_outbound_pending_sends", null, null, pendingSendsTotal);
+        writer.writeHeader("acidrain_outbound_pending_sends_max", "한 연결에서 동시에 쓰기 중인 전송 수의 최대값", "gauge");
+        writer.writeSample("acidrain_outbound_pending_sends_max", null, null, pendingSendsMax);
+        writer.writeHeader("acidrain_log_dropped_total", "로그 버퍼 포화로 버려진 로그 레코드 수", "counter");
+        writer.writeSample("acidrain_log_dropped_total", null, null, LogConfig.getDroppedCount());
+
+        StringBuilder roomPlayers = new StringBuilder();
+        StringBuilder roomWords = new StringBuilder();
+        StringBuilder roomTickLag = new StringBuilder();
+        PrometheusTextWriter playersWriter = new PrometheusTextWriter(roomPlayers);
+        PrometheusTextWriter wordsWriter = new PrometheusTextWriter(roomWords);
+        PrometheusTextWriter lagWriter = new PrometheusTextWriter(roomTickLag);
+
+        int roomCount = 0;
+        int roomsInGame = 0;
+        for (GameRoom room : gameServer.getRooms().values()) {
+            roomCount++;
+            String roomId = room.getRoomId();
+            playersWriter.writeSample("acidrain_room_players", "room", roomId, room.getCurrentPlayers());
+
+            ServerGameController controller = gameServer.getController(roomId);
+            if (controller != null) {
+                roomsInGame++;
+                wordsWriter.writeSample("acidrain_room_active_words", "room", roomId, controller.getActiveWordCount());
+                lagWriter.writeSample("acidrain_room_tick_lag_seconds", "room", roomId,
+                        controller.getLastTickLagNanos() / NANOS_PER_SECOND);
+            }
+        }
+
+        writer.writeHeader("acidrain_rooms", "현재 열린 방 수", "gauge");
+        writer.writeSample("acidrain_rooms", null, null, roomCount);
+        writer.writeHeader("acidrain_rooms_in_game", "게임이 진행 중인 방 수", "gauge");
+        writer.writeSample("acidrain_rooms_in_game", null, null, roomsInGame);
+        writer.writeHeader("acidrain_room_players", "방별 플레이어 수", "gauge");
+        writer.append(roomPlayers);
+        writer.writeHeader("acidrain_room_active_words", "방별 화면에 떠 있는 단어 수", "gauge");
+        writer.append(roomWords);
+        writer.writeHeader("acidrain_room_tick_lag_seconds", "방별 마지막 단어 생성 틱 지연", "gauge");
+        writer.append(roomTickLag);
+    }
+
+    private void writeResponse(OutputStream out, String status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        String head = "HTTP/1.1 " + status + "\r\n" +
+                "Content-Type: " + contentType + "\r\n" +
+                "Content-Length: " + bytes.length + "\r\n" +
+                "Connection: close\r\n\r\n";
+        out.write(head.getBytes(StandardCharsets.US_ASCII));
+        out.write(bytes);
+        out.flush();
+    }
+
+    public void shutdown() {
+        running = false;
+        try {
+            if (serverSocket != null && !serverSocket.isClosed()) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            logger.warning("관리자 리스너 종료 중 오류: " + e.getMessage());
+        }
+    }
+}
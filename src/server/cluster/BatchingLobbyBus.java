@@ -0,0 +1,125 @@
+/*
+ * server.cluster.BatchingLobbyBus.java
+ * LobbyBus 구현 공통 부분 -> 구독자 관리, 토픽별 발행 묶음, 주기적 전송
+ * - 전송 방법(send)만 구현마다 다름 (프로세스 안 / TCP)
+ */
+
+package server.cluster;
+
+import common.log.Log;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+abstract class BatchingLobbyBus implements LobbyBus {
+    private static final Log logger = Log.get(BatchingLobbyBus.class);
+
+    private final String node;
+    private final long batchMillis = Math.max(1, Long.getLong("acidrain.lobby.batchMillis", 50));
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+    // 토픽 -> 아직 보내지 않은 이벤트 (this로 보호), 토픽 순서는 처음 발행한 순서
+    private Map<String, List<String>> pending = new LinkedHashMap<>();
+    private volatile boolean running;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "lobby-bus");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    BatchingLobbyBus(String node) {
+        this.node = node;
+    }
+
+    @Override
+    public void subscribe(String topic, Listener listener) {
+        listeners.computeIfAbsent(topic, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher.scheduleWithFixedDelay(this::flush, batchMillis, batchMillis, TimeUnit.MILLISECONDS);
+        connect();
+    }
+
+    @Override
+    public void publish(String topic, String event) {
+        if (event.indexOf('|') >= 0 || event.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("이벤트에 '|'나 줄바꿈을 쓸 수 없습니다: " + event);
+        }
+        if (!running) {
+            return;
+        }
+        synchronized (this) {
+            List<String> events = pending.computeIfAbsent(topic, k -> new ArrayList<>());
+            if (events.isEmpty() || !events.get(events.size() - 1).equals(event)) {
+                events.add(event);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        flush();
+        running = false;
+        flusher.shutdownNow();
+        disconnect();
+    }
+
+    @Override
+    public String getNode() {
+        return node;
+    }
+
+    private void flush() {
+        Map<String, List<String>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+
+        for (Map.Entry<String, List<String>> entry : batch.entrySet()) {
+            try {
+                send(entry.getKey(), entry.getValue());
+            } catch (Exception e) {
+                logger.warning("로비 이벤트 전송 실패 (" + entry.getKey() + "): " + e.getMessage());
+            }
+        }
+    }
+
+    // 다른 노드가 보낸 묶음을 구독자에게 전달
+    void deliver(String topic, String origin, List<String> events) {
+        List<Listener> subscribers = listeners.get(topic);
+        if (subscribers == null) {
+            return;
+        }
+        for (Listener listener : subscribers) {
+            try {
+                listener.onEvents(origin, events);
+            } catch (Exception e) {
+                logger.severe("로비 이벤트 처리 중 오류 (" + topic + ")", e);
+            }
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    abstract void connect();
+
+    abstract void disconnect();
+
+    // 한 토픽의 묶음을 다른 노드들에 보냄 -> 전송 스레드(lobby-bus)에서만 호출
+    abstract void send(String topic, List<String> events) throws Exception;
+}
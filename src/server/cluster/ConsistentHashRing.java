@@ -0,0 +1,78 @@
+/*
+ * server.cluster.ConsistentHashRing.java
+ * 방 ID -> 게임 노드 매핑 (consistent hashing)
+ * - 노드마다 가상 노드 100개를 해시 링에 올리고, 키의 해시 이후 처음 만나는 가상 노드의 주인이 담당 노드
+ *   -> 노드가 하나 늘거나 줄어도 전체 키의 약 1/N만 담당이 바뀜
+ * - 게이트웨이(라우팅)와 게임 노드(방 ID 발급)가 같은 노드 목록으로 같은 링을 만들어야 함
+ *   -> 해시는 JVM에 상관없이 같은 값이 나오도록 UTF-8 바이트의 FNV-1a 64비트 + 비트 섞기로 계산
+ * - 노드 목록은 -Dacidrain.cluster.nodes=host:port,host:port,... (순서는 상관없음)
+ */
+
+package server.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public final class ConsistentHashRing {
+    public static final String NODES_PROPERTY = "acidrain.cluster.nodes";
+    private static final int VIRTUAL_NODES = 100;
+
+    private final List<String> nodes;
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> nodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("노드가 하나 이상 필요합니다.");
+        }
+        this.nodes = List.copyOf(new LinkedHashSet<>(nodes));
+        for (String node : this.nodes) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    // -Dacidrain.cluster.nodes 로 만든 링, 설정이 없으면 null (단일 서버)
+    public static ConsistentHashRing fromSystemProperty() {
+        List<String> nodes = parseNodes(System.getProperty(NODES_PROPERTY, ""));
+        return nodes.isEmpty() ? null : new ConsistentHashRing(nodes);
+    }
+
+    public static List<String> parseNodes(String value) {
+        List<String> nodes = new ArrayList<>();
+        for (String node : value.split(",")) {
+            if (!node.isBlank()) {
+                nodes.add(node.trim());
+            }
+        }
+        return nodes;
+    }
+
+    public String nodeFor(String key) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    public boolean contains(String node) {
+        return nodes.contains(node);
+    }
+
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        // FNV는 비슷한 키("R1", "R2")의 해시가 뭉치므로 한 번 더 섞음 (MurmurHash3 fmix64)
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * server.cluster.Gateway.java
+ * 게이트웨이 서버 -> 클라이언트 연결을 받아 방을 나눠 가진 여러 게임 노드(GameServer 프로세스)로 메시지를 중계
+ * - 클라이언트 하나마다 GatewaySession 하나, 세션은 연결 가능한 모든 노드에 연결을 하나씩 엶 (라우팅은 GatewaySession 참고)
+ * - 클라이언트 프로토콜은 그대로 -> 기존 클라이언트는 게이트웨이 주소로 접속하기만 하면 됨
+ * - 닉네임 중복은 게이트웨이에서 먼저 확인 (노드마다 따로 거절하면 ERROR가 노드 수만큼 감)
+ * - 클라이언트 쪽 heartbeat: 타이머가 주기적으로 세션을 훑어 유휴 시간이 간격을 넘으면 PING, timeout을 넘으면 연결 종료
+ *   (노드 쪽 연결의 PING은 세션이 바로 PONG으로 응답)
+ * - 세션 복구(RESUME)는 지원하지 않음 -> 연결이 끊기면 모든 노드에 LOGOUT을 보내고 정리
+ */
+
+package server.cluster;
+
+import common.log.Log;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Gateway {
+    private static final Log logger = Log.get(Gateway.class);
+    private static final int DEFAULT_INTERVAL_SECONDS = 15;
+    private static final int DEFAULT_TIMEOUT_SECONDS = 45;
+
+    private final int port;
+    private final ConsistentHashRing ring;
+    private ServerSocket serverSocket;
+    private volatile boolean running;
+    private final Set<GatewaySession> sessions = ConcurrentHashMap.newKeySet();
+    private final Map<String, GatewaySession> sessionsByName = new ConcurrentHashMap<>();
+    // 방 생성 노드 선택용 -> 세션마다 따로 세면 모두 첫 노드부터 만들게 됨
+    private final AtomicInteger createCounter = new AtomicInteger();
+    private final long intervalNanos;
+    private final long timeoutNanos;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "gateway-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public Gateway(int port, ConsistentHashRing ring) {
+        this.port = port;
+        this.ring = ring;
+        int intervalSeconds = Math.max(1, Integer.getInteger("acidrain.heartbeat.intervalSeconds", DEFAULT_INTERVAL_SECONDS));
+        int timeoutSeconds = Math.max(intervalSeconds + 1,
+                Integer.getInteger("acidrain.heartbeat.timeoutSeconds", DEFAULT_TIMEOUT_SECONDS));
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(intervalSeconds);
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+    }
+
+    public void start() {
+        try {
+            serverSocket = new ServerSocket(port);
+            running = true;
+            logger.info("게이트웨이가 포트 " + port + "에서 시작되었습니다. 게임 노드: " + ring.getNodes());
+            long periodNanos = Math.max(TimeUnit.SECONDS.toNanos(1), intervalNanos / 2);
+            heartbeat.scheduleWithFixedDelay(this::checkIdleSessions, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+
+            while (running) {
+                try {
+                    Socket clientSocket = serverSocket.accept();
+                    GatewaySession session = new GatewaySession(this, clientSocket);
+                    sessions.add(session);
+                    new Thread(session, "gateway-session").start();
+                    logger.fine(() -> "새로운 클라이언트 연결: " + clientSocket.getInetAddress());
+                } catch (IOException e) {
+                    if (running) {
+                        logger.severe("클라이언트 연결 수락 중 오류: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.severe("게이트웨이 시작 실패: " + e.getMessage());
+            throw new RuntimeException("게이트웨이 시작 실패", e);
+        } finally {
+            shutdown();
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        heartbeat.shutdownNow();
+        try {
+            if (serverSocket != null && !serverSocket.isClosed()) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            logger.severe("게이트웨이 소켓 종료 중 오류: " + e.getMessage());
+        }
+        for (GatewaySession session : sessions) {
+            session.close();
+        }
+        sessions.clear();
+        sessionsByName.clear();
+    }
+
+    // 세션 수는 많지 않다고 보고 전체를 훑음 (노드 쪽 IdleReaper처럼 타이밍 휠을 쓸 만큼 연결이 많지 않음)
+    private void checkIdleSessions() {
+        try {
+            long now = System.nanoTime();
+            for (GatewaySession session : sessions) {
+                long idle = now - session.getLastActivityNanos();
+                if (idle >= timeoutNanos) {
+                    logger.warning("응답이 없는 클라이언트 연결을 닫습니다: " + session.getUsername());
+                    session.close();
+                } else if (idle >= intervalNanos) {
+                    session.ping();
+                }
+            }
+        } catch (Exception e) {
+            logger.severe("유휴 연결 확인 중 오류", e);
+        }
+    }
+
+    boolean claimUsername(String username, GatewaySession session) {
+        return sessionsByName.putIfAbsent(username, session) == null;
+    }
+
+    void sessionClosed(GatewaySession session) {
+        sessions.remove(session);
+        if (session.getUsername() != null) {
+            sessionsByName.remove(session.getUsername(), session);
+        }
+    }
+
+    // 세션의 지연 작업(방 목록 응답 제한 시간)도 heartbeat 타이머 스레드 하나에서 실행
+    void schedule(Runnable task, long delay, TimeUnit unit) {
+        if (running) {
+            heartbeat.schedule(task, delay, unit);
+        }
+    }
+
+    int nextCreateIndex() {
+        return createCounter.getAndIncrement() & Integer.MAX_VALUE;
+    }
+
+    ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * server.cluster.GatewayMain.java
+ * 게이트웨이 실행 -> java server.cluster.GatewayMain [포트] [노드1 노드2 ...]
+ * 노드 목록을 인자로 주지 않으면 -Dacidrain.cluster.nodes 사용 (게임 노드들도 같은 목록으로 실행해야 함)
+ */
+
+package server.cluster;
+
+import common.log.LogConfig;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class GatewayMain {
+    private static Gateway gateway;
+
+    public static void main(String[] args) {
+        LogConfig.install();
+
+        int port = 12345;
+        if (args.length > 0) {
+            try {
+                port = Integer.parseInt(args[0]);
+                if (port < 1 || port > 65535) {
+                    throw new IllegalArgumentException("포트 번호는 1-65535 사이여야 합니다.");
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("잘못된 포트 번호입니다. 기본 포트(12345)를 사용합니다.");
+                port = 12345;
+            }
+        }
+
+        List<String> nodes = args.length > 1
+                ? Arrays.asList(Arrays.copyOfRange(args, 1, args.length))
+                : ConsistentHashRing.parseNodes(System.getProperty(ConsistentHashRing.NODES_PROPERTY, ""));
+        if (nodes.isEmpty()) {
+            System.err.println("게임 노드 목록이 없습니다. 인자 또는 -D" + ConsistentHashRing.NODES_PROPERTY + "로 지정하세요.");
+            System.exit(1);
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("게이트웨이를 종료합니다...");
+            if (gateway != null) {
+                gateway.shutdown();
+            }
+        }));
+
+        try {
+            gateway = new Gateway(port, new ConsistentHashRing(nodes));
+            System.out.println("게이트웨이를 시작합니다...");
+            System.out.println("포트: " + port + ", 게임 노드: " + nodes);
+            System.out.println("게이트웨이를 종료하려면 Ctrl+C를 누르세요.");
+            gateway.start();
+        } catch (Exception e) {
+            System.err.println("게이트웨이 실행 중 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
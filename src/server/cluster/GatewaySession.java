@@ -0,0 +1,439 @@
+/*
+ * server.cluster.GatewaySession.java
+ * 게이트웨이의 클라이언트 연결 하나 -> 연결 가능한 모든 게임 노드에 연결을 하나씩 열고 메시지를 중계
+ * - 노드 입장에서는 노드마다 같은 이름의 클라이언트가 하나씩 로그인한 것처럼 보임
+ * 클라이언트 -> 노드 라우팅
+ * - LOGIN, LOGOUT: 모든 노드
+ * - JOIN_ROOM, LEAVE_ROOM, CHAT, UPDATE_SETTINGS, START_GAME, GAME_ACTION, PLAYER_LIST: 방 ID(두 번째 필드)의 담당 노드
+ * - CREATE_ROOM: 노드를 돌아가며 선택 -> 노드가 자기 담당 방 ID만 발급하므로 이후 메시지는 방 ID로 같은 노드를 찾음
+ * - QUICK_MATCH, QUICK_MATCH_CANCEL: "quick-match" 키의 담당 노드 하나 -> 대기열을 한 곳에 모아야 서로 매칭됨
+ * - ROOM_LIST: 모든 노드에 보내고 응답을 모아 하나로 합침 (페이지 요청이면 방 번호 순으로 합쳐 페이지 크기만큼)
+ *   -> 노드에는 요청 ID를 붙여 ROOM_LIST_TAGGED로 보내고, 같은 ID의 응답끼리 합침
+ *   -> 노드가 속도 제한 등으로 답하지 않아도 1초가 지나면 받은 응답만으로 보냄 (늦게 온 응답은 버림)
+ * - 그 외(USERS_REQUEST, LEADERBOARD_ACTION 등): 기본 노드(연결된 첫 노드)
+ * - PING/PONG, RESUME은 게이트웨이가 직접 처리
+ * 노드 -> 클라이언트
+ * - 그대로 전달, 단 모든 노드가 똑같이 보내는 USERS는 기본 노드 것만, SESSION은 버림 (세션 복구 미지원)
+ * - ROOM_LIST_CHANGED는 변경이 생긴 노드와 로비 버스로 전달받은 노드가 거의 동시에 보냄 -> 100ms 안에 온 것은 하나만 전달
+ *   (클라이언트는 알림을 300ms 모았다가 다시 요청하므로 버린 알림 이후의 변경도 다음 요청에 반영됨)
+ * - 노드 연결 하나가 끊기면 클라이언트 연결도 닫음 -> 클라이언트는 다시 접속해 남은 노드로 이어서 사용
+ */
+
+package server.cluster;
+
+import client.event.GameEvent.ClientCommand;
+import client.event.GameEvent.ServerMessage;
+import common.log.Log;
+import game.model.GameRoom;
+import server.GameServer;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+final class GatewaySession implements Runnable {
+    private static final Log logger = Log.get(GatewaySession.class);
+    private static final int CONNECT_TIMEOUT_MILLIS = 2000;
+    private static final String QUICK_MATCH_KEY = "quick-match";
+    private static final long ROOM_LIST_CHANGED_WINDOW_NANOS = 100_000_000L;
+    private static final long ROOM_LIST_TIMEOUT_MILLIS = 1000;
+
+    // 게임 노드 하나와의 연결
+    private final class NodeLink implements Runnable {
+        private final String node;
+        private final Socket socket;
+        private final PrintWriter out;
+        private final BufferedReader in;
+
+        private NodeLink(String node) throws IOException {
+            int colon = node.lastIndexOf(':');
+            if (colon < 0) {
+                throw new IOException("노드 주소는 host:port 형식이어야 합니다: " + node);
+            }
+            this.node = node;
+            this.socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(node.substring(0, colon),
+                        Integer.parseInt(node.substring(colon + 1))), CONNECT_TIMEOUT_MILLIS);
+                this.out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+                this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            } catch (IOException | NumberFormatException e) {
+                socket.close();
+                throw e instanceof IOException io ? io : new IOException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                String message;
+                while (running && (message = in.readLine()) != null) {
+                    handleNodeMessage(this, message);
+                }
+            } catch (IOException e) {
+                if (running) {
+                    logger.warning("게임 노드 연결 오류 (" + node + "): " + e.getMessage());
+                }
+            } finally {
+                if (running) {
+                    logger.warning("게임 노드 " + node + "와의 연결이 끊겨 클라이언트 연결을 닫습니다: " + username);
+                    close();
+                }
+            }
+        }
+
+        private void send(String message) {
+            out.println(message);
+        }
+
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.fine(() -> "노드 연결 종료 중 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    // 여러 노드의 방 목록 응답을 하나로 합침
+    private static final class RoomListMerge {
+        private final boolean paged;
+        private final int pageSize;
+        private int remaining;
+        private int total;
+        private boolean more;
+        private final List<String> rooms = new ArrayList<>();
+
+        private RoomListMerge(boolean paged, int pageSize, int nodes) {
+            this.paged = paged;
+            this.pageSize = pageSize;
+            this.remaining = nodes;
+        }
+
+        // ROOM_LIST_RESPONSE|roomInfo... 또는 ROOM_LIST_PAGE|전체 수|다음 커서|roomInfo...
+        // 빈 문자열이면 노드가 속도 제한으로 처리하지 않은 것 -> 방은 더하지 않고 응답 수만 셈
+        private boolean add(String message) {
+            if (message.isEmpty()) {
+                return --remaining == 0;
+            }
+            String[] parts = message.split("\\|", -1);
+            int first = 1;
+            if (paged && parts.length >= 3) {
+                total += parseInt(parts[1], 0);
+                more |= !parts[2].isEmpty();
+                first = 3;
+            }
+            rooms.addAll(Arrays.asList(parts).subList(Math.min(first, parts.length), parts.length));
+            return --remaining == 0;
+        }
+
+        private String build() {
+            if (!paged) {
+                StringBuilder response = new StringBuilder(ServerMessage.ROOM_LIST_RESPONSE);
+                for (String room : rooms) {
+                    response.append('|').append(room);
+                }
+                return response.toString();
+            }
+
+            // 노드가 자기 담당 번호만 발급하므로 방 번호는 노드 사이에서도 겹치지 않음 -> 번호 순으로 합치면 커서가 그대로 동작
+            rooms.sort(Comparator.comparingInt(GatewaySession::roomNumberOf));
+            List<String> page = rooms.subList(0, Math.min(pageSize, rooms.size()));
+            boolean hasNext = more || rooms.size() > pageSize;
+            String nextCursor = hasNext && !page.isEmpty() ? roomIdOf(page.get(page.size() - 1)) : "";
+
+            StringBuilder response = new StringBuilder(ServerMessage.ROOM_LIST_PAGE)
+                    .append('|').append(total)
+                    .append('|').append(nextCursor);
+            for (String room : page) {
+                response.append('|').append(room);
+            }
+            return response.toString();
+        }
+    }
+
+    private final Gateway gateway;
+    private final Socket socket;
+    private final PrintWriter out;
+    private final BufferedReader in;
+    private final List<NodeLink> links = new ArrayList<>();
+    private final Map<String, NodeLink> linksByNode = new HashMap<>();
+    private volatile String username;
+    private volatile boolean running = true;
+    private boolean closed;
+    private volatile long lastActivityNanos = System.nanoTime();
+    private long lastRoomListChangedNanos;
+    // 응답을 기다리는 방 목록 요청 (요청 ID -> 합치는 중인 응답), this로 보호
+    private final Map<Integer, RoomListMerge> pendingLists = new HashMap<>();
+    private int nextListId;
+
+    GatewaySession(Gateway gateway, Socket socket) throws IOException {
+        this.gateway = gateway;
+        this.socket = socket;
+        this.out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void run() {
+        try {
+            connectNodes();
+            if (links.isEmpty()) {
+                sendToClient(ServerMessage.ERROR + "|연결할 수 있는 게임 서버가 없습니다.");
+                return;
+            }
+
+            String message;
+            while (running && (message = in.readLine()) != null) {
+                lastActivityNanos = System.nanoTime();
+                routeClientMessage(message);
+            }
+        } catch (IOException e) {
+            if (running) {
+                logger.warning("클라이언트와의 연결 종료: " + e.getMessage());
+            }
+        } finally {
+            close();
+        }
+    }
+
+    // 연결할 수 없는 노드는 건너뜀 -> 그 노드가 맡은 방으로 가는 요청만 실패
+    private void connectNodes() {
+        for (String node : gateway.getRing().getNodes()) {
+            try {
+                NodeLink link = new NodeLink(node);
+                // close()가 heartbeat 타이머 스레드에서 불릴 수 있으므로 락 안에서 추가
+                synchronized (this) {
+                    links.add(link);
+                    linksByNode.put(node, link);
+                }
+            } catch (IOException e) {
+                logger.warning("게임 노드 " + node + "에 연결할 수 없습니다: " + e.getMessage());
+            }
+        }
+        for (NodeLink link : links) {
+            new Thread(link, "gateway-node-" + link.node).start();
+        }
+    }
+
+    private void routeClientMessage(String message) {
+        String[] parts = message.split("\\|", -1);
+        switch (parts[0]) {
+            case ClientCommand.LOGIN -> handleLogin(message, parts);
+            case ClientCommand.LOGOUT -> {
+                sendToAll(message);
+                running = false;
+            }
+            case ClientCommand.RESUME ->
+                    sendToClient(ServerMessage.RESUME_FAILED + "|게이트웨이 접속은 세션 복구를 지원하지 않습니다.");
+            case ClientCommand.PING -> sendToClient(ServerMessage.PONG);
+            case ClientCommand.PONG -> {
+            }
+            case ClientCommand.ROOM_LIST -> requestRoomList(message, parts);
+            case ClientCommand.CREATE_ROOM -> links.get(gateway.nextCreateIndex() % links.size()).send(message);
+            case ClientCommand.QUICK_MATCH, ClientCommand.QUICK_MATCH_CANCEL -> {
+                NodeLink link = linksByNode.get(gateway.getRing().nodeFor(QUICK_MATCH_KEY));
+                (link != null ? link : primary()).send(message);
+            }
+            case ClientCommand.JOIN_ROOM, ClientCommand.LEAVE_ROOM, ClientCommand.CHAT, ClientCommand.UPDATE_SETTINGS,
+                 ClientCommand.START_GAME, ClientCommand.GAME_ACTION, ClientCommand.PLAYER_LIST,
+                 ClientCommand.SPECTATE, ClientCommand.SPECTATE_STOP -> {
+                if (parts.length < 2) {
+                    primary().send(message);
+                    return;
+                }
+                NodeLink link = linksByNode.get(gateway.getRing().nodeFor(parts[1]));
+                if (link != null) {
+                    link.send(message);
+                } else if (parts[0].equals(ClientCommand.JOIN_ROOM)) {
+                    sendToClient(ServerMessage.JOIN_ROOM_RESPONSE + "|false|방이 있는 게임 서버에 연결할 수 없습니다.");
+                } else if (parts[0].equals(ClientCommand.SPECTATE)) {
+                    sendToClient(ServerMessage.SPECTATE_FAILED + "|방이 있는 게임 서버에 연결할 수 없습니다.");
+                } else {
+                    logger.warning("담당 노드에 연결되어 있지 않아 메시지를 버립니다: " + parts[0] + " " + parts[1]);
+                }
+            }
+            default -> primary().send(message);
+        }
+    }
+
+    // 노드마다 따로 거절하지 않도록 닉네임 검사와 중복 확인은 게이트웨이에서
+    private void handleLogin(String message, String[] parts) {
+        String requested = parts.length >= 2 ? parts[1].trim() : "";
+        if (requested.isEmpty() || GameRoom.containsReservedDelimiter(requested)) {
+            sendToClient(ServerMessage.ERROR + "|사용할 수 없는 닉네임입니다.");
+            running = false;
+            return;
+        }
+        if (username != null || !gateway.claimUsername(requested, this)) {
+            sendToClient(ServerMessage.ERROR + "|이미 사용 중인 닉네임입니다.");
+            running = false;
+            return;
+        }
+
+        username = requested;
+        sendToAll(message);
+    }
+
+    // ROOM_LIST -> 전체 목록, ROOM_LIST|커서|페이지크기|... -> 페이지 (노드와 같은 규칙으로 페이지 크기 제한)
+    private void requestRoomList(String message, String[] parts) {
+        boolean paged = parts.length >= 3;
+        int pageSize = GameServer.MAX_ROOM_PAGE_SIZE;
+        if (paged) {
+            pageSize = Math.max(1, Math.min(GameServer.MAX_ROOM_PAGE_SIZE,
+                    parseInt(parts[2], GameServer.MAX_ROOM_PAGE_SIZE)));
+        }
+
+        // 응답이 먼저 올 수 있으므로 보내기 전에 대기 목록에 넣음, 전송은 락 밖에서 (노드 쓰기가 막혀도 응답 처리가 멈추지 않도록)
+        RoomListMerge merge = new RoomListMerge(paged, pageSize, links.size());
+        int id;
+        synchronized (this) {
+            id = ++nextListId;
+            pendingLists.put(id, merge);
+        }
+        gateway.schedule(() -> expireRoomList(id), ROOM_LIST_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        // ROOM_LIST|인자... -> ROOM_LIST_TAGGED|요청ID|인자...
+        sendToAll(ClientCommand.ROOM_LIST_TAGGED + "|" + id + message.substring(ClientCommand.ROOM_LIST.length()));
+    }
+
+    // 제한 시간 안에 모든 노드가 답하지 않음 -> 받은 응답만으로 보냄
+    private void expireRoomList(int id) {
+        RoomListMerge merge;
+        synchronized (this) {
+            merge = pendingLists.remove(id);
+        }
+        if (merge != null && running) {
+            logger.fine(() -> "방 목록 응답이 " + merge.remaining + "개 노드에서 오지 않아 받은 것만 보냅니다: " + username);
+            sendToClient(merge.build());
+        }
+    }
+
+    private void handleNodeMessage(NodeLink link, String message) {
+        int end = message.indexOf('|');
+        String type = end >= 0 ? message.substring(0, end) : message;
+        switch (type) {
+            case ServerMessage.PING -> link.send(ClientCommand.PONG);
+            case ServerMessage.PONG, ServerMessage.SESSION -> {
+            }
+            case ServerMessage.USERS -> {
+                if (link == primary()) {
+                    sendToClient(message);
+                }
+            }
+            case ServerMessage.ROOM_LIST_TAGGED -> mergeRoomList(link, message);
+            // 노드가 로그인 직후 등에 보내는 요청하지 않은 목록 -> 합친 목록만 보내므로 버림
+            case ServerMessage.ROOM_LIST_RESPONSE, ServerMessage.ROOM_LIST_PAGE ->
+                    logger.fine(() -> "요청하지 않은 방 목록 응답을 버립니다: " + link.node);
+            case ServerMessage.ROOM_LIST_CHANGED -> {
+                if (claimRoomListChanged()) {
+                    sendToClient(message);
+                }
+            }
+            default -> sendToClient(message);
+        }
+    }
+
+    // ROOM_LIST_TAGGED|요청ID|응답 메시지 (속도 제한에 걸렸으면 응답 메시지가 빈 문자열)
+    private void mergeRoomList(NodeLink link, String message) {
+        String[] parts = message.split("\\|", 3);
+        int id = parts.length >= 2 ? parseInt(parts[1], 0) : 0;
+        String response = null;
+        synchronized (this) {
+            RoomListMerge merge = pendingLists.get(id);
+            if (merge == null) {
+                logger.fine(() -> "제한 시간이 지났거나 알 수 없는 방 목록 응답을 버립니다: " + link.node);
+                return;
+            }
+            if (merge.add(parts.length >= 3 ? parts[2] : "")) {
+                pendingLists.remove(id);
+                response = merge.build();
+            }
+        }
+        if (response != null) {
+            sendToClient(response);
+        }
+    }
+
+    private synchronized boolean claimRoomListChanged() {
+        long now = System.nanoTime();
+        if (lastRoomListChangedNanos != 0 && now - lastRoomListChangedNanos < ROOM_LIST_CHANGED_WINDOW_NANOS) {
+            return false;
+        }
+        lastRoomListChangedNanos = now;
+        return true;
+    }
+
+    private NodeLink primary() {
+        return links.get(0);
+    }
+
+    private void sendToAll(String message) {
+        for (NodeLink link : links) {
+            link.send(message);
+        }
+    }
+
+    private void sendToClient(String message) {
+        out.println(message);
+    }
+
+    void ping() {
+        sendToClient(ServerMessage.PING);
+    }
+
+    // 클라이언트 수신 스레드, 노드 수신 스레드, heartbeat 타이머에서 호출될 수 있음
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            running = false;
+        }
+        // 노드는 LOGOUT을 받으면 재연결 유예 없이 바로 퇴장 처리
+        for (NodeLink link : links) {
+            link.send(ClientCommand.LOGOUT);
+            link.close();
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.fine(() -> "클라이언트 소켓 종료 중 오류: " + e.getMessage());
+        }
+        gateway.sessionClosed(this);
+    }
+
+    String getUsername() {
+        return username;
+    }
+
+    long getLastActivityNanos() {
+        return lastActivityNanos;
+    }
+
+    private static int parseInt(String value, int fallback) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    // roomInfo는 "방ID,방이름,..." 형식
+    private static String roomIdOf(String roomInfo) {
+        int comma = roomInfo.indexOf(',');
+        return comma >= 0 ? roomInfo.substring(0, comma) : roomInfo;
+    }
+
+    private static int roomNumberOf(String roomInfo) {
+        String roomId = roomIdOf(roomInfo);
+        try {
+            return Integer.parseInt(roomId.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * server.cluster.InProcessLobbyBus.java
+ * 프로세스 안의 LobbyBus -> 같은 Broker에 붙은 노드끼리만 이벤트를 주고받음
+ * - 단일 서버: 노드 하나만 붙은 브로커 (보낼 곳이 없으므로 이벤트는 버려짐)
+ * - 한 JVM에서 GameServer 여러 개를 띄워 확인할 때: 같은 Broker에서 connect한 버스를 각 서버에 줌
+ * - 묶음은 보낸 쪽의 전송 스레드에서 받는 쪽 구독자에게 바로 전달
+ */
+
+package server.cluster;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class InProcessLobbyBus extends BatchingLobbyBus {
+
+    public static final class Broker {
+        private final Map<String, InProcessLobbyBus> members = new LinkedHashMap<>();
+
+        public LobbyBus connect(String node) {
+            return new InProcessLobbyBus(this, node);
+        }
+
+        private void join(InProcessLobbyBus bus) {
+            List<InProcessLobbyBus> others;
+            synchronized (this) {
+                others = new ArrayList<>(members.values());
+                members.put(bus.getNode(), bus);
+            }
+            for (InProcessLobbyBus other : others) {
+                other.deliver(MEMBERS_TOPIC, bus.getNode(), List.of(JOINED));
+                bus.deliver(MEMBERS_TOPIC, other.getNode(), List.of(JOINED));
+            }
+        }
+
+        private void leave(InProcessLobbyBus bus) {
+            List<InProcessLobbyBus> others;
+            synchronized (this) {
+                if (!members.remove(bus.getNode(), bus)) {
+                    return;
+                }
+                others = new ArrayList<>(members.values());
+            }
+            for (InProcessLobbyBus other : others) {
+                other.deliver(MEMBERS_TOPIC, bus.getNode(), List.of(LEFT));
+            }
+        }
+
+        private void fanOut(InProcessLobbyBus sender, String topic, List<String> events) {
+            List<InProcessLobbyBus> others;
+            synchronized (this) {
+                others = new ArrayList<>(members.values());
+            }
+            for (InProcessLobbyBus other : others) {
+                if (other != sender) {
+                    other.deliver(topic, sender.getNode(), events);
+                }
+            }
+        }
+    }
+
+    private final Broker broker;
+
+    private InProcessLobbyBus(Broker broker, String node) {
+        super(node);
+        this.broker = broker;
+    }
+
+    @Override
+    void connect() {
+        broker.join(this);
+    }
+
+    @Override
+    void disconnect() {
+        broker.leave(this);
+    }
+
+    @Override
+    void send(String topic, List<String> events) {
+        broker.fanOut(this, topic, events);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * server.cluster.LobbyBroker.java
+ * 게임 노드 사이의 로비 이벤트 중계 서버 (TcpLobbyBus의 상대편)
+ * - 노드는 연결 후 HELLO|노드 를 보내고, 이후 EVENTS|토픽|이벤트... 를 보냄 -> 보낸 노드를 뺀 모든 노드에 EVENTS|토픽|보낸노드|이벤트... 로 전달
+ * - 노드가 붙으면 다른 노드들에 JOINED를, 새 노드에는 이미 붙어 있는 노드마다 JOINED를 보냄, 떨어지면 LEFT
+ * - 연결마다 보낼 줄 큐와 전송 스레드를 둠 -> 느린 노드 때문에 다른 노드로의 전달이 막히지 않음
+ *   -> 큐가 가득 차면 그 노드 연결을 끊음 (다시 붙으면 상태를 새로 받음)
+ * - 상태는 저장하지 않음, 순서는 보낸 노드 하나 기준으로만 보장
+ */
+
+package server.cluster;
+
+import common.log.Log;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+public class LobbyBroker {
+    private static final Log logger = Log.get(LobbyBroker.class);
+    private static final int OUTBOX_CAPACITY = 10_000;
+
+    // 노드 하나의 연결
+    private final class Connection implements Runnable {
+        private final Socket socket;
+        private final BlockingQueue<String> outbox = new ArrayBlockingQueue<>(OUTBOX_CAPACITY);
+        private String node;
+
+        private Connection(Socket socket) {
+            this.socket = socket;
+        }
+
+        @Override
+        public void run() {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+                String hello = in.readLine();
+                if (hello == null || !hello.startsWith("HELLO|") || hello.length() <= "HELLO|".length()) {
+                    logger.warning("HELLO 없이 연결한 클라이언트를 닫습니다: " + socket.getInetAddress());
+                    return;
+                }
+                node = hello.substring("HELLO|".length());
+                Thread writer = new Thread(this::writeLoop, "lobby-broker-writer-" + node);
+                writer.setDaemon(true);
+                writer.start();
+                register(this);
+
+                String line;
+                while (running && (line = in.readLine()) != null) {
+                    // EVENTS|토픽|이벤트... -> EVENTS|토픽|보낸노드|이벤트...
+                    int topicEnd = line.indexOf('|', "EVENTS|".length());
+                    if (!line.startsWith("EVENTS|") || topicEnd < 0) {
+                        logger.warning("알 수 없는 노드 메시지 (" + node + "): " + line);
+                        continue;
+                    }
+                    fanOut(this, line.substring(0, topicEnd) + "|" + node + line.substring(topicEnd));
+                }
+            } catch (IOException e) {
+                if (running) {
+                    logger.warning("노드 연결 종료 (" + node + "): " + e.getMessage());
+                }
+            } finally {
+                close();
+                if (node != null) {
+                    unregister(this);
+                }
+            }
+        }
+
+        private void writeLoop() {
+            try (PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), false)) {
+                while (!socket.isClosed()) {
+                    out.println(outbox.take());
+                    // 쌓인 줄은 모아서 한 번에 flush
+                    String next;
+                    while ((next = outbox.poll()) != null) {
+                        out.println(next);
+                    }
+                    out.flush();
+                    if (out.checkError()) {
+                        break;
+                    }
+                }
+            } catch (IOException | InterruptedException e) {
+                logger.fine(() -> "노드 전송 종료 (" + node + "): " + e.getMessage());
+            } finally {
+                close();
+            }
+        }
+
+        private void enqueue(String line) {
+            if (!outbox.offer(line)) {
+                logger.warning("노드 " + node + "의 전송 큐가 가득 차 연결을 끊습니다.");
+                close();
+            }
+        }
+
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.fine(() -> "노드 소켓 종료 중 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    private final int port;
+    private ServerSocket serverSocket;
+    private volatile boolean running;
+    // 노드 이름 -> 연결 (this로 보호)
+    private final Map<String, Connection> connections = new LinkedHashMap<>();
+
+    public LobbyBroker(int port) {
+        this.port = port;
+    }
+
+    public void start() {
+        try {
+            serverSocket = new ServerSocket(port);
+            running = true;
+            logger.info("로비 브로커가 포트 " + port + "에서 시작되었습니다.");
+            while (running) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    new Thread(new Connection(socket), "lobby-broker-reader").start();
+                } catch (IOException e) {
+                    if (running) {
+                        logger.severe("노드 연결 수락 중 오류: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.severe("로비 브로커 시작 실패: " + e.getMessage());
+            throw new RuntimeException("로비 브로커 시작 실패", e);
+        } finally {
+            shutdown();
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        try {
+            if (serverSocket != null && !serverSocket.isClosed()) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            logger.severe("로비 브로커 소켓 종료 중 오류: " + e.getMessage());
+        }
+        synchronized (this) {
+            for (Connection connection : connections.values()) {
+                connection.close();
+            }
+            connections.clear();
+        }
+    }
+
+    // 같은 이름으로 다시 붙으면(재시작 등) 이전 연결을 닫고 교체
+    private synchronized void register(Connection connection) {
+        Connection previous = connections.remove(connection.node);
+        if (previous != null) {
+            previous.close();
+            fanOut(connection, membersFrame(connection.node, LobbyBus.LEFT));
+        }
+        for (Connection other : connections.values()) {
+            other.enqueue(membersFrame(connection.node, LobbyBus.JOINED));
+            connection.enqueue(membersFrame(other.node, LobbyBus.JOINED));
+        }
+        connections.put(connection.node, connection);
+        logger.info("노드 연결: " + connection.node + " (전체 " + connections.size() + "개)");
+    }
+
+    private synchronized void unregister(Connection connection) {
+        if (!connections.remove(connection.node, connection)) {
+            return;
+        }
+        fanOut(connection, membersFrame(connection.node, LobbyBus.LEFT));
+        logger.info("노드 연결 끊김: " + connection.node + " (전체 " + connections.size() + "개)");
+    }
+
+    private synchronized void fanOut(Connection sender, String line) {
+        for (Connection connection : connections.values()) {
+            if (connection != sender) {
+                connection.enqueue(line);
+            }
+        }
+    }
+
+    private static String membersFrame(String node, String event) {
+        return "EVENTS|" + LobbyBus.MEMBERS_TOPIC + "|" + node + "|" + event;
+    }
+
+    public synchronized int getNodeCount() {
+        return connections.size();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * server.cluster.LobbyBrokerMain.java
+ * 로비 브로커 실행 -> java server.cluster.LobbyBrokerMain [포트]
+ * 게임 노드는 -Dacidrain.lobby.broker=host:포트 로 연결
+ */
+
+package server.cluster;
+
+import common.log.LogConfig;
+
+public class LobbyBrokerMain {
+    private static LobbyBroker broker;
+
+    public static void main(String[] args) {
+        LogConfig.install();
+
+        int port = 12400;
+        if (args.length > 0) {
+            try {
+                port = Integer.parseInt(args[0]);
+            } catch (NumberFormatException e) {
+                System.err.println("잘못된 포트 번호입니다. 기본 포트(12400)를 사용합니다.");
+                port = 12400;
+            }
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("로비 브로커를 종료합니다...");
+            if (broker != null) {
+                broker.shutdown();
+            }
+        }));
+
+        try {
+            broker = new LobbyBroker(port);
+            System.out.println("로비 브로커를 시작합니다...");
+            System.out.println("포트: " + port);
+            broker.start();
+        } catch (Exception e) {
+            System.err.println("로비 브로커 실행 중 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
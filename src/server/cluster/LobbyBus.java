@@ -0,0 +1,47 @@
+/*
+ * server.cluster.LobbyBus.java
+ * 게임 노드 사이의 로비 이벤트 pub/sub
+ * - 노드는 토픽에 이벤트(문자열)를 발행하고, 다른 노드가 발행한 이벤트를 토픽별로 구독함 (자기가 발행한 이벤트는 받지 않음)
+ * - 발행한 이벤트는 바로 보내지 않고 토픽별로 모아 주기적으로(-Dacidrain.lobby.batchMillis, 기본 50ms) 한 번에 보냄
+ *   -> 같은 이벤트가 연달아 있으면 하나로 합침, 받는 쪽은 한 묶음을 리스너 호출 한 번으로 받음
+ * - 노드가 버스에 붙거나 떨어지면 MEMBERS_TOPIC으로 JOINED/LEFT를 받음 (origin이 그 노드) -> 상태를 다시 보내거나 지울 때 사용
+ * - 구현: -Dacidrain.lobby.broker=host:port 가 있으면 TCP 브로커(LobbyBrokerMain), 없으면 프로세스 안의 브로커
+ * - 이벤트와 토픽에는 '|'와 줄바꿈을 쓸 수 없음 (TCP 프레임 구분자)
+ */
+
+package server.cluster;
+
+import java.util.List;
+
+public interface LobbyBus {
+    String BROKER_PROPERTY = "acidrain.lobby.broker";
+    String MEMBERS_TOPIC = "$members";
+    String JOINED = "joined";
+    String LEFT = "left";
+
+    interface Listener {
+        // 버스 스레드에서 호출됨
+        void onEvents(String origin, List<String> events);
+    }
+
+    // start 전에 등록
+    void subscribe(String topic, Listener listener);
+
+    void start();
+
+    // start 전이나 close 후에는 버림
+    void publish(String topic, String event);
+
+    void close();
+
+    String getNode();
+
+    // -Dacidrain.lobby.broker 가 없으면 이 노드만 붙은 프로세스 안 브로커 -> 단일 서버와 같게 동작
+    static LobbyBus create(String node) {
+        String broker = System.getProperty(BROKER_PROPERTY, "");
+        if (broker.isBlank()) {
+            return new InProcessLobbyBus.Broker().connect(node);
+        }
+        return new TcpLobbyBus(node, broker.trim());
+    }
+}
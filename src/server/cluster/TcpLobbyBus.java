@@ -0,0 +1,152 @@
+/*
+ * server.cluster.TcpLobbyBus.java
+ * TCP 브로커(LobbyBroker)를 거치는 LobbyBus -> 여러 프로세스로 띄운 게임 노드용
+ * - 연결하면 HELLO|노드 를 보내고, 묶음마다 EVENTS|토픽|이벤트1|이벤트2|... 한 줄을 보냄
+ * - 브로커는 EVENTS|토픽|보낸노드|이벤트... 로 다른 노드들에 전달
+ * - 브로커 연결이 끊기면 알던 노드 모두 LEFT로 처리하고 지수 백오프로 다시 연결
+ *   -> 끊긴 동안 발행한 이벤트는 버림, 다시 붙으면 JOINED를 받은 노드들이 상태를 다시 보내므로 맞춰짐
+ */
+
+package server.cluster;
+
+import common.log.Log;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class TcpLobbyBus extends BatchingLobbyBus {
+    private static final Log logger = Log.get(TcpLobbyBus.class);
+    private static final int CONNECT_TIMEOUT_MILLIS = 2000;
+    private static final long INITIAL_RETRY_MILLIS = 500;
+    private static final long MAX_RETRY_MILLIS = 10_000;
+
+    private final String host;
+    private final int port;
+    private volatile Socket socket;
+    private volatile PrintWriter out;
+    // 브로커가 알려 준 다른 노드 -> 연결이 끊기면 모두 LEFT로 전달
+    private final Set<String> members = ConcurrentHashMap.newKeySet();
+    private Thread reader;
+
+    TcpLobbyBus(String node, String broker) {
+        super(node);
+        int colon = broker.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("브로커 주소는 host:port 형식이어야 합니다: " + broker);
+        }
+        this.host = broker.substring(0, colon);
+        this.port = Integer.parseInt(broker.substring(colon + 1));
+    }
+
+    @Override
+    void connect() {
+        reader = new Thread(this::readLoop, "lobby-bus-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @Override
+    void disconnect() {
+        closeSocket();
+        if (reader != null) {
+            reader.interrupt();
+        }
+    }
+
+    @Override
+    void send(String topic, List<String> events) {
+        PrintWriter writer = out;
+        if (writer == null) {
+            return;
+        }
+        StringBuilder frame = new StringBuilder(32 + events.size() * 16).append("EVENTS|").append(topic);
+        for (String event : events) {
+            frame.append('|').append(event);
+        }
+        writer.println(frame);
+    }
+
+    private void readLoop() {
+        long retryMillis = INITIAL_RETRY_MILLIS;
+        boolean warned = false;
+        while (isRunning()) {
+            try (Socket connection = new Socket()) {
+                connection.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+                BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter writer = new PrintWriter(new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8), true);
+                writer.println("HELLO|" + getNode());
+                socket = connection;
+                out = writer;
+                logger.info("로비 브로커에 연결되었습니다: " + host + ":" + port);
+                retryMillis = INITIAL_RETRY_MILLIS;
+                warned = false;
+
+                String line;
+                while (isRunning() && (line = in.readLine()) != null) {
+                    handleFrame(line);
+                }
+            } catch (IOException e) {
+                if (isRunning() && !warned) {
+                    logger.warning("로비 브로커 연결 실패, 다시 시도합니다: " + e.getMessage());
+                    warned = true;
+                }
+            } finally {
+                out = null;
+                socket = null;
+                dropMembers();
+            }
+
+            try {
+                Thread.sleep(retryMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            retryMillis = Math.min(retryMillis * 2, MAX_RETRY_MILLIS);
+        }
+    }
+
+    // EVENTS|토픽|보낸노드|이벤트...
+    private void handleFrame(String line) {
+        String[] parts = line.split("\\|", -1);
+        if (parts.length < 3 || !parts[0].equals("EVENTS")) {
+            logger.warning("알 수 없는 브로커 메시지: " + line);
+            return;
+        }
+
+        String topic = parts[1];
+        String origin = parts[2];
+        List<String> events = Arrays.asList(parts).subList(3, parts.length);
+        if (topic.equals(MEMBERS_TOPIC)) {
+            if (events.contains(JOINED)) {
+                members.add(origin);
+            } else if (events.contains(LEFT)) {
+                members.remove(origin);
+            }
+        }
+        deliver(topic, origin, events);
+    }
+
+    private void dropMembers() {
+        for (String member : members) {
+            deliver(MEMBERS_TOPIC, member, List.of(LEFT));
+        }
+        members.clear();
+    }
+
+    private void closeSocket() {
+        Socket current = socket;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                logger.fine(() -> "브로커 연결 종료 중 오류: " + e.getMessage());
+            }
+        }
+    }
+}
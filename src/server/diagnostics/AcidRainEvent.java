@@ -0,0 +1,66 @@
+/*
+ * server.diagnostics.AcidRainEvent.java
+ * 게임 서버 JFR 이벤트의 공통 부모 클래스
+ * 모든 이벤트가 방 ID, 메시지 타입, 바이트 크기를 가지므로 JFR 분석 시 GC 정지나 락 경합 구간과
+ * 어떤 방에서 어떤 메시지가 오갔는지를 함께 볼 수 있음
+ *
+ * 사용 패턴:
+ *   XxxEvent event = new XxxEvent();
+ *   event.begin();
+ *   ... 작업 ...
+ *   if (event.shouldCommit()) { 필드 설정; event.commit(); }
+ * -> 기록이 꺼져 있으면 필드 계산(바이트 크기 등)을 하지 않음
+ *
+ * 기록 예: java -XX:StartFlightRecording=filename=acidrain.jfr,settings=profile -cp out:resources server.ServerMain
+ */
+
+package server.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+@Category({"Acid Rain"})
+public abstract class AcidRainEvent extends Event {
+    @Label("Room ID")
+    public String roomId;
+
+    @Label("Message Type")
+    public String messageType;
+
+    @Label("Byte Size")
+    @DataAmount
+    public long byteSize;
+
+    // 문자열을 실제로 인코딩하지 않고 UTF-8 바이트 수만 계산 (+ 개행 문자 1바이트는 포함하지 않음)
+    public static long utf8Length(String text) {
+        if (text == null) {
+            return 0;
+        }
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    // 프로토콜 메시지(TYPE|...)의 타입 부분만 추출
+    public static String typeOf(String message) {
+        if (message == null) {
+            return null;
+        }
+        int separator = message.indexOf('|');
+        return separator < 0 ? message : message.substring(0, separator);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * server.diagnostics.LeaderboardSaveEvent.java
+ * LeaderboardManager.saveLeaderboard의 파일 저장 구간
+ * 방과 무관한 작업이므로 roomId는 비워 두고, messageType 대신 leaderboardKey로 구분
+ */
+
+package server.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("acidrain.LeaderboardSave")
+@Label("Leaderboard Save")
+@Description("리더보드 파일 저장")
+public class LeaderboardSaveEvent extends AcidRainEvent {
+    @Label("Leaderboard Key")
+    public String leaderboardKey;
+
+    @Label("Entries")
+    public int entries;
+}
@@ -0,0 +1,18 @@
+/*
+ * server.diagnostics.MessageDispatchEvent.java
+ * ClientHandler가 클라이언트 메시지 한 줄을 받아 처리(디스패치)하는 구간
+ */
+
+package server.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("acidrain.MessageDispatch")
+@Label("Message Dispatch")
+@Description("클라이언트 메시지 수신 후 처리 완료까지")
+public class MessageDispatchEvent extends AcidRainEvent {
+    @Label("Username")
+    public String username;
+}
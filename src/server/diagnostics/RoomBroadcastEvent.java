@@ -0,0 +1,18 @@
+/*
+ * server.diagnostics.RoomBroadcastEvent.java
+ * GameServer.broadcastToRoom의 방 단위 팬아웃 구간 (플레이어 집합 락을 잡고 있는 시간 포함)
+ */
+
+package server.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("acidrain.RoomBroadcast")
+@Label("Room Broadcast")
+@Description("방의 모든 플레이어에게 같은 메시지를 전송")
+public class RoomBroadcastEvent extends AcidRainEvent {
+    @Label("Recipients")
+    public int recipients;
+}
@@ -0,0 +1,21 @@
+/*
+ * server.diagnostics.WordMatchEvent.java
+ * ServerGameController의 단어 입력 판정 구간 (판정 + 결과 브로드캐스트)
+ */
+
+package server.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("acidrain.WordMatch")
+@Label("Word Match")
+@Description("플레이어 입력 단어 판정 및 결과 브로드캐스트")
+public class WordMatchEvent extends AcidRainEvent {
+    @Label("Username")
+    public String username;
+
+    @Label("Matched")
+    public boolean matched;
+}
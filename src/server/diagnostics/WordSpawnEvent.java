@@ -0,0 +1,21 @@
+/*
+ * server.diagnostics.WordSpawnEvent.java
+ * ServerGameController의 단어 생성 틱 (단어 선택 + 상태 추가 + 방 브로드캐스트)
+ */
+
+package server.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("acidrain.WordSpawn")
+@Label("Word Spawn")
+@Description("단어 생성 및 WORD_SPAWNED 브로드캐스트")
+public class WordSpawnEvent extends AcidRainEvent {
+    @Label("Word")
+    public String word;
+
+    @Label("Special Effect")
+    public String effect;
+}
@@ -8,20 +8,26 @@
 
 package server.game;
 
+import common.log.Log;
+import common.metrics.LatencyHistogram;
 import game.model.GameMode;
 import game.model.DifficultyLevel;
 import game.model.LeaderboardEntry;
+import server.diagnostics.AcidRainEvent;
+import server.diagnostics.LeaderboardSaveEvent;
+import server.metrics.MetricsRegistry;
 
 import java.io.*;
 import java.nio.file.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 public class LeaderboardManager {
-    private static final Logger logger = Logger.getLogger(LeaderboardManager.class.getName());
+    private static final Log logger = Log.get(LeaderboardManager.class);
+    private static final LatencyHistogram addEntryLatency = MetricsRegistry.getInstance()
+            .histogram("acidrain_leaderboard_add_seconds", "리더보드 등록(정렬 + 파일 저장 포함) 소요 시간");
     private static final String LEADERBOARD_DIRECTORY = "resources/leaderboard/";
     private static final int MAX_ENTRIES_PER_CATEGORY = 100;
     private static volatile LeaderboardManager instance;
@@ -99,20 +105,44 @@ public class LeaderboardManager {
     // 리더보드 파일 저장
     private void saveLeaderboard(String key, List<LeaderboardEntry> entries) {
         Path filePath = Paths.get(LEADERBOARD_DIRECTORY + key + ".txt");
+        LeaderboardSaveEvent event = new LeaderboardSaveEvent();
+        event.begin();
+        List<String> lines = Collections.emptyList();
         try {
-            List<String> lines = entries.stream()
+            lines = entries.stream()
                     .map(LeaderboardEntry::toFileString)
                     .collect(Collectors.toList());
             Files.write(filePath, lines);
             logger.info("리더보드 저장 완료: " + key);
         } catch (IOException e) {
             logger.severe("리더보드 파일 저장 실패 (" + key + "): " + e.getMessage());
+        } finally {
+            if (event.shouldCommit()) {
+                long bytes = 0;
+                for (String line : lines) {
+                    bytes += AcidRainEvent.utf8Length(line) + 1;   // 줄바꿈 포함
+                }
+                event.leaderboardKey = key;
+                event.byteSize = bytes;
+                event.entries = entries.size();
+                event.commit();
+            }
         }
     }
 
     // 리더보드 엔트리 추가 -> 점수가 기준에 맞을 경우 추가하고 파일에 저장
     public synchronized boolean addEntry(String username, int score,
                                          GameMode mode, DifficultyLevel difficulty) {
+        long startNanos = System.nanoTime();
+        try {
+            return addEntryInternal(username, score, mode, difficulty);
+        } finally {
+            addEntryLatency.recordSince(startNanos);
+        }
+    }
+
+    private boolean addEntryInternal(String username, int score,
+                                     GameMode mode, DifficultyLevel difficulty) {
         String key = getLeaderboardKey(mode, difficulty);
         List<LeaderboardEntry> entries = leaderboards.get(key);
 
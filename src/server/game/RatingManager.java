@@ -0,0 +1,252 @@
+/*
+ * server.game.RatingManager.java
+ * 플레이어 실력 점수(Elo) 관리 -> 빠른 대전 매칭 기준
+ * - 게임이 끝날 때마다 최종 순위로 점수를 갱신 (ServerGameController)
+ *   -> 여러 명이 한 게임이면 모든 두 명 쌍을 1:1 대결로 보고, 쌍별 변화량 합에 K/(인원-1)을 곱함
+ *   -> 같은 순위(동점)인 두 명은 무승부(0.5)로 계산
+ * - (모드, 난이도)별로 따로 관리, 처음 점수는 1200, 게임 수가 적을 때는 크게 움직임 (30판 전 K=40, 이후 K=20)
+ * - 조회는 이름 -> 배열(HashMap) 한 번, 카테고리는 배열 인덱스 -> 상수 시간, 락 없음
+ * - 저장은 write-behind: 갱신은 메모리에만 하고 변경 표시, 저장 스레드가 주기적으로 파일 하나에 통째로 기록
+ *   -> 게임 종료 경로에서 디스크 I/O 없음, 임시 파일에 쓴 뒤 이름을 바꾸므로 쓰는 중에 죽어도 이전 파일이 남음
+ *   -> 서버가 비정상 종료되면 마지막 저장 이후 변경(최대 저장 주기만큼)은 잃음
+ * - 파일 형식 (DataOutputStream): 매직 "ARRT" | 버전(1) | 카테고리 수 | 사용자 수 | (이름 UTF | 카테고리마다 [점수 short, 게임 수 int])...
+ * - -Dacidrain.rating.file (기본 resources/ratings/ratings.bin), -Dacidrain.rating.flushSeconds (기본 10)
+ */
+
+package server.game;
+
+import common.log.Log;
+import common.metrics.LatencyHistogram;
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+import server.metrics.MetricsRegistry;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class RatingManager {
+    private static final Log logger = Log.get(RatingManager.class);
+    private static final LatencyHistogram flushLatency = MetricsRegistry.getInstance()
+            .histogram("acidrain_rating_flush_seconds", "실력 점수 파일 저장 소요 시간");
+    public static final int INITIAL_RATING = 1200;
+    private static final int MAGIC = 0x41525254;   // "ARRT"
+    private static final int FORMAT_VERSION = 1;
+    private static final int CATEGORIES = GameMode.values().length * DifficultyLevel.values().length;
+    private static final int PROVISIONAL_GAMES = 30;
+    private static final double PROVISIONAL_K = 40;
+    private static final double ESTABLISHED_K = 20;
+    private static volatile RatingManager instance;
+
+    // 한 사용자의 카테고리별 점수/게임 수 -> 쓰기는 RatingManager 락 안에서만
+    private static final class PlayerRatings {
+        private final short[] ratings = new short[CATEGORIES];
+        private final int[] games = new int[CATEGORIES];
+
+        private PlayerRatings() {
+            Arrays.fill(ratings, (short) INITIAL_RATING);
+        }
+
+        private PlayerRatings copy() {
+            PlayerRatings copy = new PlayerRatings();
+            System.arraycopy(ratings, 0, copy.ratings, 0, CATEGORIES);
+            System.arraycopy(games, 0, copy.games, 0, CATEGORIES);
+            return copy;
+        }
+    }
+
+    private final Path file = Paths.get(System.getProperty("acidrain.rating.file", "resources/ratings/ratings.bin"));
+    private final Map<String, PlayerRatings> players = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "rating-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RatingManager() {
+        load();
+        long flushSeconds = Math.max(1, Long.getLong("acidrain.rating.flushSeconds", 10));
+        writer.scheduleWithFixedDelay(this::flushIfDirty, flushSeconds, flushSeconds, TimeUnit.SECONDS);
+    }
+
+    // 리더보드와 마찬가지로 서버 전체에서 하나만 사용
+    public static RatingManager getInstance() {
+        if (instance == null) {
+            synchronized (RatingManager.class) {
+                if (instance == null) {
+                    instance = new RatingManager();
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static int categoryOf(GameMode mode, DifficultyLevel difficulty) {
+        return mode.ordinal() * DifficultyLevel.values().length + difficulty.ordinal();
+    }
+
+    public int getRating(String username, GameMode mode, DifficultyLevel difficulty) {
+        PlayerRatings ratings = players.get(username);
+        return ratings != null ? ratings.ratings[categoryOf(mode, difficulty)] : INITIAL_RATING;
+    }
+
+    public int getGamesPlayed(String username, GameMode mode, DifficultyLevel difficulty) {
+        PlayerRatings ratings = players.get(username);
+        return ratings != null ? ratings.games[categoryOf(mode, difficulty)] : 0;
+    }
+
+    /**
+     * 한 게임의 결과 반영
+     * @param places 최종 순위별 플레이어 (1등부터, 같은 순위의 동점자는 한 묶음), 합쳐서 두 명 미만이면 무시
+     */
+    public synchronized void recordGame(GameMode mode, DifficultyLevel difficulty, List<List<String>> places) {
+        List<String> standings = new ArrayList<>();
+        List<Integer> placeOf = new ArrayList<>();
+        for (int place = 0; place < places.size(); place++) {
+            for (String player : places.get(place)) {
+                standings.add(player);
+                placeOf.add(place);
+            }
+        }
+        int n = standings.size();
+        if (n < 2) {
+            return;
+        }
+
+        int category = categoryOf(mode, difficulty);
+        PlayerRatings[] entries = new PlayerRatings[n];
+        double[] before = new double[n];
+        for (int i = 0; i < n; i++) {
+            entries[i] = players.computeIfAbsent(standings.get(i), k -> new PlayerRatings());
+            before[i] = entries[i].ratings[category];
+        }
+
+        // 모든 쌍의 (실제 결과 - 기대 승률) 합 -> 갱신 전 점수 기준으로 계산해 순서에 영향받지 않음
+        for (int i = 0; i < n; i++) {
+            double sum = 0;
+            for (int j = 0; j < n; j++) {
+                if (i == j) {
+                    continue;
+                }
+                double expected = 1.0 / (1.0 + Math.pow(10, (before[j] - before[i]) / 400.0));
+                int placeI = placeOf.get(i);
+                int placeJ = placeOf.get(j);
+                double actual = placeI < placeJ ? 1.0 : placeI == placeJ ? 0.5 : 0.0;
+                sum += actual - expected;
+            }
+
+            int games = entries[i].games[category];
+            double k = games < PROVISIONAL_GAMES ? PROVISIONAL_K : ESTABLISHED_K;
+            long updated = Math.round(before[i] + k * sum / (n - 1));
+            entries[i].ratings[category] = (short) Math.max(0, Math.min(Short.MAX_VALUE, updated));
+            entries[i].games[category] = games + 1;
+        }
+        dirty.set(true);
+
+        logger.fine(() -> {
+            StringBuilder sb = new StringBuilder("실력 점수 갱신 (" + mode + ", " + difficulty + "):");
+            for (int i = 0; i < n; i++) {
+                sb.append(' ').append(standings.get(i)).append(' ')
+                        .append((int) before[i]).append("->").append(entries[i].ratings[category]);
+            }
+            return sb.toString();
+        });
+    }
+
+    // 서버 종료 시 호출 -> 남은 변경을 바로 기록
+    public void flush() {
+        flushIfDirty();
+    }
+
+    private void flushIfDirty() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            save(snapshot());
+        } catch (IOException e) {
+            // 다음 주기에 다시 시도
+            dirty.set(true);
+            logger.severe("실력 점수 저장 실패: " + e.getMessage());
+        } finally {
+            flushLatency.recordSince(startNanos);
+        }
+    }
+
+    // 갱신 도중의 반쯤 바뀐 배열을 쓰지 않도록 락 안에서 복사
+    private synchronized Map<String, PlayerRatings> snapshot() {
+        Map<String, PlayerRatings> copy = new HashMap<>(players.size() * 2);
+        for (Map.Entry<String, PlayerRatings> entry : players.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().copy());
+        }
+        return copy;
+    }
+
+    private void save(Map<String, PlayerRatings> snapshot) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "ratings", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(FORMAT_VERSION);
+                out.writeShort(CATEGORIES);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, PlayerRatings> entry : snapshot.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    PlayerRatings ratings = entry.getValue();
+                    for (int i = 0; i < CATEGORIES; i++) {
+                        out.writeShort(ratings.ratings[i]);
+                        out.writeInt(ratings.games[i]);
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.fine(() -> "실력 점수 저장 완료: " + snapshot.size() + "명");
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                logger.warning("실력 점수 파일 형식이 다릅니다. 처음부터 시작합니다: " + file);
+                return;
+            }
+            // 카테고리 수가 다르면 앞에서부터 저장된 칸 수와 현재 칸 수 중 적은 만큼만 인덱스 그대로 읽음
+            // -> 모드를 뒤에 추가한 경우만 기존 점수가 맞게 남음, 난이도 수가 바뀌면 인덱스가 어긋나므로 FORMAT_VERSION을 올려야 함
+            int storedCategories = in.readShort();
+            int count = in.readInt();
+            for (int p = 0; p < count; p++) {
+                String username = in.readUTF();
+                PlayerRatings ratings = new PlayerRatings();
+                for (int i = 0; i < storedCategories; i++) {
+                    short rating = in.readShort();
+                    int games = in.readInt();
+                    if (i < CATEGORIES) {
+                        ratings.ratings[i] = rating;
+                        ratings.games[i] = games;
+                    }
+                }
+                players.put(username, ratings);
+            }
+            logger.info("실력 점수 로드 완료: " + players.size() + "명");
+        } catch (IOException e) {
+            players.clear();
+            logger.severe("실력 점수 파일 로드 실패: " + e.getMessage());
+        }
+    }
+}
@@ -7,25 +7,39 @@
  * 게임이 종료되면 스케줄링된 작업을 모두 중지함
  * 게임이 종료되면 게임 결과를 모든 플레이어에게 전송함
  * 게임이 종료되면 리더보드에 점수를 등록함
+ * 게임이 종료되면 최종 순위로 실력 점수(RatingManager)를 갱신함
  */
 
 package server.game;
 
 import client.event.GameEvent.ServerMessage;
+import common.log.Log;
+import common.metrics.LatencyHistogram;
 import game.model.DifficultyLevel;
 import game.model.GameRoom;
 import game.model.GameStatus;
-import game.model.Word;
+import game.model.WordTable;
 
 import server.GameServer;
 import server.ClientHandler;
+import server.diagnostics.AcidRainEvent;
+import server.diagnostics.WordMatchEvent;
+import server.diagnostics.WordSpawnEvent;
+import server.metrics.MetricsRegistry;
 
 import java.util.concurrent.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.logging.Logger;
 
 public class ServerGameController {
-    private static final Logger logger = Logger.getLogger(ServerGameController.class.getName());
+    private static final Log logger = Log.get(ServerGameController.class);
+    private static final LatencyHistogram spawnLatency = MetricsRegistry.getInstance()
+            .histogram("acidrain_word_spawn_seconds", "단어 생성 + 방 브로드캐스트 소요 시간");
+    private static final LatencyHistogram tickLag = MetricsRegistry.getInstance()
+            .histogram("acidrain_spawn_tick_lag_seconds", "단어 생성 틱이 예정 시각보다 늦게 실행된 정도");
+    private static final LatencyHistogram inputLatency = MetricsRegistry.getInstance()
+            .histogram("acidrain_player_input_seconds", "단어 입력 판정 + 결과 브로드캐스트 소요 시간");
     private final GameServer server;
     private final GameRoom room;
     private final ServerGameState gameState;
@@ -41,6 +55,15 @@ public class ServerGameController {
     private static final double PH_DECREASE_AMOUNT = 0.2;
     private static final int BLIND_EFFECT_DURATION = 5000; // 5초
     private volatile boolean stopped;
+    private boolean ratingsRecorded;
+
+    // 틱 지연 측정용 -> 고정 주기 스케줄 기준 예정 시각과 실제 실행 시각의 차이
+    private long spawnStartNanos;
+    private long spawnIntervalNanos;
+    private long spawnTickCount;
+    private volatile long lastTickLagNanos;
+    // 컨트롤러 생성(= GAME_START 전송) 시각 -> 재연결한 클라이언트가 게임 시작을 놓쳤는지 판단
+    private final long createdAtNanos = System.nanoTime();
 
     public ServerGameController(GameServer server, GameRoom room) {
         this.server = server;
@@ -56,6 +79,8 @@ public class ServerGameController {
         try {
             gameState.start();
             long spawnInterval = calculateWordSpawnInterval(room.getDifficulty());
+            spawnIntervalNanos = TimeUnit.MILLISECONDS.toNanos(spawnInterval);
+            spawnStartNanos = System.nanoTime();
 
             // 단어 생성 작업 시작
             spawnTask = scheduler.scheduleAtFixedRate(this::spawnWord,
@@ -76,33 +101,68 @@ public class ServerGameController {
     private void spawnWord() {
         if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
 
+        long startNanos = System.nanoTime();
+        recordTickLag(startNanos);
+        WordSpawnEvent event = new WordSpawnEvent();
+        event.begin();
         try {
-            Word word = wordManager.getRandomWord();
+            ServerWord word = wordManager.getRandomWord(spawnTickCount);
             gameState.addWord(word);
 
-            // 특수 효과 정보를 포함한 메시지 구성
+            // 특수 효과 정보를 포함한 메시지 구성, 단어는 GAME_START로 보낸 단어 테이블의 ID로 전송
             String spawnMessage;
             if (word.hasSpecialEffect()) {
-                spawnMessage = String.format(ServerMessage.WORD_SPAWNED + "|%s|%s|%d|%s",
+                spawnMessage = String.format(ServerMessage.WORD_SPAWNED + "|%s|%d|%d|%s",
                         room.getRoomId(),
-                        word.getText(),
-                        word.getX(),
+                        word.textId(),
+                        word.x(),
                         word.getEffect().name());  // SCORE_BOOST 또는 BLIND_OPPONENT
             } else {
-                spawnMessage = String.format(ServerMessage.WORD_SPAWNED + "|%s|%s|%d",
+                spawnMessage = String.format(ServerMessage.WORD_SPAWNED + "|%s|%d|%d",
                         room.getRoomId(),
-                        word.getText(),
-                        word.getX());
+                        word.textId(),
+                        word.x());
             }
 
             server.broadcastToRoom(room.getRoomId(), spawnMessage);
-            logger.fine("단어 생성: " + word.getText() +
+            if (event.shouldCommit()) {
+                event.roomId = room.getRoomId();
+                event.messageType = ServerMessage.WORD_SPAWNED;
+                event.byteSize = AcidRainEvent.utf8Length(spawnMessage);
+                event.word = word.text();
+                event.effect = word.hasSpecialEffect() ? word.getEffect().name() : null;
+                event.commit();
+            }
+            logger.fine(() -> "단어 생성: " + word.text() +
                     (word.hasSpecialEffect() ? ", 효과: " + word.getEffect() : ""));
         } catch (Exception e) {
             logger.severe("단어 생성 중 오류: " + e.getMessage());
+        } finally {
+            spawnLatency.recordSince(startNanos);
         }
     }
 
+    // spawnWord는 단일 스케줄 작업에서만 호출되므로 카운터 갱신에 동기화가 필요 없음
+    private void recordTickLag(long nowNanos) {
+        long expected = spawnStartNanos + spawnTickCount * spawnIntervalNanos;
+        spawnTickCount++;
+        long lag = Math.max(0, nowNanos - expected);
+        lastTickLagNanos = lag;
+        tickLag.recordNanos(lag);
+    }
+
+    public WordTable getWordTable() {
+        return wordManager.getWordTable();
+    }
+
+    public int getActiveWordCount() {
+        return gameState.getActiveWordCount();
+    }
+
+    public long getLastTickLagNanos() {
+        return lastTickLagNanos;
+    }
+
     private void checkPH() {
         if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
 
@@ -123,14 +183,23 @@ public class ServerGameController {
     public void handlePlayerInput(ClientHandler player, String typedWord) {
         if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
 
+        long startNanos = System.nanoTime();
+        WordMatchEvent event = new WordMatchEvent();
+        event.begin();
+        ServerWord matchedWord = null;
+        String matchedMessage = null;
         try {
-            Word matchedWord = gameState.matchWord(typedWord, player.getUsername());
+            // 단어 테이블에 없는 입력(오타)이나 화면에 없는 단어는 활성 단어를 볼 필요 없이 바로 무시
+            int wordId = wordManager.getWordTable().idOf(typedWord);
+            if (wordId != WordTable.UNKNOWN_ID && gameState.isWordActive(typedWord)) {
+                matchedWord = gameState.matchWord(wordId, player.getUsername());
+            }
             if (matchedWord != null) {
                 int newScore = gameState.getPlayerScore(player.getUsername());
 
-                server.broadcastToRoom(room.getRoomId(),
-                        String.format(ServerMessage.WORD_MATCHED + "|%s|%s|%s|%d",
-                                room.getRoomId(), matchedWord.getText(), player.getUsername(), newScore));
+                matchedMessage = String.format(ServerMessage.WORD_MATCHED + "|%s|%d|%s|%d",
+                        room.getRoomId(), matchedWord.textId(), player.getUsername(), newScore);
+                server.broadcastToRoom(room.getRoomId(), matchedMessage);
 
                 broadcastPHUpdates();
 
@@ -151,15 +220,28 @@ public class ServerGameController {
             }
         } catch (Exception e) {
             logger.severe("단어 입력 처리 중 오류: " + e.getMessage());
+        } finally {
+            inputLatency.recordSince(startNanos);
+            if (event.shouldCommit()) {
+                event.roomId = room.getRoomId();
+                event.messageType = ServerMessage.WORD_MATCHED;
+                // 판정 실패 시에는 브로드캐스트가 없으므로 입력 단어 크기를 기록
+                event.byteSize = AcidRainEvent.utf8Length(matchedMessage != null ? matchedMessage : typedWord);
+                event.username = player.getUsername();
+                event.matched = matchedWord != null;
+                event.commit();
+            }
         }
     }
 
-    public void handleWordMissed(String word, ClientHandler player) {
+    // wordId: 클라이언트가 보낸 단어 ID (문자열)
+    public void handleWordMissed(String wordId, ClientHandler player) {
         if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
 
         try {
+            int id = Integer.parseInt(wordId);
             synchronized(gameState) {
-                gameState.removeWord(word);  // 단어 제거
+                gameState.removeWord(id);  // 단어 제거
 
                 // 모든 플레이어의 pH 감소
                 for (String playerName : room.getPlayers()) {
@@ -168,8 +250,8 @@ public class ServerGameController {
 
                     // pH 감소 메시지 전송
                     server.broadcastToRoom(room.getRoomId(),
-                            String.format(ServerMessage.WORD_MISSED + "|%s|%s|%s|%.2f",
-                                    room.getRoomId(), word, playerName, newPH));
+                            String.format(ServerMessage.WORD_MISSED + "|%s|%d|%s|%.2f",
+                                    room.getRoomId(), id, playerName, newPH));
 
                     if (newPH <= 0) {
                         handleGameOver();
@@ -177,6 +259,8 @@ public class ServerGameController {
                     }
                 }
             }
+        } catch (NumberFormatException e) {
+            logger.warning("잘못된 단어 ID: " + wordId + ", 플레이어: " + player.getUsername());
         } catch (Exception e) {
             logger.severe("단어 놓침 처리 중 오류: " + e.getMessage());
         }
@@ -201,9 +285,11 @@ public class ServerGameController {
                             ServerMessage.LEADERBOARD_UPDATE + "|" + room.getRoomId() + "|" + winner + "|" + rank);
                 }
 
-                server.broadcastToRoom(room.getRoomId(),
-                        String.format(ServerMessage.GAME_OVER + "|%s|%s|%s|FORFEIT",
-                                room.getRoomId(), winner, serializeScores()));
+                String gameOver = String.format(ServerMessage.GAME_OVER + "|%s|%s|%s|FORFEIT",
+                        room.getRoomId(), winner, serializeScores());
+                server.broadcastToRoom(room.getRoomId(), gameOver);
+                server.broadcastToSpectators(room.getRoomId(), gameOver);
+                recordRatings(winner, leavingPlayer);
             }
 
             logger.info("플레이어 게임 중 퇴장 (몰수패): " + leavingPlayer);
@@ -229,9 +315,11 @@ public class ServerGameController {
                             ServerMessage.LEADERBOARD_UPDATE + "|" + room.getRoomId() + "|" + winner + "|" + rank);
                 }
 
-                server.broadcastToRoom(room.getRoomId(),
-                        String.format(ServerMessage.GAME_OVER + "|%s|%s|%s|NORMAL",
-                                room.getRoomId(), winner, serializeScores()));
+                String gameOver = String.format(ServerMessage.GAME_OVER + "|%s|%s|%s|NORMAL",
+                        room.getRoomId(), winner, serializeScores());
+                server.broadcastToRoom(room.getRoomId(), gameOver);
+                server.broadcastToSpectators(room.getRoomId(), gameOver);
+                recordRatings(winner, null);
             }
 
             stopGame();
@@ -289,6 +377,46 @@ public class ServerGameController {
         return winner;
     }
 
+    // 최종 순위: 승자, 나머지는 점수 내림차순 (같은 점수는 같은 순위 -> 무승부), 몰수패한 플레이어는 꼴찌
+    // 승자가 유일한 생존자가 아니면 점수로 정해진 것이므로 승자와 같은 점수인 플레이어도 같은 순위
+    // pH 체크와 단어 놓침이 동시에 게임을 끝낼 수 있으므로 한 번만 반영
+    private synchronized void recordRatings(String winner, String forfeited) {
+        if (ratingsRecorded) {
+            return;
+        }
+        ratingsRecorded = true;
+
+        Map<String, Integer> scores = gameState.getScores();
+        long survivors = scores.keySet().stream()
+                .filter(player -> !player.equals(forfeited) && gameState.getPlayerPH(player) > 0)
+                .count();
+        boolean soleSurvivor = survivors == 1 && gameState.getPlayerPH(winner) > 0;
+
+        List<List<String>> places = new ArrayList<>();
+        List<String> first = new ArrayList<>();
+        first.add(winner);
+        places.add(first);
+        Integer previousScore = soleSurvivor ? null : scores.get(winner);
+        List<Map.Entry<String, Integer>> others = scores.entrySet().stream()
+                .filter(e -> !e.getKey().equals(winner) && !e.getKey().equals(forfeited))
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .toList();
+        for (Map.Entry<String, Integer> entry : others) {
+            if (entry.getValue().equals(previousScore)) {
+                places.get(places.size() - 1).add(entry.getKey());
+            } else {
+                List<String> place = new ArrayList<>();
+                place.add(entry.getKey());
+                places.add(place);
+            }
+            previousScore = entry.getValue();
+        }
+        if (forfeited != null && scores.containsKey(forfeited)) {
+            places.add(List.of(forfeited));
+        }
+        RatingManager.getInstance().recordGame(room.getGameMode(), room.getDifficulty(), places);
+    }
+
     private String serializeScores() {
         StringBuilder builder = new StringBuilder();
         for (String playerName : room.getPlayers()) {
@@ -302,6 +430,43 @@ public class ServerGameController {
         return builder.toString();
     }
 
+    // 재연결한 클라이언트용 게임 상태: 플레이어:점수:pH;... | 단어ID,x[,효과];... (단어는 생성 순서)
+    public String encodeResumeState() {
+        StringBuilder builder = new StringBuilder();
+        for (String playerName : room.getPlayers()) {
+            if (builder.length() > 0) {
+                builder.append(";");
+            }
+            builder.append(playerName)
+                    .append(":")
+                    .append(gameState.getPlayerScore(playerName))
+                    .append(":")
+                    .append(String.format("%.2f", gameState.getPlayerPH(playerName)));
+        }
+
+        builder.append("|");
+        boolean first = true;
+        for (ServerWord word : gameState.getActiveWords()) {
+            if (!first) {
+                builder.append(";");
+            }
+            first = false;
+            builder.append(word.textId()).append(",").append(word.x());
+            if (word.hasSpecialEffect()) {
+                builder.append(",").append(word.getEffect().name());
+            }
+        }
+        return builder.toString();
+    }
+
+    public long getCreatedAtNanos() {
+        return createdAtNanos;
+    }
+
+    public boolean isInProgress() {
+        return gameState.getStatus() == GameStatus.IN_PROGRESS;
+    }
+
     private long calculateWordSpawnInterval(DifficultyLevel diff) {
         return switch (diff) {
             case EASY -> 4000;    // 4초
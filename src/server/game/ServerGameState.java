@@ -8,26 +8,31 @@
 
 package server.game;
 
+import common.log.Log;
 import game.model.GameMode;
 import game.model.DifficultyLevel;
 import game.model.GameRoom;
 import game.model.GameStatus;
-import game.model.Word;
+import game.model.SpecialEffect;
+import game.model.WordTrie;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.logging.Logger;
 
 public class ServerGameState {
-    private static final Logger logger = Logger.getLogger(ServerGameState.class.getName());
+    private static final Log logger = Log.get(ServerGameState.class);
     private static final double INITIAL_PH = 7.0;
     private static final double MIN_PH = 0.0;
 
     private final GameRoom room;
     private final Map<String, Integer> scores = new ConcurrentHashMap<>();
     private final Map<String, Double> phValues = new ConcurrentHashMap<>();
-    private final List<Word> activeWords = Collections.synchronizedList(new ArrayList<>());
+    private final List<ServerWord> activeWords = Collections.synchronizedList(new ArrayList<>());
+    // 활성 단어 텍스트의 접두사 트라이 -> 화면에 없는 단어 입력을 목록 탐색 없이 O(입력 길이)로 거름, this 락으로 보호
+    private final WordTrie activeTrie = new WordTrie();
     private volatile GameStatus status = GameStatus.WAITING;
+    // 관리자 통계 조회용 -> activeWords의 락을 잡지 않고 개수를 읽기 위해 별도로 유지
+    private volatile int activeWordCount;
 
     public ServerGameState(GameRoom room) {
         this.room = room;
@@ -52,6 +57,8 @@ public class ServerGameState {
             // 게임 시작 시 모든 플레이어의 상태 리셋
             initializePlayers();
             activeWords.clear();
+            activeTrie.clear();
+            activeWordCount = 0;
         }
         logger.info("게임 시작: " + room.getRoomId());
     }
@@ -61,6 +68,8 @@ public class ServerGameState {
             status = GameStatus.FINISHED;
             // 게임 종료 시 단어 목록 클리어
             activeWords.clear();
+            activeTrie.clear();
+            activeWordCount = 0;
         }
         logger.info("게임 종료: " + room.getRoomId());
     }
@@ -69,33 +78,57 @@ public class ServerGameState {
         return status;
     }
 
-    public synchronized void addWord(Word word) {
+    public synchronized void addWord(ServerWord word) {
         activeWords.add(word);
+        activeTrie.add(word.text());
+        activeWordCount = activeWords.size();
     }
 
-    public synchronized Word removeWord(String text) {
-        Optional<Word> word = activeWords.stream()
-                .filter(w -> w.getText().equals(text))
-                .findFirst();
-        word.ifPresent(activeWords::remove);
-        return word.orElse(null);
+    public synchronized ServerWord removeWord(int wordId) {
+        ServerWord word = findWord(wordId);
+        if (word != null) {
+            activeWords.remove(word);
+            activeTrie.remove(word.text());
+            activeWordCount = activeWords.size();
+        }
+        return word;
+    }
+
+    // 입력한 단어가 지금 화면에 떠 있는지 (점수 판정 전 빠른 거절용)
+    public synchronized boolean isWordActive(String text) {
+        return activeTrie.contains(text);
+    }
+
+    // 단어 ID(int) 비교로 찾음 -> 호출하는 쪽에서 this 락을 잡고 있어야 함
+    private ServerWord findWord(int wordId) {
+        synchronized (activeWords) {
+            for (ServerWord word : activeWords) {
+                if (word.textId() == wordId) {
+                    return word;
+                }
+            }
+        }
+        return null;
     }
 
-    public List<Word> getActiveWords() {
+    public int getActiveWordCount() {
+        return activeWordCount;
+    }
+
+    public List<ServerWord> getActiveWords() {
         synchronized (activeWords) {
             return new ArrayList<>(activeWords);
         }
     }
 
-    public Word matchWord(String typedWord, String player) {
+    // wordId: 입력 단어를 단어 테이블에서 찾은 ID (테이블에 없는 입력은 호출 전에 걸러짐)
+    public ServerWord matchWord(int wordId, String player) {
         synchronized (this) {
-            Optional<Word> matched = activeWords.stream()
-                    .filter(w -> w.getText().equals(typedWord))
-                    .findFirst();
-
-            if (matched.isPresent()) {
-                Word word = matched.get();
+            ServerWord word = findWord(wordId);
+            if (word != null) {
                 activeWords.remove(word);
+                activeTrie.remove(word.text());
+                activeWordCount = activeWords.size();
 
                 // 점수 계산 및 pH 변경 로직
                 int basePoints = calculateBasePoints(word);
@@ -115,12 +148,12 @@ public class ServerGameState {
         }
     }
 
-    private int calculateBasePoints(Word word) {
-        return word.getText().length() * 10;
+    private int calculateBasePoints(ServerWord word) {
+        return word.text().length() * 10;
     }
 
-    private int calculateFinalPoints(Word word, int basePoints) {
-        if (word.hasSpecialEffect() && word.getEffect() == Word.SpecialEffect.SCORE_BOOST) {
+    private int calculateFinalPoints(ServerWord word, int basePoints) {
+        if (word.hasSpecialEffect() && word.effect() == SpecialEffect.SCORE_BOOST.getCode()) {
             return (int)(basePoints * 1.5);
         }
         return basePoints;
@@ -128,13 +161,13 @@ public class ServerGameState {
 
     public void addScore(String player, int points) {
         scores.computeIfPresent(player, (k, v) -> v + points);
-        logger.fine(String.format("점수 추가 - 플레이어: %s, 점수: %d", player, points));
+        logger.fine(() -> String.format("점수 추가 - 플레이어: %s, 점수: %d", player, points));
     }
 
     public void decreasePH(String player, double amount) {
         synchronized (this) {
             phValues.computeIfPresent(player, (k, v) -> Math.max(MIN_PH, v - amount));
-            logger.fine(String.format("pH 감소 - 플레이어: %s, 감소량: %.2f", player, amount));
+            logger.fine(() -> String.format("pH 감소 - 플레이어: %s, 감소량: %.2f", player, amount));
         }
     }
 
@@ -142,7 +175,7 @@ public class ServerGameState {
         synchronized (this) {
             phValues.computeIfPresent(player, (k, v) ->
                     Math.min(INITIAL_PH, Math.max(MIN_PH, v + amount)));
-            logger.fine(String.format("pH 조정 - 플레이어: %s, 조정량: %.2f", player, amount));
+            logger.fine(() -> String.format("pH 조정 - 플레이어: %s, 조정량: %.2f", player, amount));
         }
     }
 
@@ -0,0 +1,25 @@
+/*
+ * server.game.ServerWord.java
+ * 서버에서 관리하는 단어, 불변 레코드
+ * 서버는 단어를 그리지 않으므로 y 좌표나 색상 없이 판정/점수 계산에 필요한 값만 가짐
+ * - textId    : 모드별 단어 목록에서의 위치
+ * - text      : 단어 목록의 문자열을 그대로 참조 (복사하지 않음)
+ * - x         : 클라이언트에 전달할 가로 위치
+ * - spawnTick : 게임 시작 후 몇 번째 생성 틱에서 나왔는지
+ * - effect    : SpecialEffect 코드 (없으면 SpecialEffect.NONE)
+ */
+
+package server.game;
+
+import game.model.SpecialEffect;
+
+public record ServerWord(int textId, String text, int x, long spawnTick, byte effect) {
+
+    public boolean hasSpecialEffect() {
+        return effect != SpecialEffect.NONE;
+    }
+
+    public SpecialEffect getEffect() {
+        return SpecialEffect.fromCode(effect);
+    }
+}
@@ -1,26 +1,35 @@
 package server.game;
 
+import common.log.Log;
 import game.model.GameMode;
-import game.model.Word;
+import game.model.SpecialEffect;
+import game.model.WordTable;
+
 import java.io.IOException;
 import java.nio.file.*;
 import java.util.*;
-import java.util.logging.Logger;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ServerWordManager {
-    private static final Logger logger = Logger.getLogger(ServerWordManager.class.getName());
+    private static final Log logger = Log.get(ServerWordManager.class);
     private static final String WORDS_DIRECTORY = "resources/words/";
-    private final Map<GameMode, List<String>> wordsByMode = new HashMap<>();
+    // 모드별 단어 테이블은 한 번만 읽어 모든 게임이 공유 -> 같은 모드의 단어 ID가 서버 실행 동안 고정됨
+    private static final Map<GameMode, WordTable> tablesByMode = new ConcurrentHashMap<>();
     private final Random random = new Random();
     private final GameMode mode;
+    private final WordTable wordTable;
 
     public ServerWordManager(GameMode mode) {
         this.mode = mode;
-        loadWordsForMode(mode);
+        this.wordTable = tablesByMode.computeIfAbsent(mode, ServerWordManager::loadWordsForMode);
         logger.info("단어 관리자 초기화: " + mode.name());
     }
 
-    private void loadWordsForMode(GameMode mode) {
+    public WordTable getWordTable() {
+        return wordTable;
+    }
+
+    private static WordTable loadWordsForMode(GameMode mode) {
         String filename = WORDS_DIRECTORY + "words_" + mode.name().toLowerCase() + ".txt";
         Path filePath = Paths.get(filename);
 
@@ -37,15 +46,19 @@ public class ServerWordManager {
         try {
             List<String> words = Files.readAllLines(filePath);
             words.removeIf(String::isEmpty);
-            wordsByMode.put(mode, words);
+            if (words.isEmpty()) {
+                logger.warning(mode.name() + " 모드의 단어가 없습니다. 기본값 사용");
+                words = getDefaultWords(mode);
+            }
             logger.info(mode.name() + " 모드의 단어 " + words.size() + "개 로드됨");
+            return new WordTable(words);
         } catch (IOException e) {
             logger.severe(mode.name() + " 단어 파일 읽기 실패: " + e.getMessage());
-            wordsByMode.put(mode, getDefaultWords(mode));
+            return new WordTable(getDefaultWords(mode));
         }
     }
 
-    private List<String> getDefaultWords(GameMode mode) {
+    private static List<String> getDefaultWords(GameMode mode) {
         return switch (mode) {
             case JAVA -> List.of(
                     "public", "class", "extends", "implements", "void",
@@ -77,7 +90,7 @@ public class ServerWordManager {
         };
     }
 
-    private void createDefaultWordFile(GameMode mode, Path filePath) {
+    private static void createDefaultWordFile(GameMode mode, Path filePath) {
         try {
             List<String> defaultWords = getDefaultWords(mode);
             Files.write(filePath, defaultWords);
@@ -87,29 +100,23 @@ public class ServerWordManager {
         }
     }
 
-    public Word getRandomWord() {
-        List<String> words = wordsByMode.getOrDefault(mode, Collections.emptyList());
-        if (words.isEmpty()) {
-            logger.warning(mode.name() + " 모드의 단어가 없습니다. 기본값 사용");
-            return new Word("default", 100, 0);
-        }
-
-        String text = words.get(random.nextInt(words.size()));
+    // spawnTick: 게임 시작 후 몇 번째 생성 틱인지 (ServerGameController가 전달)
+    public ServerWord getRandomWord(long spawnTick) {
+        int textId = random.nextInt(wordTable.size());
+        String text = wordTable.textOf(textId);
         int xPos = random.nextInt(600) + 100; // 100~700 범위
-        Word word = new Word(text, xPos, 0);
 
         // 20% 확률로 특수 효과 부여
+        byte effect = SpecialEffect.NONE;
         if (random.nextDouble() < 0.2) {
-            word.setSpecialEffect(true);
             // 50% 확률로 점수 부스트 또는 상대방 블라인드
-            if (random.nextBoolean()) {
-                word.setEffect(Word.SpecialEffect.SCORE_BOOST);
-            } else {
-                word.setEffect(Word.SpecialEffect.BLIND_OPPONENT);
-            }
-            logger.fine("특수 효과 단어 생성: " + text + ", 효과: " + word.getEffect());
+            effect = random.nextBoolean()
+                    ? SpecialEffect.SCORE_BOOST.getCode()
+                    : SpecialEffect.BLIND_OPPONENT.getCode();
+            byte chosen = effect;
+            logger.fine(() -> "특수 효과 단어 생성: " + text + ", 효과: " + SpecialEffect.fromCode(chosen));
         }
 
-        return word;
+        return new ServerWord(textId, text, xPos, spawnTick, effect);
     }
 }
\ No newline at end of file
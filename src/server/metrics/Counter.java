@@ -0,0 +1,24 @@
+/*
+ * server.metrics.Counter.java
+ * 단조 증가 카운터, 내부적으로 LongAdder(스레드별 셀로 분산된 누적기)를 사용해 락 없이 증가시킴
+ */
+
+package server.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class Counter {
+    private final LongAdder value = new LongAdder();
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * server.metrics.Gauge.java
+ * 현재 값을 읽을 때마다 계산하는 게이지
+ * 값은 조회 시점(스냅샷)에만 계산되므로 기록 비용이 없음 -> 대신 공급자(supplier)는 가볍고 락을 잡지 않아야 함
+ */
+
+package server.metrics;
+
+import java.util.function.DoubleSupplier;
+
+public class Gauge {
+    private final DoubleSupplier supplier;
+
+    public Gauge(DoubleSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    public double get() {
+        try {
+            return supplier.getAsDouble();
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+}
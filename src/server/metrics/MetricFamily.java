@@ -0,0 +1,73 @@
+/*
+ * server.metrics.MetricFamily.java
+ * 이름이 같고 라벨 값 하나로 구분되는 메트릭 묶음 (예: 메시지 타입별 처리 시간)
+ * 라벨 값이 클라이언트 입력에서 오는 경우가 있으므로, 최대 개수를 넘으면 "other"로 합쳐 메모리 폭증을 막음
+ */
+
+package server.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class MetricFamily<T> {
+    static final String NO_LABEL = "";
+    private static final String OVERFLOW_LABEL = "other";
+    private static final int MAX_LABEL_VALUES = 128;
+
+    private final String name;
+    private final String help;
+    private final String type;
+    private final String labelName;
+    private final Supplier<T> factory;
+    private final Map<String, T> children = new ConcurrentHashMap<>();
+
+    MetricFamily(String name, String help, String type, String labelName, Supplier<T> factory) {
+        this.name = name;
+        this.help = help;
+        this.type = type;
+        this.labelName = labelName;
+        this.factory = factory;
+    }
+
+    // 라벨이 없는 메트릭
+    public T get() {
+        return get(NO_LABEL);
+    }
+
+    public T get(String labelValue) {
+        T metric = children.get(labelValue);
+        if (metric != null) {
+            return metric;
+        }
+        if (children.size() >= MAX_LABEL_VALUES) {
+            return children.computeIfAbsent(OVERFLOW_LABEL, k -> factory.get());
+        }
+        return children.computeIfAbsent(labelValue, k -> factory.get());
+    }
+
+    void put(String labelValue, T metric) {
+        children.put(labelValue, metric);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getLabelName() {
+        return labelName;
+    }
+
+    public Map<String, T> getChildren() {
+        return Collections.unmodifiableMap(children);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * server.metrics.MetricsRegistry.java
+ * 서버 프로세스 내 메트릭(카운터, 게이지, 지연 시간 히스토그램)을 모아두는 레지스트리
+ * 메트릭 객체는 클래스 초기화 시점에 한 번 조회해 static 필드로 들고 쓰는 것을 권장함
+ * -> 기록 경로에서는 맵 조회 없이 LongAdder 증가만 일어남
+ */
+
+package server.metrics;
+
+import common.metrics.LatencyHistogram;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+public class MetricsRegistry {
+    private static volatile MetricsRegistry instance;
+
+    private final Map<String, MetricFamily<?>> families = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    // 리더보드 매니저와 동일하게 프로세스 전역에서 하나만 사용
+    public static MetricsRegistry getInstance() {
+        if (instance == null) {
+            synchronized (MetricsRegistry.class) {
+                if (instance == null) {
+                    instance = new MetricsRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public Counter counter(String name, String help) {
+        return counterFamily(name, help, null).get();
+    }
+
+    public MetricFamily<Counter> counterFamily(String name, String help, String labelName) {
+        return family(name, help, "counter", labelName, Counter::new);
+    }
+
+    public LatencyHistogram histogram(String name, String help) {
+        return histogramFamily(name, help, null).get();
+    }
+
+    public MetricFamily<LatencyHistogram> histogramFamily(String name, String help, String labelName) {
+        return family(name, help, "summary", labelName, LatencyHistogram::new);
+    }
+
+    // 같은 이름으로 다시 등록하면 공급자를 교체함 (예: 서버 재시작 후 새 인스턴스의 상태를 가리키도록)
+    public void gauge(String name, String help, DoubleSupplier supplier) {
+        gauge(name, help, null, MetricFamily.NO_LABEL, supplier);
+    }
+
+    public void gauge(String name, String help, String labelName, String labelValue, DoubleSupplier supplier) {
+        MetricFamily<Gauge> family = family(name, help, "gauge", labelName, () -> new Gauge(() -> Double.NaN));
+        family.put(labelValue, new Gauge(supplier));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> MetricFamily<T> family(String name, String help, String type, String labelName,
+                                       Supplier<T> factory) {
+        MetricFamily<?> family = families.computeIfAbsent(name,
+                k -> new MetricFamily<>(name, help, type, labelName, factory));
+        if (!family.getType().equals(type)) {
+            throw new IllegalArgumentException("메트릭 타입이 일치하지 않습니다: " + name);
+        }
+        return (MetricFamily<T>) family;
+    }
+
+    public Collection<MetricFamily<?>> getFamilies() {
+        return Collections.unmodifiableCollection(families.values());
+    }
+}
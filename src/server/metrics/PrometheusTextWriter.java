@@ -0,0 +1,102 @@
+/*
+ * server.metrics.PrometheusTextWriter.java
+ * 메트릭 레지스트리를 Prometheus 텍스트 포맷(0.0.4)으로 직렬화하는 클래스
+ * - 카운터/게이지는 값 그대로, 히스토그램은 summary(quantile + _sum + _count)로 출력
+ * - 히스토그램 내부 단위는 나노초이므로 출력 시 초 단위로 변환
+ */
+
+package server.metrics;
+
+import common.metrics.LatencyHistogram;
+
+import java.util.Map;
+
+public class PrometheusTextWriter {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final StringBuilder out;
+
+    public PrometheusTextWriter(StringBuilder out) {
+        this.out = out;
+    }
+
+    public void writeRegistry(MetricsRegistry registry) {
+        for (MetricFamily<?> family : registry.getFamilies()) {
+            writeFamily(family);
+        }
+    }
+
+    private void writeFamily(MetricFamily<?> family) {
+        writeHeader(family.getName(), family.getHelp(), family.getType());
+        for (Map.Entry<String, ?> child : family.getChildren().entrySet()) {
+            String labelValue = child.getKey();
+            Object metric = child.getValue();
+            if (metric instanceof Counter counter) {
+                writeSample(family.getName(), family.getLabelName(), labelValue, null, counter.get());
+            } else if (metric instanceof Gauge gauge) {
+                writeSample(family.getName(), family.getLabelName(), labelValue, null, gauge.get());
+            } else if (metric instanceof LatencyHistogram histogram) {
+                writeSummary(family.getName(), family.getLabelName(), labelValue, histogram.snapshot());
+            }
+        }
+    }
+
+    private void writeSummary(String name, String labelName, String labelValue, LatencyHistogram.Snapshot snapshot) {
+        for (double quantile : QUANTILES) {
+            writeSample(name, labelName, labelValue, Double.toString(quantile),
+                    snapshot.getValueAtQuantile(quantile) / NANOS_PER_SECOND);
+        }
+        writeSample(name + "_sum", labelName, labelValue, null, snapshot.getSumNanos() / NANOS_PER_SECOND);
+        writeSample(name + "_count", labelName, labelValue, null, snapshot.getCount());
+    }
+
+    public void writeHeader(String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(escapeHelp(help)).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    public void writeSample(String name, String labelName, String labelValue, double value) {
+        writeSample(name, labelName, labelValue, null, value);
+    }
+
+    private void writeSample(String name, String labelName, String labelValue, String quantile, double value) {
+        out.append(name);
+        boolean hasLabel = labelName != null && labelValue != null && !labelValue.isEmpty();
+        if (hasLabel || quantile != null) {
+            out.append('{');
+            if (hasLabel) {
+                out.append(labelName).append("=\"").append(escapeLabel(labelValue)).append('"');
+            }
+            if (quantile != null) {
+                if (hasLabel) {
+                    out.append(',');
+                }
+                out.append("quantile=\"").append(quantile).append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            out.append((long) value);
+        } else if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    // 다른 writer로 미리 만들어 둔 샘플 줄을 그대로 이어 붙일 때 사용
+    public void append(CharSequence samples) {
+        out.append(samples);
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeHelp(String value) {
+        return value.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}